@@ -0,0 +1,116 @@
+package com.example.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 작업 종류별 전용 스레드 풀
+ * - 오래 걸리는 크롤링이 실시간 점수 갱신/예측 판정을 막지 않도록 분리
+ * - 알림 저장/전송은 NotificationWriter 전용 스레드에서 처리
+ *
+ * 스케줄러 (@Scheduled(scheduler = ...) 로 지정)
+ * - taskScheduler(SchedulingConfig)와 같이 spring.threads.virtual.enabled 이면 가상 스레드로 실행
+ *   (풀 크기만큼만 동시에 실행되므로 리그별 브라우저/DB 연결 사용량은 그대로 제한됨)
+ * - liveScheduler: 리그별 실시간 점수 갱신, 경기 시작 확인
+ * - judgingScheduler: 예측 자동 판정
+ * - newsScheduler: 뉴스 수집/정리
+ *
+ * 실행기 (대기열 크기 제한, 초과 시 거부)
+ * - crawlExecutor: 관리자 전체 시즌 크롤링 요청 (실제 크롤링은 ScheduleCrawlOrchestrator 의 브라우저 작업자가 수행)
+ * - crawlBrowserExecutor: 브라우저 작업자 (app.crawl.browsers 개, 동시에 실행되는 크롤링 요청이 함께 사용)
+ * - liveUpdateExecutor: 관리자 실시간 점수 수동 갱신
+ *
+ * 메트릭: executor.active, executor.queued 등 (Spring Boot 자동 등록),
+ * executor.task.duration, executor.rejected (name 태그로 구분)
+ */
+@Configuration
+public class ExecutorConfig {
+
+    // ========== 스케줄러 ==========
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean
+    public ThreadPoolTaskScheduler liveScheduler() {
+        return scheduler("live-", 4, virtualThreads);
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler judgingScheduler() {
+        return scheduler("judging-", 1, virtualThreads);
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler newsScheduler() {
+        return scheduler("news-", 1, virtualThreads);
+    }
+
+    // ========== 실행기 ==========
+
+    @Bean
+    public ThreadPoolTaskExecutor crawlExecutor(MeterRegistry meterRegistry) {
+        // 동시에 2개 요청까지만 실행 (브라우저는 crawlBrowserExecutor 에서 함께 사용)
+        return executor(meterRegistry, "crawl", 1, 2, 7, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor crawlBrowserExecutor(MeterRegistry meterRegistry,
+                                                       @Value("${app.crawl.browsers:3}") int browsers) {
+        // 작업자 스레드 하나가 브라우저 하나를 띄우므로 요청이 겹쳐도 전체 브라우저 수는 browsers 개 이하
+        // 대기열은 동시에 실행되는 두 번째 요청의 작업자 몫
+        int size = Math.max(1, browsers);
+        return executor(meterRegistry, "crawlBrowser", size, size, size, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor liveUpdateExecutor(MeterRegistry meterRegistry) {
+        return executor(meterRegistry, "liveUpdate", 2, 2, 14, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    private static ThreadPoolTaskScheduler scheduler(String threadNamePrefix, int poolSize, boolean virtualThreads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setVirtualThreads(virtualThreads);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+
+    private static ThreadPoolTaskExecutor executor(MeterRegistry meterRegistry, String name,
+                                                   int corePoolSize, int maxPoolSize, int queueCapacity,
+                                                   RejectedExecutionHandler rejectionPolicy) {
+        Timer taskTimer = Timer.builder("executor.task.duration")
+                .tag("name", name)
+                .register(meterRegistry);
+        Counter rejectedCounter = Counter.builder("executor.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(name + "-");
+        executor.setTaskDecorator(task -> () -> taskTimer.record(task));
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejectedCounter.increment();
+            rejectionPolicy.rejectedExecution(task, pool);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * matches 중복 경기 정리 (uk_matches_league_teams_day 추가 전 1회)
+ * - 경기 키를 (리그, 홈팀, 원정팀, 날짜) 로 바꾸면서 예전에 시각만 달라 따로 저장된 경기를 하나로 합침
+ * - 남길 경기: FINISHED > LIVE > 나머지, 같으면 match_id 가 작은 것
+ * - 지워질 경기의 예측/채팅방/채팅은 남길 경기로 옮김 (같은 사용자 예측이 양쪽에 있으면 남길 경기 것만 유지)
+ * - JPA(ddl-auto=update) 가 제약을 추가하기 전에 실행되도록 EntityManagerFactory 가 이 빈에 의존
+ * - 제약이 이미 있거나 테이블이 없으면 (새 DB) 아무것도 하지 않음
+ */
+@Slf4j
+@Configuration
+public class MatchDuplicateCleanup {
+
+    private static final String BEAN_NAME = "matchDuplicateCleanupRunner";
+    private static final String UNIQUE_KEY = "uk_matches_league_teams_day";
+
+    private static final String DUPLICATES_SQL =
+            "SELECT m.match_id, m.league_id, m.home_team_id, m.away_team_id, DATE(m.match_date) AS match_day " +
+            "FROM matches m JOIN (" +
+            "  SELECT league_id, home_team_id, away_team_id, DATE(match_date) AS match_day FROM matches " +
+            "  GROUP BY league_id, home_team_id, away_team_id, DATE(match_date) HAVING COUNT(*) > 1" +
+            ") d ON d.league_id = m.league_id AND d.home_team_id = m.home_team_id " +
+            "AND d.away_team_id = m.away_team_id AND d.match_day = DATE(m.match_date) " +
+            "ORDER BY m.league_id, m.home_team_id, m.away_team_id, match_day, " +
+            "CASE m.status WHEN 'FINISHED' THEN 0 WHEN 'LIVE' THEN 1 ELSE 2 END, m.match_id";
+
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor matchDuplicateCleanupDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor(BEAN_NAME);
+    }
+
+    @Bean(name = BEAN_NAME, initMethod = "run")
+    public Runner matchDuplicateCleanupRunner(DataSource dataSource) {
+        return new Runner(new JdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    /**
+     * 빈 초기화 시 정리 실행 (실패해도 서버는 시작, 제약 추가만 실패)
+     */
+    public static class Runner {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate transactionTemplate;
+
+        Runner(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.transactionTemplate = transactionTemplate;
+        }
+
+        public void run() {
+            try {
+                if (!tableExists("matches") || indexExists(UNIQUE_KEY)) {
+                    return;
+                }
+
+                Map<String, List<Long>> groups = new LinkedHashMap<>();
+                jdbcTemplate.query(DUPLICATES_SQL, rs -> {
+                    String key = rs.getLong("league_id") + ":" + rs.getLong("home_team_id") + ":" +
+                            rs.getLong("away_team_id") + ":" + rs.getDate("match_day");
+                    groups.computeIfAbsent(key, k -> new ArrayList<>()).add(rs.getLong("match_id"));
+                });
+
+                int removed = 0;
+                for (List<Long> matchIds : groups.values()) {
+                    Long keeper = matchIds.get(0);
+                    for (Long duplicate : matchIds.subList(1, matchIds.size())) {
+                        transactionTemplate.executeWithoutResult(status -> merge(keeper, duplicate));
+                        removed++;
+                    }
+                }
+                if (removed > 0) {
+                    log.info("중복 경기 정리 완료 - {}개 그룹, {}개 경기 병합", groups.size(), removed);
+                }
+            } catch (Exception e) {
+                log.error("중복 경기 정리 실패 - {} 제약이 추가되지 않을 수 있음: {}", UNIQUE_KEY, e.getMessage(), e);
+            }
+        }
+
+        /**
+         * duplicate 경기의 참조를 keeper 로 옮기고 삭제
+         */
+        private void merge(Long keeper, Long duplicate) {
+            // 예측: 같은 사용자 예측이 keeper 에 있으면 duplicate 쪽 삭제 (추천/비추천 포함), 나머지는 이동
+            String duplicatedUserPredictions =
+                    "SELECT prediction_id FROM (SELECT p.prediction_id FROM predictions p " +
+                    "WHERE p.match_id = ? AND p.user_id IN (SELECT k.user_id FROM predictions k WHERE k.match_id = ?)) t";
+            jdbcTemplate.update("DELETE FROM prediction_votes WHERE prediction_id IN (" + duplicatedUserPredictions + ")",
+                    duplicate, keeper);
+            jdbcTemplate.update("DELETE FROM predictions WHERE prediction_id IN (" + duplicatedUserPredictions + ")",
+                    duplicate, keeper);
+            jdbcTemplate.update("UPDATE predictions SET match_id = ? WHERE match_id = ?", keeper, duplicate);
+
+            // 예측 통계: duplicate 쪽은 지우고 keeper 통계를 예측에서 다시 계산
+            jdbcTemplate.update("DELETE FROM prediction_statistics WHERE match_id = ?", duplicate);
+            jdbcTemplate.update(
+                    "UPDATE prediction_statistics s SET " +
+                    "home_votes = (SELECT COUNT(*) FROM predictions p WHERE p.match_id = s.match_id AND p.predicted_result = 'HOME'), " +
+                    "draw_votes = (SELECT COUNT(*) FROM predictions p WHERE p.match_id = s.match_id AND p.predicted_result = 'DRAW'), " +
+                    "away_votes = (SELECT COUNT(*) FROM predictions p WHERE p.match_id = s.match_id AND p.predicted_result = 'AWAY'), " +
+                    "total_votes = (SELECT COUNT(*) FROM predictions p WHERE p.match_id = s.match_id) " +
+                    "WHERE s.match_id = ?", keeper);
+
+            // 채팅방: keeper 에 없으면 그대로 옮기고, 있으면 메시지만 옮긴 뒤 삭제
+            List<Long> keeperRooms = jdbcTemplate.queryForList(
+                    "SELECT chatroom_id FROM chatrooms WHERE match_id = ?", Long.class, keeper);
+            if (keeperRooms.isEmpty()) {
+                jdbcTemplate.update("UPDATE chatrooms SET match_id = ? WHERE match_id = ?", keeper, duplicate);
+            } else {
+                jdbcTemplate.update(
+                        "UPDATE chat_messages SET chatroom_id = ? WHERE chatroom_id IN " +
+                        "(SELECT chatroom_id FROM chatrooms WHERE match_id = ?)", keeperRooms.get(0), duplicate);
+                jdbcTemplate.update("DELETE FROM chatrooms WHERE match_id = ?", duplicate);
+            }
+
+            jdbcTemplate.update("DELETE FROM matches WHERE match_id = ?", duplicate);
+        }
+
+        private boolean tableExists(String table) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+                    Integer.class, table);
+            return count != null && count > 0;
+        }
+
+        private boolean indexExists(String index) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'matches' AND index_name = ?",
+                    Integer.class, index);
+            return count != null && count > 0;
+        }
+    }
+}
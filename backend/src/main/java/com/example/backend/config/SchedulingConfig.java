@@ -0,0 +1,30 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업용 스케줄러 설정
+ * - 가상 스레드로 실행하므로 크롤링/HTTP/JDBC 대기 중에도 OS 스레드를 점유하지 않음
+ * - 풀 크기만큼 작업이 동시에 실행되어 오래 걸리는 작업이 다른 작업을 막지 않음
+ * - 실시간 갱신/예측 판정/뉴스 작업은 ExecutorConfig 의 전용 스케줄러에서 실행
+ * - WebSocket 브로커 스케줄러(messageBrokerTaskScheduler)와 분리하기 위해 이름을 taskScheduler 로 등록
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(
+            @Value("${app.scheduling.pool-size:32}") int poolSize,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setVirtualThreads(virtualThreads);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.backend.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 외부 HTTP 호출용 WebClient (뉴스 API, 기사 페이지)
+ * - 연결 풀 공유: 전체 최대 연결 수와 유휴 연결 정리 시간 제한
+ * - 연결/응답 타임아웃, 리다이렉트 추적, 응답 본문 메모리 상한
+ */
+@Configuration
+public class WebClientConfig {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider newsConnectionProvider(@Value("${app.news.http.max-connections:16}") int maxConnections) {
+        return ConnectionProvider.builder("news")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofSeconds(10))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .build();
+    }
+
+    @Bean
+    public WebClient newsWebClient(WebClient.Builder builder,
+                                   ConnectionProvider newsConnectionProvider,
+                                   @Value("${app.news.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+                                   @Value("${app.news.http.response-timeout-ms:5000}") long responseTimeoutMs) {
+        HttpClient httpClient = HttpClient.create(newsConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .followRedirect(true)
+                .compress(true);
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.USER_AGENT, USER_AGENT)
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(2 * 1024 * 1024))
+                .build();
+    }
+}
@@ -1,29 +1,132 @@
 package com.example.backend.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
+
+import java.security.Principal;
+import java.util.Map;
 
 /**
  * WebSocket 설정 클래스
  * STOMP over WebSocket을 사용한 실시간 채팅 구현
+ *
+ * 브로커 모드 (app.websocket.broker.mode)
+ * - simple: 인메모리 브로커 (단일 인스턴스, 기본값)
+ * - relay: 외부 STOMP 브로커(RabbitMQ/ActiveMQ)로 중계
+ *          모든 인스턴스가 같은 브로커를 구독하므로 다른 인스턴스에 접속한 구독자에게도 메시지 전달
+ *          (BrokerRelayIntegrationTest 로 서버 발행과 클라이언트 SEND 의 두 인스턴스 간 전달 확인)
+ *          스티키 세션(또는 공유 세션 저장소)은 여전히 필요
+ *          - 로그인은 인스턴스 메모리의 HttpSession 이므로 핸드셰이크가 로그인한 인스턴스로 가야 userId 를 알 수 있음
+ *          - SockJS 폴백 전송(xhr-streaming, xhr-polling 등)은 한 세션의 HTTP 요청이 모두 같은 인스턴스로 가야 함
+ *          인스턴스별 메모리 상태
+ *          - ChatHistoryBuffer: 입장 시 최근 목록은 인스턴스별 (다른 인스턴스 메시지는 빠질 수 있음, 실시간 메시지는 모두 수신)
+ *          - ChatPresenceService: 인스턴스별 시청자 수를 DB에 delta 로 합산하고 5초마다 합계를 조회/전송
+ *          - NotificationPushService: 읽지 않은 알림 개수를 캐시하지 않고 DB 조회
+ *          - UserBlockCache, NotificationSettingsCache: 변경한 인스턴스만 즉시 무효화, 다른 인스턴스는 ttl 후 반영
+ *          - PostPageCache: 인스턴스별 게시판 페이지 캐시 (다른 인스턴스의 글 변경은 ttl 후 반영)
+ *          - PopularNewsService: 인스턴스별 인기 뉴스 랭킹 (다른 인스턴스의 조회/좋아요는 5분마다 재동기화 때 반영)
+ *          - TrendingPostService: 인스턴스별 트렌딩 랭킹 (이 인스턴스에서 발생한 이벤트만 반영)
+ *
+ * 로그인 사용자는 userId 를 Principal 이름으로 사용하므로 /user/{userId}/queue/** 로 개인 메시지 전송 가능
+ * 클라이언트 SEND 는 /app/** 만 허용 (브로커 목적지로 직접 보내 다른 사용자에게 메시지를 위조하지 못하도록)
  */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String APPLICATION_PREFIX = "/app";
+
+    @Value("${frontend.url:http://localhost:5173}")
+    private String frontendUrl;
+
+    @Value("${app.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${app.websocket.broker.relay-host:localhost}")
+    private String relayHost;
+
+    @Value("${app.websocket.broker.relay-port:61613}")
+    private int relayPort;
+
+    @Value("${app.websocket.broker.login:guest}")
+    private String relayLogin;
+
+    @Value("${app.websocket.broker.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${app.websocket.broker.virtual-host:/}")
+    private String relayVirtualHost;
+
+    @Value("${app.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${app.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
     /**
      * 메시지 브로커 설정
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트로 메시지를 보낼 때 사용할 prefix
-        config.enableSimpleBroker("/topic");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            log.info("STOMP 브로커 릴레이 사용 - {}:{}", relayHost, relayPort);
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setVirtualHost(relayVirtualHost)
+                    // /user 목적지를 다른 인스턴스에 접속한 사용자에게도 전달
+                    .setUserDestinationBroadcast("/topic/unresolved-user")
+                    .setUserRegistryBroadcast("/topic/user-registry");
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+        }
 
         // 클라이언트가 서버로 메시지를 보낼 때 사용할 prefix
-        config.setApplicationDestinationPrefixes("/app");
+        config.setApplicationDestinationPrefixes(APPLICATION_PREFIX);
+    }
+
+    /**
+     * 클라이언트 → 서버 채널 설정
+     * /user, /queue, /topic 등 브로커 목적지로의 SEND 는 거부
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new ApplicationDestinationOnlyInterceptor());
+    }
+
+    /**
+     * 세션별 전송 버퍼 설정
+     * 느린 클라이언트가 전송 시간 또는 버퍼 크기 제한을 넘기면 해당 세션 연결 종료
+     * (다른 구독자에게 보내는 outbound 채널이 밀리지 않도록)
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit);
     }
 
     /**
@@ -32,7 +135,48 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
-                .setAllowedOriginPatterns("*")  // CORS 설정
+                .setAllowedOriginPatterns(frontendUrl.split("\\s*,\\s*"))  // 프론트엔드 주소만 허용 (쉼표로 여러 개 지정)
+                .addInterceptors(new HttpSessionHandshakeInterceptor())  // HTTP 세션 속성(userId)을 WebSocket 세션으로 복사
+                .setHandshakeHandler(new UserIdHandshakeHandler())  // userId 를 Principal 로 사용 (/user 목적지)
                 .withSockJS();  // SockJS 폴백 옵션 활성화
     }
+
+    /**
+     * 핸드셰이크 때 복사된 세션 속성 userId 를 WebSocket 세션의 Principal 이름으로 사용
+     * (비로그인 연결은 Principal 없음)
+     */
+    private static class UserIdHandshakeHandler extends DefaultHandshakeHandler {
+
+        @Override
+        protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler,
+                                          Map<String, Object> attributes) {
+            if (attributes.get("userId") instanceof Long userId) {
+                String name = String.valueOf(userId);
+                return () -> name;
+            }
+            return super.determineUser(request, wsHandler, attributes);
+        }
+    }
+
+    /**
+     * 클라이언트 SEND 목적지가 /app/** 가 아니면 거부 (클라이언트에는 ERROR 프레임 전달)
+     */
+    private static class ApplicationDestinationOnlyInterceptor implements ChannelInterceptor {
+
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+            if (accessor == null || accessor.getCommand() != StompCommand.SEND) {
+                return message;
+            }
+
+            String destination = accessor.getDestination();
+            if (destination == null || !destination.startsWith(APPLICATION_PREFIX + "/")) {
+                log.warn("허용되지 않은 SEND 목적지 거부 - session: {}, destination: {}",
+                        accessor.getSessionId(), destination);
+                throw new MessageDeliveryException(message, "허용되지 않은 목적지: " + destination);
+            }
+            return message;
+        }
+    }
 }
@@ -1,12 +1,5 @@
 package com.example.backend.controller;
 
-import com.example.backend.scheduler.EplScheduleCrawler;
-import com.example.backend.scheduler.NbaScheduleCrawler;
-import com.example.backend.scheduler.BundesligaScheduleCrawler;
-import com.example.backend.scheduler.LaLigaScheduleCrawler;
-import com.example.backend.scheduler.SerieAScheduleCrawler;
-import com.example.backend.scheduler.Ligue1ScheduleCrawler;
-import com.example.backend.scheduler.KblScheduleCrawler;
 import com.example.backend.scheduler.EplLiveScoreUpdater;
 import com.example.backend.scheduler.NbaLiveScoreUpdater;
 import com.example.backend.scheduler.BundesligaLiveScoreUpdater;
@@ -14,13 +7,20 @@ import com.example.backend.scheduler.LaLigaLiveScoreUpdater;
 import com.example.backend.scheduler.SerieALiveScoreUpdater;
 import com.example.backend.scheduler.Ligue1LiveScoreUpdater;
 import com.example.backend.scheduler.KblLiveScoreUpdater;
+import com.example.backend.scheduler.JobGuard;
+import com.example.backend.scheduler.ScheduleCrawlOrchestrator;
+import com.example.backend.scheduler.TeamNameResolver;
 import com.example.backend.repository.LeagueRepository;
+import com.example.backend.repository.TeamAliasRepository;
 import com.example.backend.repository.TeamRepository;
 import com.example.backend.entity.League;
 import com.example.backend.entity.Team;
+import com.example.backend.entity.TeamAlias;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -38,13 +38,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AdminController {
 
-    private final EplScheduleCrawler eplScheduleCrawler;
-    private final NbaScheduleCrawler nbaScheduleCrawler;
-    private final BundesligaScheduleCrawler bundesligaScheduleCrawler;
-    private final LaLigaScheduleCrawler laLigaScheduleCrawler;
-    private final SerieAScheduleCrawler serieAScheduleCrawler;
-    private final Ligue1ScheduleCrawler ligue1ScheduleCrawler;
-    private final KblScheduleCrawler kblScheduleCrawler;
+    // League ID 순서: EPL(1) → NBA(2) → Bundesliga(6) → La Liga(7) → Serie A(8) → Ligue 1(9) → KBL(10)
+    private static final List<String> ALL_LEAGUES =
+            List.of("EPL", "NBA", "BUNDESLIGA", "LALIGA", "SERIEA", "LIGUE1", "KBL");
+
     private final EplLiveScoreUpdater eplLiveScoreUpdater;
     private final NbaLiveScoreUpdater nbaLiveScoreUpdater;
     private final BundesligaLiveScoreUpdater bundesligaLiveScoreUpdater;
@@ -54,28 +51,28 @@ public class AdminController {
     private final KblLiveScoreUpdater kblLiveScoreUpdater;
     private final LeagueRepository leagueRepository;
     private final TeamRepository teamRepository;
+    private final TeamAliasRepository teamAliasRepository;
+    private final TeamNameResolver teamNameResolver;
+    private final JobGuard jobGuard;
+    private final ScheduleCrawlOrchestrator scheduleCrawlOrchestrator;
+    private final ThreadPoolTaskExecutor liveUpdateExecutor;
 
     /**
      * EPL 전체 시즌 크롤링 수동 실행
      * GET /api/admin/crawl/epl
      */
     @PostMapping("/crawl/epl")
-    public ResponseEntity<Map<String, Object>> crawlEplSchedule() {
+    public ResponseEntity<Map<String, Object>> crawlEplSchedule(@RequestParam(defaultValue = "false") boolean full) {
         log.info("=== EPL 크롤링 수동 실행 요청 ===");
 
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 크롤링 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
-                try {
-                    log.info("EPL 크롤링 시작...");
-                    eplScheduleCrawler.crawlFullSeason();
-                    log.info("EPL 크롤링 완료!");
-                } catch (Exception e) {
-                    log.error("EPL 크롤링 실행 중 오류 발생", e);
-                }
-            }).start();
+            // 크롤링 실행 (리그·월 단위 병렬 크롤링, 같은 리그 중복 실행 방지)
+            JobGuard.SubmitResult result = scheduleCrawlOrchestrator.submit(List.of("EPL"), full);
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "EPL 크롤링");
+            }
 
             response.put("success", true);
             response.put("message", "EPL 크롤링이 시작되었습니다. 완료까지 수 분이 소요될 수 있습니다.");
@@ -95,22 +92,17 @@ public class AdminController {
      * POST /api/admin/crawl/nba
      */
     @PostMapping("/crawl/nba")
-    public ResponseEntity<Map<String, Object>> crawlNbaSchedule() {
+    public ResponseEntity<Map<String, Object>> crawlNbaSchedule(@RequestParam(defaultValue = "false") boolean full) {
         log.info("=== NBA 크롤링 수동 실행 요청 ===");
 
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 크롤링 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
-                try {
-                    log.info("NBA 크롤링 시작...");
-                    nbaScheduleCrawler.crawlFullSeason();
-                    log.info("NBA 크롤링 완료!");
-                } catch (Exception e) {
-                    log.error("NBA 크롤링 실행 중 오류 발생", e);
-                }
-            }).start();
+            // 크롤링 실행 (리그·월 단위 병렬 크롤링, 같은 리그 중복 실행 방지)
+            JobGuard.SubmitResult result = scheduleCrawlOrchestrator.submit(List.of("NBA"), full);
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "NBA 크롤링");
+            }
 
             response.put("success", true);
             response.put("message", "NBA 크롤링이 시작되었습니다. 완료까지 수 분이 소요될 수 있습니다.");
@@ -130,22 +122,17 @@ public class AdminController {
      * POST /api/admin/crawl/bundesliga
      */
     @PostMapping("/crawl/bundesliga")
-    public ResponseEntity<Map<String, Object>> crawlBundesligaSchedule() {
+    public ResponseEntity<Map<String, Object>> crawlBundesligaSchedule(@RequestParam(defaultValue = "false") boolean full) {
         log.info("=== 분데스리가 크롤링 수동 실행 요청 ===");
 
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 크롤링 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
-                try {
-                    log.info("분데스리가 크롤링 시작...");
-                    bundesligaScheduleCrawler.crawlFullSeason();
-                    log.info("분데스리가 크롤링 완료!");
-                } catch (Exception e) {
-                    log.error("분데스리가 크롤링 실행 중 오류 발생", e);
-                }
-            }).start();
+            // 크롤링 실행 (리그·월 단위 병렬 크롤링, 같은 리그 중복 실행 방지)
+            JobGuard.SubmitResult result = scheduleCrawlOrchestrator.submit(List.of("BUNDESLIGA"), full);
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "분데스리가 크롤링");
+            }
 
             response.put("success", true);
             response.put("message", "분데스리가 크롤링이 시작되었습니다. 완료까지 수 분이 소요될 수 있습니다.");
@@ -165,22 +152,17 @@ public class AdminController {
      * POST /api/admin/crawl/laliga
      */
     @PostMapping("/crawl/laliga")
-    public ResponseEntity<Map<String, Object>> crawlLaLigaSchedule() {
+    public ResponseEntity<Map<String, Object>> crawlLaLigaSchedule(@RequestParam(defaultValue = "false") boolean full) {
         log.info("=== 라리가 크롤링 수동 실행 요청 ===");
 
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 크롤링 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
-                try {
-                    log.info("라리가 크롤링 시작...");
-                    laLigaScheduleCrawler.crawlFullSeason();
-                    log.info("라리가 크롤링 완료!");
-                } catch (Exception e) {
-                    log.error("라리가 크롤링 실행 중 오류 발생", e);
-                }
-            }).start();
+            // 크롤링 실행 (리그·월 단위 병렬 크롤링, 같은 리그 중복 실행 방지)
+            JobGuard.SubmitResult result = scheduleCrawlOrchestrator.submit(List.of("LALIGA"), full);
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "라리가 크롤링");
+            }
 
             response.put("success", true);
             response.put("message", "라리가 크롤링이 시작되었습니다. 완료까지 수 분이 소요될 수 있습니다.");
@@ -200,22 +182,17 @@ public class AdminController {
      * POST /api/admin/crawl/seriea
      */
     @PostMapping("/crawl/seriea")
-    public ResponseEntity<Map<String, Object>> crawlSerieASchedule() {
+    public ResponseEntity<Map<String, Object>> crawlSerieASchedule(@RequestParam(defaultValue = "false") boolean full) {
         log.info("=== 세리에 A 크롤링 수동 실행 요청 ===");
 
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 크롤링 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
-                try {
-                    log.info("세리에 A 크롤링 시작...");
-                    serieAScheduleCrawler.crawlFullSeason();
-                    log.info("세리에 A 크롤링 완료!");
-                } catch (Exception e) {
-                    log.error("세리에 A 크롤링 실행 중 오류 발생", e);
-                }
-            }).start();
+            // 크롤링 실행 (리그·월 단위 병렬 크롤링, 같은 리그 중복 실행 방지)
+            JobGuard.SubmitResult result = scheduleCrawlOrchestrator.submit(List.of("SERIEA"), full);
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "세리에 A 크롤링");
+            }
 
             response.put("success", true);
             response.put("message", "세리에 A 크롤링이 시작되었습니다. 완료까지 수 분이 소요될 수 있습니다.");
@@ -235,22 +212,17 @@ public class AdminController {
      * POST /api/admin/crawl/ligue1
      */
     @PostMapping("/crawl/ligue1")
-    public ResponseEntity<Map<String, Object>> crawlLigue1Schedule() {
+    public ResponseEntity<Map<String, Object>> crawlLigue1Schedule(@RequestParam(defaultValue = "false") boolean full) {
         log.info("=== 리그 1 크롤링 수동 실행 요청 ===");
 
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 크롤링 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
-                try {
-                    log.info("리그 1 크롤링 시작...");
-                    ligue1ScheduleCrawler.crawlFullSeason();
-                    log.info("리그 1 크롤링 완료!");
-                } catch (Exception e) {
-                    log.error("리그 1 크롤링 실행 중 오류 발생", e);
-                }
-            }).start();
+            // 크롤링 실행 (리그·월 단위 병렬 크롤링, 같은 리그 중복 실행 방지)
+            JobGuard.SubmitResult result = scheduleCrawlOrchestrator.submit(List.of("LIGUE1"), full);
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "리그 1 크롤링");
+            }
 
             response.put("success", true);
             response.put("message", "리그 1 크롤링이 시작되었습니다. 완료까지 수 분이 소요될 수 있습니다.");
@@ -270,22 +242,17 @@ public class AdminController {
      * POST /api/admin/crawl/kbl
      */
     @PostMapping("/crawl/kbl")
-    public ResponseEntity<Map<String, Object>> crawlKblSchedule() {
+    public ResponseEntity<Map<String, Object>> crawlKblSchedule(@RequestParam(defaultValue = "false") boolean full) {
         log.info("=== KBL 크롤링 수동 실행 요청 ===");
 
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 크롤링 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
-                try {
-                    log.info("KBL 크롤링 시작...");
-                    kblScheduleCrawler.crawlFullSeason();
-                    log.info("KBL 크롤링 완료!");
-                } catch (Exception e) {
-                    log.error("KBL 크롤링 실행 중 오류 발생", e);
-                }
-            }).start();
+            // 크롤링 실행 (리그·월 단위 병렬 크롤링, 같은 리그 중복 실행 방지)
+            JobGuard.SubmitResult result = scheduleCrawlOrchestrator.submit(List.of("KBL"), full);
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "KBL 크롤링");
+            }
 
             response.put("success", true);
             response.put("message", "KBL 크롤링이 시작되었습니다. 완료까지 수 분이 소요될 수 있습니다.");
@@ -301,61 +268,25 @@ public class AdminController {
     }
 
     /**
-     * 모든 리그 일정 크롤링 (순차 실행)
+     * 모든 리그 일정 크롤링 (리그·월 단위 병렬 실행)
      * POST /api/admin/crawl/all-leagues
-     * League ID 순서: EPL(1) → NBA(2) → Bundesliga(6) → La Liga(7) → Serie A(8) → Ligue 1(9) → KBL(10)
+     * ?full=true 이면 시즌 전체 월을 다시 크롤링 (기본: 최근 월 + 바뀐 월만 반영)
      */
     @PostMapping("/crawl/all-leagues")
-    public ResponseEntity<Map<String, Object>> crawlAllLeagues() {
+    public ResponseEntity<Map<String, Object>> crawlAllLeagues(@RequestParam(defaultValue = "false") boolean full) {
         log.info("=== 전체 리그 크롤링 수동 실행 요청 ===");
 
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 크롤링 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
-                try {
-                    log.info("🌍 ========== 전체 리그 크롤링 시작 ==========");
-
-                    // League ID 순서대로 실행: 1 → 2 → 6 → 7 → 8 → 9 → 10
-
-                    log.info("1️⃣ EPL 크롤링 시작 (league_id=1)");
-                    eplScheduleCrawler.crawlFullSeason();
-                    log.info("✅ EPL 크롤링 완료");
-
-                    log.info("2️⃣ NBA 크롤링 시작 (league_id=2)");
-                    nbaScheduleCrawler.crawlFullSeason();
-                    log.info("✅ NBA 크롤링 완료");
-
-                    log.info("6️⃣ Bundesliga 크롤링 시작 (league_id=6)");
-                    bundesligaScheduleCrawler.crawlFullSeason();
-                    log.info("✅ Bundesliga 크롤링 완료");
-
-                    log.info("7️⃣ La Liga 크롤링 시작 (league_id=7)");
-                    laLigaScheduleCrawler.crawlFullSeason();
-                    log.info("✅ La Liga 크롤링 완료");
-
-                    log.info("8️⃣ Serie A 크롤링 시작 (league_id=8)");
-                    serieAScheduleCrawler.crawlFullSeason();
-                    log.info("✅ Serie A 크롤링 완료");
-
-                    log.info("9️⃣ Ligue 1 크롤링 시작 (league_id=9)");
-                    ligue1ScheduleCrawler.crawlFullSeason();
-                    log.info("✅ Ligue 1 크롤링 완료");
-
-                    log.info("🔟 KBL 크롤링 시작 (league_id=10)");
-                    kblScheduleCrawler.crawlFullSeason();
-                    log.info("✅ KBL 크롤링 완료");
-
-                    log.info("🎉 ========== 전체 리그 크롤링 완료 ==========");
-
-                } catch (Exception e) {
-                    log.error("❌ 전체 리그 크롤링 실행 중 오류 발생", e);
-                }
-            }).start();
+            // 크롤링 실행 (리그·월 단위 병렬 크롤링, 이미 크롤링 중인 리그는 제외)
+            JobGuard.SubmitResult result = scheduleCrawlOrchestrator.submit(ALL_LEAGUES, full);
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "전체 리그 크롤링");
+            }
 
             response.put("success", true);
-            response.put("message", "전체 리그 크롤링이 시작되었습니다. League ID 순서대로 순차 실행됩니다 (EPL→NBA→Bundesliga→La Liga→Serie A→Ligue 1→KBL). 완료까지 상당한 시간이 소요될 수 있습니다.");
+            response.put("message", "전체 리그 크롤링이 시작되었습니다. 리그·월 단위로 나누어 병렬 실행되며, 이미 크롤링 중인 리그는 제외됩니다. 완료까지 상당한 시간이 소요될 수 있습니다.");
             response.put("leagues", List.of("EPL(1)", "NBA(2)", "Bundesliga(6)", "La Liga(7)", "Serie A(8)", "Ligue 1(9)", "KBL(10)"));
 
             return ResponseEntity.ok(response);
@@ -567,6 +498,64 @@ public class AdminController {
         }
     }
 
+    /**
+     * 크롤링 중 찾지 못한 팀 이름 (리그 ID별, 유사 이름 후보 team_id 포함)
+     * GET /api/admin/teams/unresolved
+     */
+    @GetMapping("/teams/unresolved")
+    public ResponseEntity<Map<String, Object>> getUnresolvedTeamNames() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("unresolved", teamNameResolver.getUnresolvedNames());
+        response.put("suggestions", teamNameResolver.getSuggestions());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 팀 별칭 등록 후 팀 이름 색인 재구성
+     * POST /api/admin/teams/{teamId}/aliases
+     * Body: { "alias": "울브스" }
+     */
+    @PostMapping("/teams/{teamId}/aliases")
+    public ResponseEntity<Map<String, Object>> addTeamAlias(
+            @PathVariable Long teamId,
+            @RequestBody Map<String, String> request) {
+        Map<String, Object> response = new HashMap<>();
+
+        String alias = request.get("alias");
+        if (alias == null || alias.isBlank()) {
+            response.put("success", false);
+            response.put("message", "별칭을 입력해주세요.");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        Team team = teamRepository.findById(teamId).orElse(null);
+        if (team == null) {
+            response.put("success", false);
+            response.put("message", "팀을 찾을 수 없습니다.");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+
+        try {
+            TeamAlias teamAlias = new TeamAlias();
+            teamAlias.setTeam(team);
+            teamAlias.setAlias(alias.strip());
+            teamAliasRepository.save(teamAlias);
+            teamNameResolver.reload();
+
+            log.info("🏷️ 팀 별칭 등록: '{}' → {} ({})", alias.strip(), team.getTeamName(), teamId);
+            response.put("success", true);
+            response.put("message", "별칭이 등록되었습니다.");
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("팀 별칭 등록 실패", e);
+            response.put("success", false);
+            response.put("message", "별칭 등록 중 오류가 발생했습니다: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
     /**
      * EPL 실시간 점수 업데이트 수동 실행
      * POST /api/admin/live/epl
@@ -578,8 +567,8 @@ public class AdminController {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 실시간 업데이트 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
+            // 실시간 업데이트 실행 (실시간 갱신 전용 스레드 풀, 같은 리그 중복 실행 방지)
+            JobGuard.SubmitResult result = jobGuard.submit("live:EPL", liveUpdateExecutor, () -> {
                 try {
                     log.info("EPL 실시간 업데이트 시작...");
                     eplLiveScoreUpdater.updateLiveScores();
@@ -587,7 +576,10 @@ public class AdminController {
                 } catch (Exception e) {
                     log.error("EPL 실시간 업데이트 실행 중 오류 발생", e);
                 }
-            }).start();
+            });
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "EPL 실시간 점수 업데이트");
+            }
 
             response.put("success", true);
             response.put("message", "EPL 실시간 점수 업데이트가 시작되었습니다.");
@@ -613,8 +605,8 @@ public class AdminController {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 실시간 업데이트 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
+            // 실시간 업데이트 실행 (실시간 갱신 전용 스레드 풀, 같은 리그 중복 실행 방지)
+            JobGuard.SubmitResult result = jobGuard.submit("live:NBA", liveUpdateExecutor, () -> {
                 try {
                     log.info("NBA 실시간 업데이트 시작...");
                     nbaLiveScoreUpdater.updateLiveScores();
@@ -622,7 +614,10 @@ public class AdminController {
                 } catch (Exception e) {
                     log.error("NBA 실시간 업데이트 실행 중 오류 발생", e);
                 }
-            }).start();
+            });
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "NBA 실시간 점수 업데이트");
+            }
 
             response.put("success", true);
             response.put("message", "NBA 실시간 점수 업데이트가 시작되었습니다.");
@@ -648,8 +643,8 @@ public class AdminController {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 실시간 업데이트 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
+            // 실시간 업데이트 실행 (실시간 갱신 전용 스레드 풀, 같은 리그 중복 실행 방지)
+            JobGuard.SubmitResult result = jobGuard.submit("live:BUNDESLIGA", liveUpdateExecutor, () -> {
                 try {
                     log.info("분데스리가 실시간 업데이트 시작...");
                     bundesligaLiveScoreUpdater.updateLiveScores();
@@ -657,7 +652,10 @@ public class AdminController {
                 } catch (Exception e) {
                     log.error("분데스리가 실시간 업데이트 실행 중 오류 발생", e);
                 }
-            }).start();
+            });
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "분데스리가 실시간 점수 업데이트");
+            }
 
             response.put("success", true);
             response.put("message", "분데스리가 실시간 점수 업데이트가 시작되었습니다.");
@@ -683,8 +681,8 @@ public class AdminController {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 실시간 업데이트 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
+            // 실시간 업데이트 실행 (실시간 갱신 전용 스레드 풀, 같은 리그 중복 실행 방지)
+            JobGuard.SubmitResult result = jobGuard.submit("live:LALIGA", liveUpdateExecutor, () -> {
                 try {
                     log.info("라리가 실시간 업데이트 시작...");
                     laLigaLiveScoreUpdater.updateLiveScores();
@@ -692,7 +690,10 @@ public class AdminController {
                 } catch (Exception e) {
                     log.error("라리가 실시간 업데이트 실행 중 오류 발생", e);
                 }
-            }).start();
+            });
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "라리가 실시간 점수 업데이트");
+            }
 
             response.put("success", true);
             response.put("message", "라리가 실시간 점수 업데이트가 시작되었습니다.");
@@ -718,8 +719,8 @@ public class AdminController {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 실시간 업데이트 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
+            // 실시간 업데이트 실행 (실시간 갱신 전용 스레드 풀, 같은 리그 중복 실행 방지)
+            JobGuard.SubmitResult result = jobGuard.submit("live:SERIEA", liveUpdateExecutor, () -> {
                 try {
                     log.info("세리에 A 실시간 업데이트 시작...");
                     serieALiveScoreUpdater.updateLiveScores();
@@ -727,7 +728,10 @@ public class AdminController {
                 } catch (Exception e) {
                     log.error("세리에 A 실시간 업데이트 실행 중 오류 발생", e);
                 }
-            }).start();
+            });
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "세리에 A 실시간 점수 업데이트");
+            }
 
             response.put("success", true);
             response.put("message", "세리에 A 실시간 점수 업데이트가 시작되었습니다.");
@@ -753,8 +757,8 @@ public class AdminController {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 실시간 업데이트 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
+            // 실시간 업데이트 실행 (실시간 갱신 전용 스레드 풀, 같은 리그 중복 실행 방지)
+            JobGuard.SubmitResult result = jobGuard.submit("live:LIGUE1", liveUpdateExecutor, () -> {
                 try {
                     log.info("리그 1 실시간 업데이트 시작...");
                     ligue1LiveScoreUpdater.updateLiveScores();
@@ -762,7 +766,10 @@ public class AdminController {
                 } catch (Exception e) {
                     log.error("리그 1 실시간 업데이트 실행 중 오류 발생", e);
                 }
-            }).start();
+            });
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "리그 1 실시간 점수 업데이트");
+            }
 
             response.put("success", true);
             response.put("message", "리그 1 실시간 점수 업데이트가 시작되었습니다.");
@@ -788,8 +795,8 @@ public class AdminController {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            // 실시간 업데이트 실행 (별도 스레드에서 실행하여 API 응답 지연 방지)
-            new Thread(() -> {
+            // 실시간 업데이트 실행 (실시간 갱신 전용 스레드 풀, 같은 리그 중복 실행 방지)
+            JobGuard.SubmitResult result = jobGuard.submit("live:KBL", liveUpdateExecutor, () -> {
                 try {
                     log.info("KBL 실시간 업데이트 시작...");
                     kblLiveScoreUpdater.updateLiveScores();
@@ -797,7 +804,10 @@ public class AdminController {
                 } catch (Exception e) {
                     log.error("KBL 실시간 업데이트 실행 중 오류 발생", e);
                 }
-            }).start();
+            });
+            if (result != JobGuard.SubmitResult.SUBMITTED) {
+                return notSubmitted(result, "KBL 실시간 점수 업데이트");
+            }
 
             response.put("success", true);
             response.put("message", "KBL 실시간 점수 업데이트가 시작되었습니다.");
@@ -812,6 +822,20 @@ public class AdminController {
         }
     }
 
+    /**
+     * 작업이 실행되지 않았을 때 응답 (중복 실행 409, 대기열 초과 503)
+     */
+    private ResponseEntity<Map<String, Object>> notSubmitted(JobGuard.SubmitResult result, String jobName) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        if (result == JobGuard.SubmitResult.ALREADY_RUNNING) {
+            response.put("message", jobName + "이(가) 이미 실행 중입니다.");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+        response.put("message", "대기 중인 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     /**
      * 시스템 상태 확인
      * GET /api/admin/status
@@ -2,6 +2,9 @@ package com.example.backend.controller;
 
 import com.example.backend.entity.*;
 import com.example.backend.repository.*;
+import com.example.backend.service.ChatIdentityCache;
+import com.example.backend.service.PostPageCache;
+import com.example.backend.service.TrendingPostService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -30,6 +33,9 @@ public class AdminPageController {
     private final PredictionRepository predictionRepository;
     private final MatchRepository matchRepository;
     private final ReportRepository reportRepository;
+    private final PostPageCache postPageCache;
+    private final TrendingPostService trendingPostService;
+    private final ChatIdentityCache chatIdentityCache;
 
     // Repository에 추가 필요한 메서드들 (주석)
     // UserRepository: countByCreatedAtAfter(LocalDateTime date)
@@ -180,6 +186,7 @@ public class AdminPageController {
 
             user.setIsAdmin(!user.getIsAdmin());
             userRepository.save(user);
+            chatIdentityCache.evictUser(user);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -286,12 +293,22 @@ public class AdminPageController {
                     postRepository.findById(report.getTargetId()).ifPresent(post -> {
                         post.setIsBlinded(true);
                         postRepository.save(post);
+                        postPageCache.evictPost(post.getCategory().getCategoryName(), post.getIsPopular());
+                        trendingPostService.untrack(post.getPostId());
                     });
                 } else if ("COMMENT".equals(report.getTargetType())) {
                     commentRepository.findById(report.getTargetId()).ifPresent(comment -> {
                         log.info("댓글 삭제 처리 - commentId: {}, 이전 상태: {}", comment.getCommentId(), comment.getIsDeleted());
+                        boolean wasDeleted = Boolean.TRUE.equals(comment.getIsDeleted());
                         comment.setIsDeleted(true);
                         commentRepository.save(comment);
+                        if (!wasDeleted) {
+                            // 댓글 수 감소 + 트렌딩 점수 반영
+                            Post post = comment.getPost();
+                            post.setCommentCount(Math.max(0, post.getCommentCount() - 1));
+                            postRepository.save(post);
+                            trendingPostService.onCountsChanged(post);
+                        }
                         log.info("댓글 삭제 완료 - commentId: {}, 현재 상태: {}", comment.getCommentId(), comment.getIsDeleted());
                     });
                 }
@@ -367,6 +384,12 @@ public class AdminPageController {
 
             post.setIsBlinded(!post.getIsBlinded());
             postRepository.save(post);
+            postPageCache.evictPost(post.getCategory().getCategoryName(), post.getIsPopular());
+            if (post.getIsBlinded()) {
+                trendingPostService.untrack(postId);
+            } else {
+                trendingPostService.track(post);
+            }
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -1,23 +1,27 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.ChatMessageDto;
-import com.example.backend.entity.ChatMessage;
-import com.example.backend.entity.Chatroom;
-import com.example.backend.entity.User;
-import com.example.backend.repository.ChatMessageRepository;
-import com.example.backend.repository.ChatroomRepository;
-import com.example.backend.repository.UserRepository;
+import com.example.backend.service.ChatBroadcaster;
+import com.example.backend.service.ChatIdentityCache;
+import com.example.backend.service.ChatMessageWriter;
+import com.example.backend.service.ChatRateLimiter;
+import com.example.backend.service.LiveService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * WebSocket 채팅 컨트롤러
@@ -28,71 +32,134 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ChatWebSocketController {
 
-    private final ChatMessageRepository chatMessageRepository;
-    private final ChatroomRepository chatroomRepository;
-    private final UserRepository userRepository;
+    private final ChatIdentityCache chatIdentityCache;
+    private final ChatMessageWriter chatMessageWriter;
+    private final LiveService liveService;
+    private final ChatBroadcaster chatBroadcaster;
+    private final ChatRateLimiter chatRateLimiter;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 보낸 사람에게만 전달하는 오류 목적지 (/user/queue/chat-errors 구독)
+    private static final String ERROR_DESTINATION = "/queue/chat-errors";
+
+    // 채팅 메시지 최대 길이
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    /**
+     * STOMP CONNECT 시 로그인 사용자 프로필을 미리 캐시
+     * (HTTP 세션의 userId는 핸드셰이크 때 WebSocket 세션 속성으로 복사됨)
+     */
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        Map<String, Object> sessionAttributes = SimpMessageHeaderAccessor.getSessionAttributes(event.getMessage().getHeaders());
+        if (sessionAttributes != null && sessionAttributes.get("userId") instanceof Long userId) {
+            chatIdentityCache.getProfile(userId);
+        }
+    }
 
     /**
      * 채팅 메시지 전송
      * 클라이언트가 /app/chat/{chatroomId} 로 메시지를 보내면
      * /topic/chatroom/{chatroomId} 를 구독하는 모든 클라이언트에게 브로드캐스트
+     * - 보낸 사람은 핸드셰이크 때 복사된 세션 속성 userId 로 식별 (payload 의 username 은 사용하지 않음)
+     * - 사용자별 전송 속도 제한은 다른 조회보다 먼저 적용, 넘은 메시지는 버림
+     * - 비어 있거나 MAX_MESSAGE_LENGTH 자를 넘는 메시지는 저장/전송하지 않음
+     * - 전송은 ChatBroadcaster 가 채팅방별로 묶어서 처리 (메시지 배열 프레임)
+     * - 저장은 ChatMessageWriter 가 비동기 배치로 처리
+     * - 오류는 보낸 세션에만 /user/queue/chat-errors 로 전송
      */
     @MessageMapping("/chat/{chatroomId}")
-    @SendTo("/topic/chatroom/{chatroomId}")
-    public ChatMessageDto sendMessage(
+    public void sendMessage(
             @DestinationVariable Long chatroomId,
             @Payload Map<String, String> payload,
             SimpMessageHeaderAccessor headerAccessor
     ) {
-        try {
-            String username = payload.get("username");
-            String message = payload.get("message");
+        String sessionId = headerAccessor.getSessionId();
+        Map<String, Object> sessionAttributes = headerAccessor.getSessionAttributes();
+        if (sessionAttributes == null || !(sessionAttributes.get("userId") instanceof Long userId)) {
+            sendError(sessionId, chatroomId, "로그인이 필요합니다.");
+            return;
+        }
 
-            log.info("WebSocket 메시지 수신 - chatroomId: {}, username: {}, message: {}",
-                    chatroomId, username, message);
+        // 전송 속도 제한
+        if (!chatRateLimiter.tryAcquire(userId)) {
+            log.debug("채팅 전송 속도 제한 - chatroomId: {}, userId: {}", chatroomId, userId);
+            return;
+        }
 
-            // 채팅방 조회
-            Chatroom chatroom = chatroomRepository.findById(chatroomId)
-                    .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
+        String message = payload.get("message");
+        log.debug("WebSocket 메시지 수신 - chatroomId: {}, userId: {}, message: {}", chatroomId, userId, message);
 
-            // 사용자 조회
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        // 메시지 검증 (저장 큐 적재 전에 거부)
+        if (message == null || message.isBlank() || message.length() > MAX_MESSAGE_LENGTH) {
+            sendError(sessionId, chatroomId, "메시지는 1~" + MAX_MESSAGE_LENGTH + "자로 입력해주세요.");
+            return;
+        }
 
-            // 메시지 저장
-            ChatMessage chatMessage = new ChatMessage();
-            chatMessage.setChatroom(chatroom);
-            chatMessage.setUser(user);
-            chatMessage.setMessage(message);
-            chatMessage.setMessageType("USER");
+        try {
+            // 채팅방 존재 확인 (캐시)
+            if (!chatIdentityCache.chatroomExists(chatroomId)) {
+                throw new RuntimeException("채팅방을 찾을 수 없습니다.");
+            }
+
+            // 사용자 조회 (캐시)
+            ChatIdentityCache.UserProfile user = chatIdentityCache.getProfile(userId)
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-            ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
+            // 저장 큐에 적재 (가득 차면 메시지를 버리고 브로드캐스트하지 않음)
+            LocalDateTime createdAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+            if (!chatMessageWriter.enqueue(chatroomId, user.userId(), message, "USER", createdAt)) {
+                log.warn("채팅 저장 큐 포화 - 메시지 거부 (chatroomId: {}, userId: {})", chatroomId, userId);
+                sendError(sessionId, chatroomId, "메시지 전송에 실패했습니다.");
+                return;
+            }
 
-            // DTO로 변환하여 반환
+            // DTO 생성 (messageId는 저장 후 부여되므로 messageKey로 식별)
             ChatMessageDto dto = new ChatMessageDto();
-            dto.setMessageId(savedMessage.getMessageId());
+            dto.setMessageKey(UUID.randomUUID().toString());
             dto.setChatroomId(chatroomId);
-            dto.setUsername(user.getUsername());
-            dto.setNickname(user.getNickname());
-            dto.setUserTier(user.getTier());
-            dto.setIsAdmin(user.getIsAdmin());
-            dto.setMessage(savedMessage.getMessage());
-            dto.setMessageType(savedMessage.getMessageType());
-            dto.setCreatedAt(savedMessage.getCreatedAt());
+            dto.setUserId(user.userId());
+            dto.setUsername(user.username());
+            dto.setNickname(user.nickname());
+            dto.setUserTier(user.tier());
+            dto.setIsAdmin(user.isAdmin());
+            dto.setMessage(message);
+            dto.setMessageType("USER");
+            dto.setCreatedAt(createdAt);
 
-            log.info("WebSocket 메시지 전송 완료 - messageId: {}", dto.getMessageId());
+            // 입장자에게 제공할 최근 메시지 버퍼에 추가
+            liveService.appendToHistory(dto);
 
-            return dto;
+            chatBroadcaster.publish(chatroomId, dto);
 
         } catch (Exception e) {
             log.error("WebSocket 메시지 처리 중 오류 발생", e);
+            sendError(sessionId, chatroomId, "메시지 전송에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 보낸 세션에만 오류 메시지 전송 (세션 ID 를 사용자 이름으로 사용하면 해당 세션만 대상)
+     */
+    private void sendError(String sessionId, Long chatroomId, String text) {
+        if (sessionId == null) {
+            return;
+        }
 
-            // 에러 메시지 반환
-            ChatMessageDto errorDto = new ChatMessageDto();
-            errorDto.setMessageType("ERROR");
-            errorDto.setMessage("메시지 전송에 실패했습니다.");
-            errorDto.setCreatedAt(LocalDateTime.now());
-            return errorDto;
+        ChatMessageDto errorDto = new ChatMessageDto();
+        errorDto.setMessageKey(UUID.randomUUID().toString());
+        errorDto.setChatroomId(chatroomId);
+        errorDto.setMessageType("ERROR");
+        errorDto.setMessage(text);
+        errorDto.setCreatedAt(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        try {
+            messagingTemplate.convertAndSendToUser(sessionId, ERROR_DESTINATION, errorDto, headers.getMessageHeaders());
+        } catch (Exception e) {
+            log.warn("채팅 오류 메시지 전송 실패 - sessionId: {}, {}", sessionId, e.getMessage());
         }
     }
 }
@@ -56,7 +56,8 @@ public class CommunityController {
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false, defaultValue = "all") String searchType,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @SessionAttribute(name = "userId", required = false) Long userId
     ) {
         Pageable pageable = PageRequest.of(page, size);
 
@@ -72,18 +73,28 @@ public class CommunityController {
 
         // 검색어가 있으면 검색 API 호출
         if (keyword != null && !keyword.trim().isEmpty()) {
-            posts = communityService.searchPosts(keyword, searchType, categoryName, pageable);
+            posts = communityService.searchPosts(keyword, searchType, categoryName, pageable, userId);
         } else if ("popular".equals(type) || "인기글".equals(type)) {
             // 인기글 조회
-            posts = communityService.getPopularPostsByCategory(categoryName, pageable);
+            posts = communityService.getPopularPostsByCategory(categoryName, pageable, userId);
         } else {
             // 일반 게시글 조회
-            posts = communityService.getPostsByCategory(categoryName, pageable);
+            posts = communityService.getPostsByCategory(categoryName, pageable, userId);
         }
 
         return ResponseEntity.ok(posts);
     }
 
+    @GetMapping("/posts/trending")
+    public ResponseEntity<List<PostDto>> getTrendingPosts(
+            @RequestParam(required = false) String categoryName,
+            @RequestParam(defaultValue = "10") int limit,
+            @SessionAttribute(name = "userId", required = false) Long userId
+    ) {
+        List<PostDto> posts = communityService.getTrendingPosts(categoryName, Math.min(limit, 50), userId);
+        return ResponseEntity.ok(posts);
+    }
+
     @GetMapping("/posts/{postId}")
     public ResponseEntity<PostDto> getPost(@PathVariable Long postId, HttpSession session) {
         PostDto post = communityService.getPost(postId,session);
@@ -96,10 +107,11 @@ public class CommunityController {
             @RequestParam(required = false, defaultValue = "all") String searchType,
             @RequestParam(required = false) String categoryName,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @SessionAttribute(name = "userId", required = false) Long userId
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<PostDto> posts = communityService.searchPosts(keyword, searchType, categoryName, pageable);
+        Page<PostDto> posts = communityService.searchPosts(keyword, searchType, categoryName, pageable, userId);
         return ResponseEntity.ok(posts);
     }
 
@@ -164,9 +176,10 @@ public class CommunityController {
     public ResponseEntity<?> getComments(
             @PathVariable Long postId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "30") int size
+            @RequestParam(defaultValue = "30") int size,
+            @SessionAttribute(name = "userId", required = false) Long userId
     ) {
-        Map<String, Object> result = communityService.getCommentsPaginated(postId, page, size);
+        Map<String, Object> result = communityService.getCommentsPaginated(postId, page, size, userId);
         return ResponseEntity.ok(result);
     }
 
@@ -259,6 +272,15 @@ public class CommunityController {
         return ResponseEntity.ok(Map.of("message", "신고가 접수되었습니다."));
     }
 
+    /**
+     * 내가 차단한 사용자 ID 목록 (실시간 채팅 필터용, 비로그인이면 빈 목록)
+     */
+    @GetMapping("/users/me/blocked-ids")
+    public ResponseEntity<List<Long>> getBlockedUserIds(
+            @SessionAttribute(name = "userId", required = false) Long userId) {
+        return ResponseEntity.ok(communityService.getBlockedUserIds(userId));
+    }
+
     @PostMapping("/users/{targetUsername}/block")
     public ResponseEntity<?> blockUser(
             @PathVariable String targetUsername,
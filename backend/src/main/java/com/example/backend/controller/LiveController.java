@@ -3,11 +3,14 @@ package com.example.backend.controller;
 import com.example.backend.dto.ChatMessageDto;
 import com.example.backend.dto.MatchDto;
 import com.example.backend.entity.Chatroom;
+import com.example.backend.service.ChatPresenceService;
 import com.example.backend.service.LiveService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +21,7 @@ import java.util.Map;
 public class LiveController {
 
     private final LiveService liveService;
+    private final ChatPresenceService chatPresenceService;
 
     /**
      * 진행 중인 경기 조회
@@ -38,7 +42,7 @@ public class LiveController {
         Map<String, Object> response = new HashMap<>();
         response.put("chatroomId", chatroom.getChatroomId());
         response.put("matchId", chatroom.getMatch().getMatchId());
-        response.put("viewerCount", chatroom.getViewerCount());
+        response.put("viewerCount", chatPresenceService.getViewerCount(chatroom.getChatroomId()));
 
         return ResponseEntity.ok(response);
     }
@@ -47,8 +51,26 @@ public class LiveController {
      * 채팅 메시지 조회
      */
     @GetMapping("/chatroom/{chatroomId}/messages")
-    public ResponseEntity<List<ChatMessageDto>> getChatMessages(@PathVariable Long chatroomId) {
-        List<ChatMessageDto> messages = liveService.getChatMessages(chatroomId);
+    public ResponseEntity<List<ChatMessageDto>> getChatMessages(
+            @PathVariable Long chatroomId,
+            @SessionAttribute(name = "userId", required = false) Long userId) {
+        List<ChatMessageDto> messages = liveService.getChatMessages(chatroomId, userId);
+        return ResponseEntity.ok(messages);
+    }
+
+    /**
+     * 이전 채팅 메시지 조회 ((before, beforeId) 이전 size개, 오래된 순)
+     * 커서는 가장 오래된 메시지의 createdAt, messageId (messageId 가 없으면 생략)
+     * GET /api/live/chatroom/{chatroomId}/messages/older?before=2025-01-01T12:00:00&beforeId=1234&size=50
+     */
+    @GetMapping("/chatroom/{chatroomId}/messages/older")
+    public ResponseEntity<List<ChatMessageDto>> getOlderChatMessages(
+            @PathVariable Long chatroomId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int size,
+            @SessionAttribute(name = "userId", required = false) Long userId) {
+        List<ChatMessageDto> messages = liveService.getOlderChatMessages(chatroomId, before, beforeId, size, userId);
         return ResponseEntity.ok(messages);
     }
 
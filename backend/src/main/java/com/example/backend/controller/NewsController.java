@@ -51,11 +51,13 @@ public class NewsController {
     }
 
     /**
-     * 인기 뉴스 조회
+     * 인기 뉴스 조회 (sport 지정 시 종목별)
      */
     @GetMapping("/popular")
-    public ResponseEntity<List<NewsDto>> getPopularNews(@RequestParam(required = false) Long userId) {
-        List<NewsDto> news = newsService.getPopularNews(userId);
+    public ResponseEntity<List<NewsDto>> getPopularNews(
+            @RequestParam(required = false) String sport,
+            @RequestParam(required = false) Long userId) {
+        List<NewsDto> news = newsService.getPopularNews(sport, userId);
         return ResponseEntity.ok(news);
     }
 
@@ -119,10 +121,11 @@ public class NewsController {
 
     /**
      * 뉴스 자동 정리 (수동 실행)
+     * ?dryRun=true 이면 삭제하지 않고 삭제될 개수만 보고
      */
     @PostMapping("/cleanup")
-    public ResponseEntity<String> cleanupNews() {
-        String result = newsCleanupService.manualCleanup();
+    public ResponseEntity<String> cleanupNews(@RequestParam(defaultValue = "false") boolean dryRun) {
+        String result = newsCleanupService.manualCleanup(dryRun);
         return ResponseEntity.ok(result);
     }
 }
\ No newline at end of file
@@ -1,35 +1,32 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.NotificationDto;
-import com.example.backend.entity.Notification;
-import com.example.backend.entity.User;
-import com.example.backend.repository.NotificationRepository;
-import com.example.backend.repository.UserRepository;
+import com.example.backend.service.NotificationService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 알림 REST API
+ * 실시간 수신은 WebSocket /user/queue/notifications (NotificationPushService), 이 API는 목록 조회와 폴백용
+ */
 @RestController
 @RequestMapping("/api/notifications")
 @RequiredArgsConstructor
 public class NotificationController {
 
-    private final NotificationRepository notificationRepository;
-    private final UserRepository userRepository;
+    private final NotificationService notificationService;
 
-    private String getUsernameFromSession(HttpSession session) {
-        String username = (String) session.getAttribute("username");
-        if (username == null) {
+    private Long getUserIdFromSession(HttpSession session) {
+        Long userId = (Long) session.getAttribute("userId");
+        if (userId == null) {
             throw new RuntimeException("로그인이 필요합니다.");
         }
-        return username;
+        return userId;
     }
 
     /**
@@ -41,15 +38,8 @@ public class NotificationController {
             @RequestParam(defaultValue = "20") int size,
             HttpSession session
     ) {
-        String username = getUsernameFromSession(session);
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Notification> notifications = notificationRepository.findByUserOrderByCreatedAtDesc(user, pageable);
-
-        Page<NotificationDto> dtos = notifications.map(this::convertToDto);
-        return ResponseEntity.ok(dtos);
+        Long userId = getUserIdFromSession(session);
+        return ResponseEntity.ok(notificationService.getNotifications(userId, page, size));
     }
 
     /**
@@ -57,12 +47,8 @@ public class NotificationController {
      */
     @GetMapping("/unread/count")
     public ResponseEntity<Long> getUnreadCount(HttpSession session) {
-        String username = getUsernameFromSession(session);
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        long count = notificationRepository.countByUserAndIsReadFalse(user);
-        return ResponseEntity.ok(count);
+        Long userId = getUserIdFromSession(session);
+        return ResponseEntity.ok(notificationService.getUnreadCount(userId));
     }
 
     /**
@@ -70,16 +56,8 @@ public class NotificationController {
      */
     @GetMapping("/unread")
     public ResponseEntity<List<NotificationDto>> getUnreadNotifications(HttpSession session) {
-        String username = getUsernameFromSession(session);
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        List<Notification> notifications = notificationRepository.findByUserAndIsReadFalseOrderByCreatedAtDesc(user);
-        List<NotificationDto> dtos = notifications.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(dtos);
+        Long userId = getUserIdFromSession(session);
+        return ResponseEntity.ok(notificationService.getUnreadNotifications(userId));
     }
 
     /**
@@ -90,21 +68,8 @@ public class NotificationController {
             @PathVariable Long notificationId,
             HttpSession session
     ) {
-        String username = getUsernameFromSession(session);
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        Notification notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new RuntimeException("알림을 찾을 수 없습니다."));
-
-        // 권한 확인
-        if (!notification.getUser().getUserId().equals(user.getUserId())) {
-            throw new RuntimeException("권한이 없습니다.");
-        }
-
-        notification.setIsRead(true);
-        notificationRepository.save(notification);
-
+        Long userId = getUserIdFromSession(session);
+        notificationService.markAsRead(notificationId, userId);
         return ResponseEntity.ok().build();
     }
 
@@ -113,14 +78,8 @@ public class NotificationController {
      */
     @PutMapping("/read-all")
     public ResponseEntity<Void> markAllAsRead(HttpSession session) {
-        String username = getUsernameFromSession(session);
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        List<Notification> unreadNotifications = notificationRepository.findByUserAndIsReadFalseOrderByCreatedAtDesc(user);
-        unreadNotifications.forEach(n -> n.setIsRead(true));
-        notificationRepository.saveAll(unreadNotifications);
-
+        Long userId = getUserIdFromSession(session);
+        notificationService.markAllAsRead(userId);
         return ResponseEntity.ok().build();
     }
 
@@ -132,31 +91,8 @@ public class NotificationController {
             @PathVariable Long notificationId,
             HttpSession session
     ) {
-        String username = getUsernameFromSession(session);
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        Notification notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new RuntimeException("알림을 찾을 수 없습니다."));
-
-        // 권한 확인
-        if (!notification.getUser().getUserId().equals(user.getUserId())) {
-            throw new RuntimeException("권한이 없습니다.");
-        }
-
-        notificationRepository.delete(notification);
+        Long userId = getUserIdFromSession(session);
+        notificationService.deleteNotification(notificationId, userId);
         return ResponseEntity.ok().build();
     }
-
-    private NotificationDto convertToDto(Notification notification) {
-        NotificationDto dto = new NotificationDto();
-        dto.setNotificationId(notification.getNotificationId());
-        dto.setNotificationType(notification.getNotificationType());
-        dto.setContent(notification.getContent());
-        dto.setRelatedType(notification.getRelatedType());
-        dto.setRelatedId(notification.getRelatedId());
-        dto.setIsRead(notification.getIsRead());
-        dto.setCreatedAt(notification.getCreatedAt());
-        return dto;
-    }
 }
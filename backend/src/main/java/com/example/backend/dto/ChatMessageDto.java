@@ -6,7 +6,9 @@ import java.time.LocalDateTime;
 @Data
 public class ChatMessageDto {
     private Long messageId;
+    private String messageKey;  // 클라이언트 렌더링 키 (저장 전 메시지는 messageId 없음)
     private Long chatroomId;
+    private Long userId;
     private String username;
     private String nickname;
     private String userTier;
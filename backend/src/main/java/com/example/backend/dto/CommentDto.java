@@ -17,6 +17,7 @@ import java.util.List;
 public class CommentDto {
     private Long commentId;           // 댓글 ID
     private Long postId;              // 게시글 ID
+    private Long userId;              // 작성자 ID
     private String username;          // 작성자 아이디
     private String nickname;          // 작성자 닉네임
     private String content;           // 댓글 내용
@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 public class PostDto {
     private Long postId;
     private String categoryName;
+    private Long userId;
     private String username;
     private String nickname;
     private String title;
@@ -11,7 +11,9 @@ import java.time.ZoneId;
  * 채팅 메시지 엔티티
  */
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+        @Index(name = "idx_chat_messages_chatroom_created", columnList = "chatroom_id, created_at")
+})
 @Getter
 @Setter
 public class ChatMessage {
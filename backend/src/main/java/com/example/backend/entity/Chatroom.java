@@ -28,7 +28,8 @@ public class Chatroom {
     @Column(name = "is_active")
     private Boolean isActive = true;
 
-    @Column(name = "viewer_count")
+    // 시청자 수 (ChatPresenceService가 주기적으로 반영)
+    @Column(name = "viewer_count", updatable = false)
     private Integer viewerCount = 0;
 
     @Column(name = "created_at")
@@ -0,0 +1,31 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크롤링 페이지 캐시 Entity
+ * 페이지(예: "schedule:EPL:2025-08")별 마지막 내용 해시 - 내용이 같으면 파싱/DB 반영 생략 (CrawlCache)
+ */
+@Entity
+@Table(name = "crawl_cache")
+@Getter
+@Setter
+public class CrawlCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", length = 100)
+    private String cacheKey;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "checked_at", nullable = false)
+    private LocalDateTime checkedAt;  // 마지막 확인 시각
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;  // 마지막으로 내용이 바뀐 시각
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
@@ -12,7 +13,12 @@ import java.time.ZoneId;
  * 축구, 농구, 야구, 롤 경기 정보
  */
 @Entity
-@Table(name = "matches")
+@Table(name = "matches", uniqueConstraints = {
+        // 시즌 일정 크롤링 중복 방지 (ScheduleMatchWriter, 같은 날 같은 대진은 한 경기 - 시각 변경은 UPDATE)
+        // 기존 중복은 MatchDuplicateCleanup 이 제약 추가 전에 정리
+        @UniqueConstraint(name = "uk_matches_league_teams_day",
+                columnNames = {"league_id", "home_team_id", "away_team_id", "match_day"})
+})
 @Getter
 @Setter
 public class Match {
@@ -37,6 +43,11 @@ public class Match {
     @Column(name = "match_date", nullable = false)
     private LocalDateTime matchDate;
 
+    // match_date 의 날짜 (DB 생성 컬럼, 읽기 전용)
+    @Column(name = "match_day", insertable = false, updatable = false,
+            columnDefinition = "DATE GENERATED ALWAYS AS (DATE(match_date)) STORED")
+    private LocalDate matchDay;
+
     @Column(name = "venue", length = 200)
     private String venue;
 
@@ -40,15 +40,25 @@ public class News {
     @Column(name = "source_name", nullable = false, length = 100)
     private String sourceName;
 
+    // 정규화한 제목의 SimHash 지문 (NewsDeduplicator 중복 판단용)
+    @Column(name = "title_fingerprint")
+    private Long titleFingerprint;
+
     @Column(name = "published_at", nullable = false)
     private LocalDateTime publishedAt;
 
-    @Column(name = "view_count")
+    // 조회수는 ViewCountService의 배치 UPDATE로만 증가 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "view_count", updatable = false)
     private Integer viewCount = 0;
 
     @Column(name = "like_count")
     private Integer likeCount = 0;
 
+    // 인기 정렬 키 ln(1 + raw) + publishedAt / τ (PopularNewsService가 주기적으로 저장, 엔티티 저장 시 덮어쓰지 않음)
+    // 감쇠된 점수가 아니라 뉴스끼리 순서 비교용 값
+    @Column(name = "popular_score", insertable = false, updatable = false)
+    private Double popularScore;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
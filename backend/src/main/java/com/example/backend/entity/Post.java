@@ -35,7 +35,8 @@ public class Post {
     @Column(name = "content", nullable = false, columnDefinition = "TEXT")
     private String content;
 
-    @Column(name = "view_count")
+    // 조회수는 ViewCountService의 배치 UPDATE로만 증가 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "view_count", updatable = false)
     private Integer viewCount = 0;
 
     @Column(name = "like_count")
@@ -47,6 +48,11 @@ public class Post {
     @Column(name = "comment_count")
     private Integer commentCount = 0;
 
+    // 트렌딩 정렬 키 ln(1 + raw) + createdAt / τ (TrendingPostService가 주기적으로 저장)
+    // 감쇠된 점수가 아니라 글끼리 순서 비교용 값
+    @Column(name = "hot_score", updatable = false)
+    private Double hotScore;
+
     @Column(name = "is_notice")
     private Boolean isNotice = false;
 
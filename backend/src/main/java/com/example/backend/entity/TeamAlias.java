@@ -0,0 +1,37 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팀 별칭 Entity
+ * 크롤링 사이트의 팀 표기가 teams.team_name 과 다를 때 등록 (TeamNameResolver)
+ */
+@Entity
+@Table(name = "team_aliases", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_team_aliases_team_alias", columnNames = {"team_id", "alias"})
+})
+@Getter
+@Setter
+public class TeamAlias {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "alias_id")
+    private Long aliasId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id", nullable = false)
+    private Team team;
+
+    @Column(name = "alias", nullable = false, length = 100)
+    private String alias;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
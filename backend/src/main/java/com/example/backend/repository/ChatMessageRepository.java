@@ -2,7 +2,10 @@ package com.example.backend.repository;
 
 import com.example.backend.entity.ChatMessage;
 import com.example.backend.entity.Chatroom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -13,4 +16,24 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     List<ChatMessage> findByChatroomOrderByCreatedAtDesc(Chatroom chatroom);
     List<ChatMessage> findByChatroomOrderByCreatedAtAsc(Chatroom chatroom);
     List<ChatMessage> findByChatroomAndCreatedAtAfterOrderByCreatedAtAsc(Chatroom chatroom, LocalDateTime after);
+
+    // 최근 메시지 (최신순, idx_chat_messages_chatroom_created 사용 - InnoDB 보조 인덱스는 PK(message_id)를 포함하므로 정렬 그대로 사용)
+    @Query("SELECT m FROM ChatMessage m WHERE m.chatroom.chatroomId = :chatroomId ORDER BY m.createdAt DESC, m.messageId DESC")
+    List<ChatMessage> findRecentMessages(@Param("chatroomId") Long chatroomId, Pageable pageable);
+
+    // (before, beforeId) 이전 메시지 (최신순, 키셋 페이지네이션 - 같은 시각 메시지는 messageId 로 구분)
+    @Query("SELECT m FROM ChatMessage m WHERE m.chatroom.chatroomId = :chatroomId " +
+            "AND (m.createdAt < :before OR (m.createdAt = :before AND m.messageId < :beforeId)) " +
+            "ORDER BY m.createdAt DESC, m.messageId DESC")
+    List<ChatMessage> findMessagesBefore(@Param("chatroomId") Long chatroomId,
+                                         @Param("before") LocalDateTime before,
+                                         @Param("beforeId") Long beforeId,
+                                         Pageable pageable);
+
+    // 특정 시각 이전 메시지 (커서 메시지의 ID를 모를 때 - 아직 저장 전인 메시지 등)
+    @Query("SELECT m FROM ChatMessage m WHERE m.chatroom.chatroomId = :chatroomId AND m.createdAt < :before " +
+            "ORDER BY m.createdAt DESC, m.messageId DESC")
+    List<ChatMessage> findMessagesBefore(@Param("chatroomId") Long chatroomId,
+                                         @Param("before") LocalDateTime before,
+                                         Pageable pageable);
 }
@@ -5,6 +5,7 @@ import com.example.backend.entity.Match;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -12,4 +13,6 @@ import java.util.List;
 public interface ChatroomRepository extends JpaRepository<Chatroom, Long> {
     Optional<Chatroom> findByMatch(Match match);
     List<Chatroom> findByIsActiveTrueOrderByViewerCountDesc();
+    List<Chatroom> findByIsActiveTrueAndMatch_Status(String status);
+    List<Chatroom> findByChatroomIdInAndIsActiveFalse(Collection<Long> chatroomIds);
 }
@@ -6,6 +6,9 @@ import com.example.backend.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -25,6 +28,16 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // 대댓글 조회
     List<Comment> findByParentCommentAndIsDeletedFalseOrderByCreatedAtAsc(Comment parentComment);
 
+    // 게시글 삭제용: 대댓글의 부모 참조 해제 (자기 참조 FK 순서 문제 방지)
+    @Modifying
+    @Query("UPDATE Comment c SET c.parentComment = NULL WHERE c.post = :post AND c.parentComment IS NOT NULL")
+    int detachRepliesByPost(@Param("post") Post post);
+
+    // 게시글 삭제용: 게시글의 모든 댓글 일괄 삭제 (단일 DELETE)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post = :post")
+    int deleteByPost(@Param("post") Post post);
+
     // 사용자가 작성한 댓글 조회
     Page<Comment> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
     Page<Comment> findByUser(User user, Pageable pageable);
@@ -2,8 +2,12 @@ package com.example.backend.repository;
 
 import com.example.backend.entity.Comment;
 import com.example.backend.entity.CommentVote;
+import com.example.backend.entity.Post;
 import com.example.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,4 +23,9 @@ public interface CommentVoteRepository extends JpaRepository<CommentVote, Long>
 
     @Transactional
     void deleteByComment(Comment comment);
+
+    // 게시글에 달린 모든 댓글의 투표 일괄 삭제 (단일 DELETE)
+    @Modifying
+    @Query("DELETE FROM CommentVote cv WHERE cv.comment IN (SELECT c FROM Comment c WHERE c.post = :post)")
+    int deleteByPost(@Param("post") Post post);
 }
\ No newline at end of file
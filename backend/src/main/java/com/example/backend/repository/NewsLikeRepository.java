@@ -6,9 +6,13 @@ import com.example.backend.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface NewsLikeRepository extends JpaRepository<NewsLike, Long> {
@@ -16,6 +20,10 @@ public interface NewsLikeRepository extends JpaRepository<NewsLike, Long> {
     // 사용자가 특정 뉴스에 좋아요를 눌렀는지 확인
     boolean existsByNewsAndUser(News news, User user);
 
+    // 목록의 뉴스 중 사용자가 좋아요한 뉴스 ID (페이지당 한 번 조회)
+    @Query("SELECT nl.news.newsId FROM NewsLike nl WHERE nl.user.userId = :userId AND nl.news.newsId IN :newsIds")
+    Set<Long> findLikedNewsIds(@Param("userId") Long userId, @Param("newsIds") Collection<Long> newsIds);
+
     // 특정 뉴스와 사용자의 좋아요 찾기
     Optional<NewsLike> findByNewsAndUser(News news, User user);
 
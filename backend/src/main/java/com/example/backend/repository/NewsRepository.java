@@ -13,6 +13,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -26,6 +27,10 @@ public interface NewsRepository extends JpaRepository<News, Long> {
 
     boolean existsBySourceUrl(String sourceUrl);
 
+    // 이미 저장된 원문 URL 일괄 조회 (크롤링 중복 체크)
+    @Query("SELECT n.sourceUrl FROM News n WHERE n.sourceUrl IN :sourceUrls")
+    List<String> findExistingSourceUrls(@Param("sourceUrls") Collection<String> sourceUrls);
+
     // 검색 기능 추가
     @Query("SELECT n FROM News n WHERE " +
             "LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
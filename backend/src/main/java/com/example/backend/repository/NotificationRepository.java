@@ -5,6 +5,9 @@ import com.example.backend.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -24,4 +27,22 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     // 사용자의 읽지 않은 알림 개수
     long countByUserAndIsReadFalse(User user);
-}
\ No newline at end of file
+
+    // 사용자 ID 기준 조회 (세션의 userId 로 사용자 조회 없이 사용)
+    Page<Notification> findByUser_UserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+
+    List<Notification> findByUser_UserIdAndIsReadFalseOrderByCreatedAtDesc(Long userId);
+
+    long countByUser_UserIdAndIsReadFalse(Long userId);
+
+    // 알림 하나 읽음 처리 (읽지 않은 상태일 때만, 바뀐 행 수 반환 - 여러 탭이 동시에 읽어도 한 번만 1)
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true " +
+            "WHERE n.notificationId = :notificationId AND n.user.userId = :userId AND n.isRead = false")
+    int markAsRead(@Param("notificationId") Long notificationId, @Param("userId") Long userId);
+
+    // 사용자의 모든 알림 읽음 처리
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.userId = :userId AND n.isRead = false")
+    int markAllAsRead(@Param("userId") Long userId);
+}
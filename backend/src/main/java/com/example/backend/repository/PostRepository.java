@@ -86,6 +86,9 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p WHERE p.createdAt >= :weekAgo AND p.isBlinded = false ORDER BY p.likeCount DESC, p.createdAt DESC")
     List<Post> findWeeklyBest(@Param("weekAgo") LocalDateTime weekAgo, Pageable pageable);
 
+    // 트렌딩 랭킹 초기화용 (최근 게시글, 블라인드 제외)
+    List<Post> findByCreatedAtAfterAndIsBlindedFalse(LocalDateTime createdAt);
+
     // 월간 베스트
     @Query("SELECT p FROM Post p WHERE p.createdAt >= :monthAgo AND p.isBlinded = false ORDER BY p.likeCount DESC, p.createdAt DESC")
     List<Post> findMonthlyBest(@Param("monthAgo") LocalDateTime monthAgo, Pageable pageable);
@@ -6,6 +6,9 @@ import com.example.backend.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -21,5 +24,8 @@ public interface PostScrapRepository extends JpaRepository<PostScrap, Long> {
     // 사용자의 스크랩 목록 조회 (최신순)
     Page<PostScrap> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
 
-    void deleteByPost(Post post);  // ⭐ 이 줄 추가
+    // 게시글의 모든 스크랩 일괄 삭제 (단일 DELETE)
+    @Modifying
+    @Query("DELETE FROM PostScrap s WHERE s.post = :post")
+    int deleteByPost(@Param("post") Post post);
 }
\ No newline at end of file
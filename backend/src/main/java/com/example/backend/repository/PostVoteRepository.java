@@ -4,6 +4,9 @@ import com.example.backend.entity.Post;
 import com.example.backend.entity.PostVote;
 import com.example.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -19,5 +22,8 @@ public interface PostVoteRepository extends JpaRepository<PostVote, Long> {
     // 게시글의 전체 투표 수 조회
     long countByPost(Post post);
 
-    void deleteByPost(Post post);  // ⭐ 이 줄 추가
+    // 게시글의 모든 투표 일괄 삭제 (단일 DELETE)
+    @Modifying
+    @Query("DELETE FROM PostVote v WHERE v.post = :post")
+    int deleteByPost(@Param("post") Post post);
 }
\ No newline at end of file
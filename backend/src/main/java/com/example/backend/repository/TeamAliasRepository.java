@@ -0,0 +1,19 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.TeamAlias;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 팀 별칭 Repository
+ */
+@Repository
+public interface TeamAliasRepository extends JpaRepository<TeamAlias, Long> {
+
+    // 전체 별칭 (TeamNameResolver 색인용)
+    @Query("SELECT a FROM TeamAlias a JOIN FETCH a.team")
+    List<TeamAlias> findAllWithTeam();
+}
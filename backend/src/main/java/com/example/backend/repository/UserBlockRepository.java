@@ -3,6 +3,8 @@ package com.example.backend.repository;
 import com.example.backend.entity.User;
 import com.example.backend.entity.UserBlock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,4 +23,8 @@ public interface UserBlockRepository extends JpaRepository<UserBlock, Long> {
 
     // 나를 차단한 사용자 목록
     List<UserBlock> findByBlocked(User blocked);
+
+    // 내가 차단한 사용자 ID 목록 (UserBlockCache 적재용)
+    @Query("SELECT b.blocked.userId FROM UserBlock b WHERE b.blocker.userId = :blockerId")
+    List<Long> findBlockedUserIdsByBlockerId(@Param("blockerId") Long blockerId);
 }
\ No newline at end of file
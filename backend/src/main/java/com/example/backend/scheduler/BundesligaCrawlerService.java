@@ -7,7 +7,6 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -16,32 +15,34 @@ import java.util.Map;
  */
 @Service
 @Slf4j
-public class BundesligaCrawlerService extends BaseCrawlerService {
+public class BundesligaCrawlerService extends BaseCrawlerService implements TeamAliasSource {
+
+    private static final long LEAGUE_ID = 6L;
 
     /**
-     * 팀 이름과 DB team_id 매핑
-     * 크롤링한 팀 이름을 DB의 team_id로 변환
+     * 네이버 스포츠 팀 표기와 DB team_id 매핑 (기본 별칭)
+     * 실제 조회는 TeamNameResolver 가 팀 이름 → 별칭 → 유사 이름 순으로 처리
      */
-    public static final Map<String, Long> TEAM_NAME_TO_ID = new HashMap<>() {{
-        put("바이에른 뮌헨", 71L);
-        put("레버쿠젠", 72L);
-        put("프랑크푸르트", 73L);
-        put("도르트문트", 74L);
-        put("프라이부르크", 75L);
-        put("마인츠", 76L);
-        put("라이프치히", 77L);
-        put("브레멘", 78L);
-        put("슈투트가르트", 79L);
-        put("글라트바흐", 80L);
-        put("볼프스부르크", 81L);
-        put("아우크스부르크", 82L);
-        put("우니온 베를린", 83L);
-        put("상 파울리", 84L);
-        put("호펜하임", 85L);
-        put("하이덴하임", 86L);
-        put("함부르크", 87L);
-        put("쾰른", 88L);
-    }};
+    private static final Map<String, Long> TEAM_ALIASES = Map.ofEntries(
+            Map.entry("바이에른 뮌헨", 71L),
+            Map.entry("레버쿠젠", 72L),
+            Map.entry("프랑크푸르트", 73L),
+            Map.entry("도르트문트", 74L),
+            Map.entry("프라이부르크", 75L),
+            Map.entry("마인츠", 76L),
+            Map.entry("라이프치히", 77L),
+            Map.entry("브레멘", 78L),
+            Map.entry("슈투트가르트", 79L),
+            Map.entry("글라트바흐", 80L),
+            Map.entry("볼프스부르크", 81L),
+            Map.entry("아우크스부르크", 82L),
+            Map.entry("우니온 베를린", 83L),
+            Map.entry("상 파울리", 84L),
+            Map.entry("호펜하임", 85L),
+            Map.entry("하이덴하임", 86L),
+            Map.entry("함부르크", 87L),
+            Map.entry("쾰른", 88L)
+    );
 
     /**
      * Chrome WebDriver 설정 및 생성
@@ -100,12 +101,16 @@ public class BundesligaCrawlerService extends BaseCrawlerService {
         return "LIVE";
     }
 
-    /**
-     * 팀 이름으로 팀 ID 조회
-     */
-    public Long getTeamId(String teamName) {
-        return TEAM_NAME_TO_ID.get(teamName);
+    @Override
+    public long leagueId() {
+        return LEAGUE_ID;
     }
+
+    @Override
+    public Map<String, Long> teamAliases() {
+        return TEAM_ALIASES;
+    }
+
     // Public wrapper methods for external classes
     public WebDriver setupDriver() {
         return super.setupDriver();
@@ -14,6 +14,7 @@ import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -29,8 +30,13 @@ import java.util.List;
 @Slf4j
 public class BundesligaLiveScoreUpdater {
 
+    // 관리자 수동 실행(AdminController)과 같은 작업 키
+    private static final String JOB_KEY = "live:BUNDESLIGA";
+
     private final MatchRepository matchRepository;
     private final BundesligaCrawlerService crawlerService;
+    private final JobGuard jobGuard;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 서버 시작 시 LIVE 상태로 남아있는 경기들을 즉시 크롤링하여 업데이트
@@ -38,6 +44,10 @@ public class BundesligaLiveScoreUpdater {
      * 서버가 중단되었다가 다시 시작되면 실제 경기 상태를 확인하여 동기화
      */
     @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        runExclusive(this::checkStuckLiveMatchesOnStartup);
+    }
+
     @Transactional
     public void checkStuckLiveMatchesOnStartup() {
         log.info("🔍 [Bundesliga] 서버 시작 - LIVE 상태 경기 즉시 크롤링 시작");
@@ -141,7 +151,11 @@ public class BundesligaLiveScoreUpdater {
      * fixedDelay: 이전 실행이 끝난 후 10초 대기
      * initialDelay: 서버 시작 후 15초 뒤 첫 실행 (EPL/NBA와 시간 차이)
      */
-    @Scheduled(fixedDelay = 60000, initialDelay = 15000)
+    @Scheduled(fixedDelay = 60000, initialDelay = 15000, scheduler = "liveScheduler")
+    public void scheduledUpdateLiveScores() {
+        runExclusive(this::updateLiveScores);
+    }
+
     @Transactional
     public void updateLiveScores() {
         // 분데스리가 리그의 LIVE 경기 조회 (날짜 관계없이 LIVE 상태만 추적)
@@ -483,7 +497,11 @@ public class BundesligaLiveScoreUpdater {
      * 5분마다 실행하여 경기 시작 확인
      * 분데스리가 리그만 처리
      */
-    @Scheduled(fixedDelay = 300000, initialDelay = 75000)
+    @Scheduled(fixedDelay = 300000, initialDelay = 75000, scheduler = "liveScheduler")
+    public void scheduledCheckMatchStartTime() {
+        runExclusive(this::checkMatchStartTime);
+    }
+
     @Transactional
     public void checkMatchStartTime() {
         // DB에 저장된 시간은 한국 시간이므로, 현재 시간도 한국 시간으로 가져와야 함
@@ -533,4 +551,16 @@ public class BundesligaLiveScoreUpdater {
             log.debug("⏳ [Bundesliga] 아직 시작할 경기 없음 (대기 중: {}개)", notYetCount);
         }
     }
+
+    /**
+     * 같은 리그 실시간 작업(관리자 수동 실행 포함)이 실행 중이면 건너뜀
+     * (자기 호출이라 @Transactional 대신 TransactionTemplate 으로 트랜잭션 시작)
+     */
+    private void runExclusive(Runnable task) {
+        boolean ran = jobGuard.runExclusive(JOB_KEY,
+                () -> transactionTemplate.executeWithoutResult(status -> task.run()));
+        if (!ran) {
+            log.debug("[Bundesliga] 실시간 작업 실행 중 - 건너뜀");
+        }
+    }
 }
@@ -0,0 +1,74 @@
+package com.example.backend.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 크롤링 페이지 내용 해시 저장소 (crawl_cache)
+ * - 크롤링 전에 지난 해시를 읽어 내용이 같은 페이지는 파싱/DB 반영 생략
+ * - 해시는 DB 반영이 끝난 뒤에만 기록 (저장 실패 시 다음 크롤링에서 다시 반영)
+ */
+@Component
+@RequiredArgsConstructor
+public class CrawlCache {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO crawl_cache (cache_key, content_hash, checked_at, changed_at) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "changed_at = IF(content_hash = VALUES(content_hash), changed_at, VALUES(changed_at)), " +
+            "content_hash = VALUES(content_hash), " +
+            "checked_at = VALUES(checked_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일정 페이지 캐시 키
+     */
+    public static String scheduleKey(String leagueKey, YearMonth month) {
+        return "schedule:" + leagueKey + ":" + month;
+    }
+
+    /**
+     * 캐시 키 → 마지막 내용 해시
+     */
+    public Map<String, String> findHashes(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(keys.size(), "?"));
+        Map<String, String> hashes = new HashMap<>();
+        jdbcTemplate.query("SELECT cache_key, content_hash FROM crawl_cache WHERE cache_key IN (" + placeholders + ")",
+                rs -> {
+                    hashes.put(rs.getString("cache_key"), rs.getString("content_hash"));
+                },
+                keys.toArray());
+        return hashes;
+    }
+
+    /**
+     * 캐시 키 → 새 내용 해시 기록
+     */
+    public void record(Map<String, String> hashes) {
+        if (hashes.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+        List<Object[]> batchArgs = new ArrayList<>(hashes.size());
+        hashes.forEach((key, hash) -> batchArgs.add(new Object[]{key, hash, now, now}));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+    }
+}
@@ -7,7 +7,6 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -16,34 +15,36 @@ import java.util.Map;
  */
 @Service
 @Slf4j
-public class EplCrawlerService extends BaseCrawlerService {
+public class EplCrawlerService extends BaseCrawlerService implements TeamAliasSource {
+
+    private static final long LEAGUE_ID = 1L;
 
     /**
-     * 팀 이름과 DB team_id 매핑
-     * 크롤링한 팀 이름을 DB의 team_id로 변환
+     * 네이버 스포츠 팀 표기와 DB team_id 매핑 (기본 별칭)
+     * 실제 조회는 TeamNameResolver 가 팀 이름 → 별칭 → 유사 이름 순으로 처리
      */
-    public static final Map<String, Long> TEAM_NAME_TO_ID = new HashMap<>() {{
-        put("노팅엄", 1L);
-        put("뉴캐슬", 2L);
-        put("리버풀", 3L);
-        put("리즈", 4L);
-        put("맨시티", 5L);
-        put("맨유", 6L);
-        put("번리", 7L);
-        put("본머스", 8L);
-        put("브라이턴", 9L);
-        put("브렌트퍼드", 10L);
-        put("선덜랜드", 11L);
-        put("아스널", 12L);
-        put("애스턴 빌라", 13L);
-        put("에버턴", 14L);
-        put("울버햄튼", 15L);
-        put("웨스트햄", 16L);
-        put("첼시", 17L);
-        put("토트넘", 18L);
-        put("팰리스", 19L);
-        put("풀럼", 20L);
-    }};
+    private static final Map<String, Long> TEAM_ALIASES = Map.ofEntries(
+            Map.entry("노팅엄", 1L),
+            Map.entry("뉴캐슬", 2L),
+            Map.entry("리버풀", 3L),
+            Map.entry("리즈", 4L),
+            Map.entry("맨시티", 5L),
+            Map.entry("맨유", 6L),
+            Map.entry("번리", 7L),
+            Map.entry("본머스", 8L),
+            Map.entry("브라이턴", 9L),
+            Map.entry("브렌트퍼드", 10L),
+            Map.entry("선덜랜드", 11L),
+            Map.entry("아스널", 12L),
+            Map.entry("애스턴 빌라", 13L),
+            Map.entry("에버턴", 14L),
+            Map.entry("울버햄튼", 15L),
+            Map.entry("웨스트햄", 16L),
+            Map.entry("첼시", 17L),
+            Map.entry("토트넘", 18L),
+            Map.entry("팰리스", 19L),
+            Map.entry("풀럼", 20L)
+    );
 
     /**
      * 경기 상태 텍스트 변환
@@ -93,10 +94,13 @@ public class EplCrawlerService extends BaseCrawlerService {
         return "LIVE";
     }
 
-    /**
-     * 팀 이름으로 팀 ID 조회
-     */
-    public Long getTeamId(String teamName) {
-        return TEAM_NAME_TO_ID.get(teamName);
+    @Override
+    public long leagueId() {
+        return LEAGUE_ID;
+    }
+
+    @Override
+    public Map<String, Long> teamAliases() {
+        return TEAM_ALIASES;
     }
 }
\ No newline at end of file
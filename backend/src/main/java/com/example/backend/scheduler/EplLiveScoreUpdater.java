@@ -14,6 +14,7 @@ import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -29,8 +30,13 @@ import java.util.List;
 @Slf4j
 public class EplLiveScoreUpdater {
 
+    // 관리자 수동 실행(AdminController)과 같은 작업 키
+    private static final String JOB_KEY = "live:EPL";
+
     private final MatchRepository matchRepository;
     private final EplCrawlerService crawlerService;
+    private final JobGuard jobGuard;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 서버 시작 시 LIVE 상태로 남아있는 경기들을 즉시 크롤링하여 업데이트
@@ -38,6 +44,10 @@ public class EplLiveScoreUpdater {
      * 서버가 중단되었다가 다시 시작되면 실제 경기 상태를 확인하여 동기화
      */
     @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        runExclusive(this::checkStuckLiveMatchesOnStartup);
+    }
+
     @Transactional
     public void checkStuckLiveMatchesOnStartup() {
         log.info("🔍 [EPL] 서버 시작 - LIVE 상태 경기 즉시 크롤링 시작");
@@ -142,7 +152,11 @@ public class EplLiveScoreUpdater {
      * initialDelay: 서버 시작 후 10초 뒤 첫 실행
      * LIVE 상태 경기를 조회하므로 자정을 넘어가도 계속 추적 가능
      */
-    @Scheduled(fixedDelay = 60000, initialDelay = 10000)
+    @Scheduled(fixedDelay = 60000, initialDelay = 10000, scheduler = "liveScheduler")
+    public void scheduledUpdateLiveScores() {
+        runExclusive(this::updateLiveScores);
+    }
+
     @Transactional
     public void updateLiveScores() {
         // EPL 리그의 LIVE 상태 경기 조회 (날짜와 관계없이)
@@ -456,7 +470,11 @@ public class EplLiveScoreUpdater {
      * 5분마다 실행하여 경기 시작 확인
      * EPL 리그만 처리
      */
-    @Scheduled(fixedDelay = 300000, initialDelay = 60000)
+    @Scheduled(fixedDelay = 300000, initialDelay = 60000, scheduler = "liveScheduler")
+    public void scheduledCheckMatchStartTime() {
+        runExclusive(this::checkMatchStartTime);
+    }
+
     @Transactional
     public void checkMatchStartTime() {
         // DB에 저장된 시간은 한국 시간이므로, 현재 시간도 한국 시간으로 가져와야 함
@@ -506,4 +524,16 @@ public class EplLiveScoreUpdater {
             log.debug("⏳ [EPL] 아직 시작할 경기 없음 (대기 중: {}개)", notYetCount);
         }
     }
+
+    /**
+     * 같은 리그 실시간 작업(관리자 수동 실행 포함)이 실행 중이면 건너뜀
+     * (자기 호출이라 @Transactional 대신 TransactionTemplate 으로 트랜잭션 시작)
+     */
+    private void runExclusive(Runnable task) {
+        boolean ran = jobGuard.runExclusive(JOB_KEY,
+                () -> transactionTemplate.executeWithoutResult(status -> task.run()));
+        if (!ran) {
+            log.debug("[EPL] 실시간 작업 실행 중 - 건너뜀");
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.example.backend.scheduler;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 작업 중복 실행 방지
+ * - 같은 키(예: "crawl:EPL")의 작업은 동시에 하나만 실행
+ * - 관리자가 같은 크롤링을 여러 번 요청해도 실행 중이면 거부
+ */
+@Component
+public class JobGuard {
+
+    public enum SubmitResult {
+        SUBMITTED,          // 실행 예약됨
+        ALREADY_RUNNING,    // 같은 작업이 이미 실행 중
+        REJECTED            // 스레드 풀 대기열 초과
+    }
+
+    private final Set<String> runningKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 실행기에 작업 제출 (같은 키 작업이 실행/대기 중이면 거부)
+     */
+    public SubmitResult submit(String key, Executor executor, Runnable task) {
+        if (!runningKeys.add(key)) {
+            return SubmitResult.ALREADY_RUNNING;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    runningKeys.remove(key);
+                }
+            });
+            return SubmitResult.SUBMITTED;
+        } catch (RejectedExecutionException e) {
+            runningKeys.remove(key);
+            return SubmitResult.REJECTED;
+        }
+    }
+
+    /**
+     * 현재 스레드에서 작업 실행 (같은 키 작업이 실행 중이면 건너뜀)
+     *
+     * @return 실행했으면 true
+     */
+    public boolean runExclusive(String key, Runnable task) {
+        if (!runningKeys.add(key)) {
+            return false;
+        }
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            runningKeys.remove(key);
+        }
+    }
+
+    /**
+     * 작업 키 선점 (실행 중이면 false)
+     * 선점했으면 작업이 끝난 뒤 반드시 release 호출
+     */
+    public boolean tryAcquire(String key) {
+        return runningKeys.add(key);
+    }
+
+    /**
+     * tryAcquire 로 선점한 작업 키 해제
+     */
+    public void release(String key) {
+        runningKeys.remove(key);
+    }
+}
@@ -7,7 +7,6 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -16,24 +15,26 @@ import java.util.Map;
  */
 @Service
 @Slf4j
-public class KblCrawlerService extends BaseCrawlerService {
+public class KblCrawlerService extends BaseCrawlerService implements TeamAliasSource {
+
+    private static final long LEAGUE_ID = 10L;
 
     /**
-     * 팀 이름과 DB team_id 매핑
-     * 크롤링한 팀 이름을 DB의 team_id로 변환
+     * 네이버 스포츠 팀 표기와 DB team_id 매핑 (기본 별칭)
+     * 실제 조회는 TeamNameResolver 가 팀 이름 → 별칭 → 유사 이름 순으로 처리
      */
-    public static final Map<String, Long> TEAM_NAME_TO_ID = new HashMap<>() {{
-        put("서울 SK", 147L);
-        put("창원 LG", 148L);
-        put("울산 현대모비스", 149L);
-        put("수원 KT", 150L);
-        put("대구 한국가스공사", 151L);
-        put("안양 정관장", 152L);
-        put("원주 DB", 153L);
-        put("고양 소노", 154L);
-        put("부산 KCC", 155L);
-        put("서울 삼성", 156L);
-    }};
+    private static final Map<String, Long> TEAM_ALIASES = Map.ofEntries(
+            Map.entry("서울 SK", 147L),
+            Map.entry("창원 LG", 148L),
+            Map.entry("울산 현대모비스", 149L),
+            Map.entry("수원 KT", 150L),
+            Map.entry("대구 한국가스공사", 151L),
+            Map.entry("안양 정관장", 152L),
+            Map.entry("원주 DB", 153L),
+            Map.entry("고양 소노", 154L),
+            Map.entry("부산 KCC", 155L),
+            Map.entry("서울 삼성", 156L)
+    );
 
     /**
      * Chrome WebDriver 설정 및 생성
@@ -93,12 +94,16 @@ public class KblCrawlerService extends BaseCrawlerService {
         return "LIVE";
     }
 
-    /**
-     * 팀 이름으로 팀 ID 조회
-     */
-    public Long getTeamId(String teamName) {
-        return TEAM_NAME_TO_ID.get(teamName);
+    @Override
+    public long leagueId() {
+        return LEAGUE_ID;
     }
+
+    @Override
+    public Map<String, Long> teamAliases() {
+        return TEAM_ALIASES;
+    }
+
     // Public wrapper methods for external classes
     public WebDriver setupDriver() {
         return super.setupDriver();
@@ -7,7 +7,6 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -16,34 +15,36 @@ import java.util.Map;
  */
 @Service
 @Slf4j
-public class LaLigaCrawlerService extends BaseCrawlerService {
+public class LaLigaCrawlerService extends BaseCrawlerService implements TeamAliasSource {
+
+    private static final long LEAGUE_ID = 7L;
 
     /**
-     * 팀 이름과 DB team_id 매핑
-     * 크롤링한 팀 이름을 DB의 team_id로 변환
+     * 네이버 스포츠 팀 표기와 DB team_id 매핑 (기본 별칭)
+     * 실제 조회는 TeamNameResolver 가 팀 이름 → 별칭 → 유사 이름 순으로 처리
      */
-    public static final Map<String, Long> TEAM_NAME_TO_ID = new HashMap<>() {{
-        put("바르셀로나", 89L);
-        put("레알 마드리드", 90L);
-        put("아틀레티코", 91L);
-        put("빌바오", 92L);
-        put("비야레알", 93L);
-        put("베티스", 94L);
-        put("셀타 데 비고", 95L);
-        put("라요 바예카노", 96L);
-        put("오사수나", 97L);
-        put("마요르카", 98L);
-        put("소시에다드", 99L);
-        put("발렌시아", 100L);
-        put("헤타페", 101L);
-        put("에스파뇰", 102L);
-        put("알라베스", 103L);
-        put("지로나", 104L);
-        put("세비야", 105L);
-        put("엘체", 106L);
-        put("레반테", 107L);
-        put("오비에도", 108L);
-    }};
+    private static final Map<String, Long> TEAM_ALIASES = Map.ofEntries(
+            Map.entry("바르셀로나", 89L),
+            Map.entry("레알 마드리드", 90L),
+            Map.entry("아틀레티코", 91L),
+            Map.entry("빌바오", 92L),
+            Map.entry("비야레알", 93L),
+            Map.entry("베티스", 94L),
+            Map.entry("셀타 데 비고", 95L),
+            Map.entry("라요 바예카노", 96L),
+            Map.entry("오사수나", 97L),
+            Map.entry("마요르카", 98L),
+            Map.entry("소시에다드", 99L),
+            Map.entry("발렌시아", 100L),
+            Map.entry("헤타페", 101L),
+            Map.entry("에스파뇰", 102L),
+            Map.entry("알라베스", 103L),
+            Map.entry("지로나", 104L),
+            Map.entry("세비야", 105L),
+            Map.entry("엘체", 106L),
+            Map.entry("레반테", 107L),
+            Map.entry("오비에도", 108L)
+    );
 
     /**
      * Chrome WebDriver 설정 및 생성
@@ -102,12 +103,16 @@ public class LaLigaCrawlerService extends BaseCrawlerService {
         return "LIVE";
     }
 
-    /**
-     * 팀 이름으로 팀 ID 조회
-     */
-    public Long getTeamId(String teamName) {
-        return TEAM_NAME_TO_ID.get(teamName);
+    @Override
+    public long leagueId() {
+        return LEAGUE_ID;
     }
+
+    @Override
+    public Map<String, Long> teamAliases() {
+        return TEAM_ALIASES;
+    }
+
     // Public wrapper methods for external classes
     public WebDriver setupDriver() {
         return super.setupDriver();
@@ -1,11 +1,6 @@
 package com.example.backend.scheduler;
 
 import com.example.backend.dto.MatchCrawlDto;
-import com.example.backend.entity.League;
-import com.example.backend.entity.Match;
-import com.example.backend.entity.Team;
-import com.example.backend.repository.MatchRepository;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
@@ -19,131 +14,99 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 라리가 전체 시즌 일정 크롤러
- * AdminController API를 통해 수동 실행
+ * AdminController API → ScheduleCrawlOrchestrator 를 통해 수동 실행
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class LaLigaScheduleCrawler {
+public class LaLigaScheduleCrawler implements SeasonScheduleCrawler {
 
-    private final MatchRepository matchRepository;
-    private final LaLigaCrawlerService crawlerService;
-    private final EntityManager entityManager;
+    private static final long LEAGUE_ID = 7L;
 
-    /**
-     * 전체 시즌 크롤링 실행
-     * 2025년 8월 ~ 2026년 5월
-     */
-    @Transactional
-    public void crawlFullSeason() {
-        log.info("=".repeat(60));
-        log.info("라리가 2025-2026 시즌 전체 일정 크롤링 시작");
-        log.info("기간: 2025년 8월 ~ 2026년 5월");
-        log.info("=".repeat(60));
+    // 네이버 스포츠 라리가 일정 페이지
+    private static final String SCHEDULE_URL = "https://sports.news.naver.com/wfootball/schedule/index?category=primera";
+    private static final String MATCH_GROUP_SELECTOR = ".ScheduleLeagueType_match_list_group__\\+\\+HQY";
+    private static final List<YearMonth> SEASON_MONTHS =
+            SeasonScheduleCrawler.months(YearMonth.of(2025, 8), YearMonth.of(2026, 5));
 
-        WebDriver driver = null;
-        List<MatchCrawlDto> allMatches = new ArrayList<>();
-        int successMonths = 0;
-        int failedMonths = 0;
-
-        try {
-            driver = crawlerService.setupDriver();
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-
-            // 네이버 스포츠 라리가 일정 페이지
-            String baseUrl = "https://sports.news.naver.com/wfootball/schedule/index?category=primera";
-            log.info("🌐 페이지 로드 중: {}", baseUrl);
+    private final LaLigaCrawlerService crawlerService;
+    private final ScheduleMatchWriter scheduleMatchWriter;
+    private final TeamNameResolver teamNameResolver;
 
-            // 페이지 로드 재시도 로직
-            boolean pageLoaded = false;
-            for (int retry = 0; retry < 3; retry++) {
-                try {
-                    driver.get(baseUrl);
-                    wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("body")));
-                    Thread.sleep(2000);  // 동적 콘텐츠 로딩 대기
-
-                    // 캘린더 탭이 로드되었는지 확인
-                    wait.until(ExpectedConditions.presenceOfElementLocated(
-                        By.cssSelector(".CalendarDate_tab__WFXXe")));
-
-                    pageLoaded = true;
-                    log.info("✅ 페이지 로드 완료");
-                    break;
-                } catch (Exception e) {
-                    log.warn("⚠️ 페이지 로딩 실패 (시도 {}/3): {}", retry + 1, e.getMessage());
-                    if (retry < 2) {
-                        Thread.sleep(2000);
-                    }
-                }
-            }
+    @Override
+    public String leagueKey() {
+        return "LALIGA";
+    }
 
-            if (!pageLoaded) {
-                throw new RuntimeException("페이지 로드 실패: 3번 시도 후에도 실패");
-            }
+    @Override
+    public String scheduleUrl() {
+        return SCHEDULE_URL;
+    }
 
-            // 2025년 8월~12월 크롤링
-            for (int month = 8; month <= 12; month++) {
-                try {
-                    List<MatchCrawlDto> monthMatches = crawlMonthSchedule(driver, wait, 2025, month);
-                    allMatches.addAll(monthMatches);
-                    successMonths++;
-                    Thread.sleep(1500);  // 월 간 전환 대기
-                } catch (Exception e) {
-                    log.error("  ❌ {}년 {}월 크롤링 실패 - 다음 달로 계속 진행", 2025, month, e);
-                    failedMonths++;
-                }
-            }
+    /**
+     * 2025년 8월 ~ 2026년 5월
+     */
+    @Override
+    public List<YearMonth> seasonMonths() {
+        return SEASON_MONTHS;
+    }
 
-            // 2026년 1월~5월 크롤링
-            for (int month = 1; month <= 5; month++) {
-                try {
-                    List<MatchCrawlDto> monthMatches = crawlMonthSchedule(driver, wait, 2026, month);
-                    allMatches.addAll(monthMatches);
-                    successMonths++;
-                    Thread.sleep(1500);  // 월 간 전환 대기
-                } catch (Exception e) {
-                    log.error("  ❌ {}년 {}월 크롤링 실패 - 다음 달로 계속 진행", 2026, month, e);
-                    failedMonths++;
-                }
-            }
+    @Override
+    public WebDriver openBrowser() {
+        return crawlerService.setupDriver();
+    }
 
-            log.info("🎉 전체 시즌 크롤링 완료!");
-            log.info("📊 총 수집 경기: {}경기", allMatches.size());
-            log.info("📈 성공한 월: {}개, 실패한 월: {}개", successMonths, failedMonths);
+    /**
+     * 특정 월 크롤링 (일정 페이지를 새로 열고 월 탭 선택)
+     * 작업마다 페이지를 다시 열어 이전 작업의 상태와 무관하게 실행
+     */
+    @Override
+    public MonthSchedule crawlMonth(WebDriver driver, YearMonth month, String knownHash) throws InterruptedException {
+        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        openSchedulePage(driver, wait);
+        return crawlMonthSchedule(driver, wait, month.getYear(), month.getMonthValue(), knownHash);
+    }
 
-            // DB에 저장
-            if (!allMatches.isEmpty()) {
-                saveMatchesToDatabase(allMatches);
-            } else {
-                log.warn("⚠️ 수집된 경기가 없습니다. DB 저장을 건너뜁니다.");
-            }
+    /**
+     * 라리가 일정 페이지 로드 (최대 3번 시도)
+     */
+    private void openSchedulePage(WebDriver driver, WebDriverWait wait) throws InterruptedException {
+        for (int retry = 0; retry < 3; retry++) {
+            try {
+                driver.get(SCHEDULE_URL);
+                wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("body")));
+                Thread.sleep(2000);  // 동적 콘텐츠 로딩 대기
 
-        } catch (Exception e) {
-            log.error("❌ 크롤링 전체 실패", e);
-        } finally {
-            if (driver != null) {
-                try {
-                    driver.quit();
-                    log.info("🔌 WebDriver 종료 완료");
-                } catch (Exception e) {
-                    log.warn("⚠️ WebDriver 종료 중 오류: {}", e.getMessage());
+                // 캘린더 탭이 로드되었는지 확인
+                wait.until(ExpectedConditions.presenceOfElementLocated(
+                    By.cssSelector(".CalendarDate_tab__WFXXe")));
+                return;
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                log.warn("⚠️ 페이지 로딩 실패 (시도 {}/3): {}", retry + 1, e.getMessage());
+                if (retry < 2) {
+                    Thread.sleep(2000);
                 }
             }
         }
+        throw new RuntimeException("페이지 로드 실패: 3번 시도 후에도 실패");
     }
 
     /**
      * 특정 월의 경기 일정 크롤링
+     * 경기 목록 내용이 knownHash 와 같으면 파싱하지 않음
      */
-    private List<MatchCrawlDto> crawlMonthSchedule(WebDriver driver, WebDriverWait wait, int year, int month) {
+    private MonthSchedule crawlMonthSchedule(WebDriver driver, WebDriverWait wait, int year, int month, String knownHash) {
         log.info("📅 {}년 {}월 크롤링 중...", year, month);
         List<MatchCrawlDto> monthMatches = new ArrayList<>();
+        String contentHash = null;
         int retries = 0;
         int maxRetries = 3;
 
@@ -179,6 +142,13 @@ public class LaLigaScheduleCrawler {
 
                 log.info("  ✅ {}개의 날짜 발견", dateGroups.size());
 
+                // 지난 크롤링과 내용이 같으면 파싱 생략
+                contentHash = SeasonScheduleCrawler.contentHash(driver, MATCH_GROUP_SELECTOR);
+                if (contentHash.equals(knownHash)) {
+                    log.info("  ⏭️ {}년 {}월: 변경 없음 - 파싱 생략", year, month);
+                    return new MonthSchedule(contentHash, null);
+                }
+
                 for (WebElement group : dateGroups) {
                     try {
                         // 날짜 제목
@@ -223,7 +193,7 @@ public class LaLigaScheduleCrawler {
             }
         }
 
-        return monthMatches;
+        return new MonthSchedule(contentHash, monthMatches);
     }
 
     /**
@@ -336,134 +306,12 @@ public class LaLigaScheduleCrawler {
     }
 
     /**
-     * 크롤링한 데이터를 DB에 저장
+     * 크롤링한 데이터를 DB에 저장 (league_id = 7)
      */
+    @Override
     @Transactional
-    public void saveMatchesToDatabase(List<MatchCrawlDto> matchDtos) {
-        log.info("💾 DB 저장 시작... (총 {}경기)", matchDtos.size());
-
-        int newMatchCount = 0;
-        int updatedMatchCount = 0;
-        int skippedCount = 0;
-
-        // 라리가 리그 조회 (league_id = 7)
-        League laLigaLeague;
-        try {
-            laLigaLeague = entityManager.getReference(League.class, 7L);
-        } catch (Exception e) {
-            log.error("❌ 라리가 리그 정보를 찾을 수 없습니다. DB에 리그 데이터가 있는지 확인하세요.", e);
-            return;
-        }
-
-        for (MatchCrawlDto dto : matchDtos) {
-            try {
-                // 팀 ID 조회
-                Long homeTeamId = crawlerService.getTeamId(dto.getHomeTeamName());
-                Long awayTeamId = crawlerService.getTeamId(dto.getAwayTeamName());
-
-                if (homeTeamId == null || awayTeamId == null) {
-                    log.debug("  ⚠️ 팀 매핑 실패: {} vs {} (DB에 팀 정보 없음)", dto.getHomeTeamName(), dto.getAwayTeamName());
-                    skippedCount++;
-                    continue;
-                }
-
-                // 팀 엔티티 참조
-                Team homeTeam = entityManager.getReference(Team.class, homeTeamId);
-                Team awayTeam = entityManager.getReference(Team.class, awayTeamId);
-
-                // 이미 존재하는 경기인지 확인 (중복 방지)
-                // 날짜(연/월/일)가 정확히 같은 경기들을 먼저 찾음
-                LocalDateTime startOfDay = dto.getMatchDate().toLocalDate().atStartOfDay();
-                LocalDateTime startOfNextDay = startOfDay.plusDays(1);
-                List<Match> existingMatches = matchRepository.findByMatchDate(startOfDay, startOfNextDay);
-
-                // 같은 팀 조합의 경기 필터링
-                List<Match> sameTeamMatches = existingMatches.stream()
-                        .filter(m -> m.getHomeTeam().getTeamId().equals(homeTeamId)
-                                && m.getAwayTeam().getTeamId().equals(awayTeamId))
-                        .collect(Collectors.toList());
-
-                // 같은 날짜, 같은 팀 조합의 경기가 여러 개 있을 경우 LIVE 우선 선택
-                Match existingMatch = null;
-                if (!sameTeamMatches.isEmpty()) {
-                    existingMatch = sameTeamMatches.stream()
-                            .filter(m -> "LIVE".equals(m.getStatus()))
-                            .findFirst()
-                            .orElse(sameTeamMatches.get(0)); // LIVE가 없으면 첫 번째 경기
-                }
-
-                if (existingMatch != null) {
-                    // 기존 경기 업데이트
-                    // ⚠️ 중요: FINISHED 경기는 상태를 변경하지 않음 (보호)
-                    String currentStatus = existingMatch.getStatus();
-
-                    if (!"FINISHED".equals(currentStatus)) {
-                        // FINISHED가 아닌 경우에만 상태 업데이트
-                        existingMatch.setStatus(dto.getStatus());
-                        existingMatch.setVenue(dto.getVenue());
-
-                        // SCHEDULED 상태는 무조건 점수를 null로 설정
-                        if ("SCHEDULED".equals(dto.getStatus()) || "POSTPONED".equals(dto.getStatus())) {
-                            existingMatch.setHomeScore(null);
-                            existingMatch.setAwayScore(null);
-                        } else {
-                            // LIVE나 다른 상태는 크롤링된 점수 사용
-                            existingMatch.setHomeScore(dto.getHomeScore());
-                            existingMatch.setAwayScore(dto.getAwayScore());
-                        }
-
-                        matchRepository.save(existingMatch);
-                        updatedMatchCount++;
-                        log.debug("  ✅ 업데이트: {} vs {} ({})",
-                            dto.getHomeTeamName(), dto.getAwayTeamName(), dto.getStatus());
-                    } else if ("FINISHED".equals(dto.getStatus())) {
-                        // 둘 다 FINISHED인 경우는 점수만 업데이트 (점수 수정 가능성)
-                        existingMatch.setHomeScore(dto.getHomeScore());
-                        existingMatch.setAwayScore(dto.getAwayScore());
-                        matchRepository.save(existingMatch);
-                        updatedMatchCount++;
-                        log.debug("  ✅ 점수 업데이트: {} {} - {} {}",
-                            dto.getHomeTeamName(), dto.getHomeScore(), dto.getAwayScore(), dto.getAwayTeamName());
-                    } else {
-                        // 기존 FINISHED 경기를 다른 상태로 변경하려는 시도 차단
-                        log.debug("  ⏭️ FINISHED 경기 보호: {} vs {}", dto.getHomeTeamName(), dto.getAwayTeamName());
-                        skippedCount++;
-                    }
-                } else {
-                    // 새 경기 생성
-                    Match match = new Match();
-                    match.setLeague(laLigaLeague);
-                    match.setHomeTeam(homeTeam);
-                    match.setAwayTeam(awayTeam);
-                    match.setMatchDate(dto.getMatchDate());
-                    match.setVenue(dto.getVenue());
-                    match.setStatus(dto.getStatus());
-
-                    // SCHEDULED 상태는 무조건 점수를 null로 설정
-                    if ("SCHEDULED".equals(dto.getStatus()) || "POSTPONED".equals(dto.getStatus())) {
-                        match.setHomeScore(null);
-                        match.setAwayScore(null);
-                    } else {
-                        match.setHomeScore(dto.getHomeScore());
-                        match.setAwayScore(dto.getAwayScore());
-                    }
-
-                    matchRepository.save(match);
-                    newMatchCount++;
-                    log.debug("  ✨ 새 경기: {} vs {} ({})",
-                        dto.getHomeTeamName(), dto.getAwayTeamName(), dto.getMatchDate().toLocalDate());
-                }
-
-            } catch (Exception e) {
-                log.warn("  ⚠️ 경기 저장 실패: {} vs {} - {}",
-                    dto.getHomeTeamName(), dto.getAwayTeamName(), e.getMessage());
-                skippedCount++;
-            }
-        }
-
-        log.info("✅ DB 저장 완료!");
-        log.info("  ✨ 새 경기: {}개", newMatchCount);
-        log.info("  🔄 업데이트: {}개", updatedMatchCount);
-        log.info("  ⏭️ 스킵: {}개", skippedCount);
+    public ScheduleMatchWriter.Result saveMatchesToDatabase(List<MatchCrawlDto> matchDtos) {
+        return scheduleMatchWriter.save(LEAGUE_ID, "라리가", matchDtos,
+                teamName -> teamNameResolver.resolve(LEAGUE_ID, teamName), false);
     }
 }
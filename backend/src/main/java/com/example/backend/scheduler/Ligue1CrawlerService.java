@@ -7,7 +7,6 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -16,32 +15,34 @@ import java.util.Map;
  */
 @Service
 @Slf4j
-public class Ligue1CrawlerService extends BaseCrawlerService {
+public class Ligue1CrawlerService extends BaseCrawlerService implements TeamAliasSource {
+
+    private static final long LEAGUE_ID = 9L;
 
     /**
-     * 팀 이름과 DB team_id 매핑
-     * 크롤링한 팀 이름을 DB의 team_id로 변환
+     * 네이버 스포츠 팀 표기와 DB team_id 매핑 (기본 별칭)
+     * 실제 조회는 TeamNameResolver 가 팀 이름 → 별칭 → 유사 이름 순으로 처리
      */
-    public static final Map<String, Long> TEAM_NAME_TO_ID = new HashMap<>() {{
-        put("PSG", 129L);
-        put("마르세유", 130L);
-        put("모나코", 131L);
-        put("니스", 132L);
-        put("릴", 133L);
-        put("리옹", 134L);
-        put("스트라스부르", 135L);
-        put("랑스", 136L);
-        put("브레스트", 137L);
-        put("툴루즈", 138L);
-        put("오세르", 139L);
-        put("렌", 140L);
-        put("낭트", 141L);
-        put("앙제", 142L);
-        put("르 아브르", 143L);
-        put("파리", 144L);
-        put("메스", 145L);
-        put("로리앙", 146L);
-    }};
+    private static final Map<String, Long> TEAM_ALIASES = Map.ofEntries(
+            Map.entry("PSG", 129L),
+            Map.entry("마르세유", 130L),
+            Map.entry("모나코", 131L),
+            Map.entry("니스", 132L),
+            Map.entry("릴", 133L),
+            Map.entry("리옹", 134L),
+            Map.entry("스트라스부르", 135L),
+            Map.entry("랑스", 136L),
+            Map.entry("브레스트", 137L),
+            Map.entry("툴루즈", 138L),
+            Map.entry("오세르", 139L),
+            Map.entry("렌", 140L),
+            Map.entry("낭트", 141L),
+            Map.entry("앙제", 142L),
+            Map.entry("르 아브르", 143L),
+            Map.entry("파리", 144L),
+            Map.entry("메스", 145L),
+            Map.entry("로리앙", 146L)
+    );
 
     /**
      * Chrome WebDriver 설정 및 생성
@@ -100,12 +101,16 @@ public class Ligue1CrawlerService extends BaseCrawlerService {
         return "LIVE";
     }
 
-    /**
-     * 팀 이름으로 팀 ID 조회
-     */
-    public Long getTeamId(String teamName) {
-        return TEAM_NAME_TO_ID.get(teamName);
+    @Override
+    public long leagueId() {
+        return LEAGUE_ID;
     }
+
+    @Override
+    public Map<String, Long> teamAliases() {
+        return TEAM_ALIASES;
+    }
+
     // Public wrapper methods for external classes
     public WebDriver setupDriver() {
         return super.setupDriver();
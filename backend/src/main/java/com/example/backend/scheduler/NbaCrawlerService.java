@@ -7,7 +7,6 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -16,79 +15,48 @@ import java.util.Map;
  */
 @Service
 @Slf4j
-public class NbaCrawlerService extends BaseCrawlerService {
+public class NbaCrawlerService extends BaseCrawlerService implements TeamAliasSource {
+
+    private static final long LEAGUE_ID = 2L;
 
     /**
-     * NBA 팀 이름과 DB team_id 매핑
-     * 크롤링한 팀 이름을 DB의 team_id로 변환
-     * DB의 실제 팀 이름과 네이버 스포츠 크롤링 이름 모두 매핑
+     * 네이버 스포츠 팀 표기와 DB team_id 매핑 (기본 별칭)
+     * 실제 조회는 TeamNameResolver 가 팀 이름 → 별칭 → 유사 이름 순으로 처리
      */
-    public static final Map<String, Long> TEAM_NAME_TO_ID = new HashMap<>() {{
-        // 네이버 스포츠 크롤링 이름 (짧은 이름)
-        put("보스턴", 21L);
-        put("브루클린", 22L);
-        put("뉴욕", 23L);
-        put("필라델피아", 24L);
-        put("토론토", 25L);
-        put("시카고", 26L);
-        put("클리블랜드", 27L);
-        put("디트로이트", 28L);
-        put("인디애나", 29L);
-        put("밀워키", 30L);
-        put("애틀랜타", 31L);
-        put("샬럿", 32L);
-        put("마이애미", 33L);
-        put("올랜도", 34L);
-        put("워싱턴", 35L);
-        put("덴버", 36L);
-        put("미네소타", 37L);
-        put("오클라호마", 38L);
-        put("오클라호마시티", 38L);
-        put("포틀랜드", 39L);
-        put("유타", 40L);
-        put("골든스테이트", 41L);
-        put("LA클리퍼스", 42L);
-        put("LA레이커스", 43L);
-        put("피닉스", 44L);
-        put("새크라멘토", 45L);
-        put("댈러스", 46L);
-        put("휴스턴", 47L);
-        put("멤피스", 48L);
-        put("뉴올리언스", 49L);
-        put("샌안토니오", 50L);
-
-        // DB의 전체 팀 이름 (백업용)
-        put("보스턴 셀틱스", 21L);
-        put("브루클린 네츠", 22L);
-        put("뉴욕 닉스", 23L);
-        put("필라델피아 76ers", 24L);
-        put("토론토 랩터스", 25L);
-        put("시카고 불스", 26L);
-        put("클리블랜드 캐벌리어스", 27L);
-        put("디트로이트 피스톤즈", 28L);
-        put("인디애나 페이서스", 29L);
-        put("밀워키 벅스", 30L);
-        put("애틀랜타 호크스", 31L);
-        put("샬럿 호넷츠", 32L);
-        put("마이애미 히트", 33L);
-        put("올랜도 매직", 34L);
-        put("워싱턴 위저즈", 35L);
-        put("덴버 너기츠", 36L);
-        put("미네소타 팀버울브스", 37L);
-        put("오클라호마시티 썬더", 38L);
-        put("포틀랜드 트레일블레이저스", 39L);
-        put("유타 재즈", 40L);
-        put("골든스테이트 워리어스", 41L);
-        put("LA 클리퍼스", 42L);
-        put("LA 레이커스", 43L);
-        put("피닉스 선스", 44L);
-        put("새크라멘토 킹스", 45L);
-        put("댈러스 매버릭스", 46L);
-        put("휴스턴 로키츠", 47L);
-        put("멤피스 그리즐리스", 48L);
-        put("뉴올리언스 펠리컨스", 49L);
-        put("샌안토니오 스퍼스", 50L);
-    }};
+    private static final Map<String, Long> TEAM_ALIASES = Map.ofEntries(
+            // 네이버 스포츠 크롤링 이름 (짧은 이름)
+            Map.entry("보스턴", 21L),
+            Map.entry("브루클린", 22L),
+            Map.entry("뉴욕", 23L),
+            Map.entry("필라델피아", 24L),
+            Map.entry("토론토", 25L),
+            Map.entry("시카고", 26L),
+            Map.entry("클리블랜드", 27L),
+            Map.entry("디트로이트", 28L),
+            Map.entry("인디애나", 29L),
+            Map.entry("밀워키", 30L),
+            Map.entry("애틀랜타", 31L),
+            Map.entry("샬럿", 32L),
+            Map.entry("마이애미", 33L),
+            Map.entry("올랜도", 34L),
+            Map.entry("워싱턴", 35L),
+            Map.entry("덴버", 36L),
+            Map.entry("미네소타", 37L),
+            Map.entry("오클라호마", 38L),
+            Map.entry("오클라호마시티", 38L),
+            Map.entry("포틀랜드", 39L),
+            Map.entry("유타", 40L),
+            Map.entry("골든스테이트", 41L),
+            Map.entry("LA클리퍼스", 42L),
+            Map.entry("LA레이커스", 43L),
+            Map.entry("피닉스", 44L),
+            Map.entry("새크라멘토", 45L),
+            Map.entry("댈러스", 46L),
+            Map.entry("휴스턴", 47L),
+            Map.entry("멤피스", 48L),
+            Map.entry("뉴올리언스", 49L),
+            Map.entry("샌안토니오", 50L)
+    );
 
     /**
      * Chrome WebDriver 설정 및 생성
@@ -148,12 +116,16 @@ public class NbaCrawlerService extends BaseCrawlerService {
         return "LIVE";
     }
 
-    /**
-     * 팀 이름으로 팀 ID 조회
-     */
-    public Long getTeamId(String teamName) {
-        return TEAM_NAME_TO_ID.get(teamName);
+    @Override
+    public long leagueId() {
+        return LEAGUE_ID;
     }
+
+    @Override
+    public Map<String, Long> teamAliases() {
+        return TEAM_ALIASES;
+    }
+
     // Public wrapper methods for external classes
     public WebDriver setupDriver() {
         return super.setupDriver();
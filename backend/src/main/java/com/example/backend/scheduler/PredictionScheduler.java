@@ -38,7 +38,7 @@ public class PredictionScheduler {
      * - 상태가 'FINISHED'이고 아직 판정되지 않은 경기를 찾아서 판정
      * - 일반 경기(축구, 농구 등)와 MMA 경기 모두 판정
      */
-    @Scheduled(fixedDelay = 300000) // 5분 (300,000ms)
+    @Scheduled(fixedDelay = 300000, scheduler = "judgingScheduler") // 5분 (300,000ms)
     public void autoJudgePredictions() {
         log.info("=== 예측 자동 판정 스케줄러 시작 ===");
 
@@ -153,7 +153,7 @@ public class PredictionScheduler {
      * 서버 시작 후 1분 뒤 한 번 실행 (테스트용)
      * - 서버 재시작 시 바로 판정 필요한 경기가 있는지 확인
      */
-    @Scheduled(initialDelay = 60000, fixedDelay = Long.MAX_VALUE)
+    @Scheduled(initialDelay = 60000, fixedDelay = Long.MAX_VALUE, scheduler = "judgingScheduler")
     public void initialJudgment() {
         log.info("=== 초기 예측 판정 실행 (서버 시작 후) ===");
         autoJudgePredictions();
@@ -0,0 +1,435 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.dto.MatchCrawlDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 시즌 일정 병렬 크롤링
+ * - 요청한 리그들을 (리그, 월) 단위 작업으로 나누어 공유 대기열에 넣음
+ * - 작업자마다 브라우저 하나를 띄워 여러 작업에 재사용 (실패 시 브라우저 재생성)
+ *   작업자는 crawlBrowserExecutor 에서 실행되므로 크롤링이 겹쳐도 전체 브라우저 수는 app.crawl.browsers 개 이하
+ * - 호스트별로 작업 시작 간격과 동시 요청 수를 제한 (네이버 스포츠 부하 방지)
+ * - 리그별 결과를 모아 저장하고, 작업별 소요 시간을 로그와 메트릭(crawl.month.duration)으로 남김
+ * - 월별 페이지 내용 해시(CrawlCache)가 지난 크롤링과 같으면 파싱/DB 반영 생략
+ *   팀 이름을 찾지 못해 저장하지 못한 경기가 있는 월은 해시를 기록하지 않음 (별칭 등록 후 다시 반영)
+ *
+ * 일반 크롤링: 오늘 ± app.crawl.routine-window-days 일과 겹치는 월 + 해시가 없는 월만 크롤링
+ * 전체 새로고침(fullRefresh): 시즌 전체 월을 해시 비교 없이 다시 크롤링
+ *
+ * 리그별 중복 실행 방지 키: "crawl:{리그 키}" (JobGuard)
+ */
+@Slf4j
+@Component
+public class ScheduleCrawlOrchestrator {
+
+    private final Map<String, SeasonScheduleCrawler> crawlers = new LinkedHashMap<>();
+    private final JobGuard jobGuard;
+    private final ThreadPoolTaskExecutor crawlExecutor;
+    private final ThreadPoolTaskExecutor crawlBrowserExecutor;
+    private final MeterRegistry meterRegistry;
+    private final CrawlCache crawlCache;
+    private final int browsers;
+    private final long hostMinIntervalMs;
+    private final int hostMaxConcurrency;
+    private final int routineWindowDays;
+
+    // 호스트 → 요청 제한 (동시에 실행되는 크롤링끼리도 공유)
+    private final Map<String, HostThrottle> hostThrottles = new ConcurrentHashMap<>();
+
+    public ScheduleCrawlOrchestrator(List<SeasonScheduleCrawler> crawlers,
+                                     JobGuard jobGuard,
+                                     ThreadPoolTaskExecutor crawlExecutor,
+                                     ThreadPoolTaskExecutor crawlBrowserExecutor,
+                                     MeterRegistry meterRegistry,
+                                     CrawlCache crawlCache,
+                                     @Value("${app.crawl.browsers:3}") int browsers,
+                                     @Value("${app.crawl.host-min-interval-ms:1500}") long hostMinIntervalMs,
+                                     @Value("${app.crawl.host-max-concurrency:2}") int hostMaxConcurrency,
+                                     @Value("${app.crawl.routine-window-days:7}") int routineWindowDays) {
+        crawlers.forEach(crawler -> this.crawlers.put(crawler.leagueKey(), crawler));
+        this.jobGuard = jobGuard;
+        this.crawlExecutor = crawlExecutor;
+        this.crawlBrowserExecutor = crawlBrowserExecutor;
+        this.meterRegistry = meterRegistry;
+        this.crawlCache = crawlCache;
+        this.browsers = Math.max(1, browsers);
+        this.hostMinIntervalMs = hostMinIntervalMs;
+        this.hostMaxConcurrency = Math.max(1, hostMaxConcurrency);
+        this.routineWindowDays = Math.max(0, routineWindowDays);
+    }
+
+    /**
+     * 리그 크롤링을 크롤링 전용 스레드 풀에 제출
+     * 이미 크롤링 중인 리그는 제외하고 나머지만 실행
+     *
+     * @param leagueKeys  리그 키 (EPL, NBA, BUNDESLIGA, LALIGA, SERIEA, LIGUE1, KBL)
+     * @param fullRefresh true 이면 시즌 전체 월을 해시 비교 없이 다시 크롤링
+     * @return 모든 리그가 실행 중이면 ALREADY_RUNNING, 대기열 초과 시 REJECTED
+     */
+    public JobGuard.SubmitResult submit(List<String> leagueKeys, boolean fullRefresh) {
+        List<SeasonScheduleCrawler> claimed = new ArrayList<>();
+        for (String leagueKey : leagueKeys) {
+            SeasonScheduleCrawler crawler = crawlers.get(leagueKey);
+            if (crawler == null) {
+                throw new IllegalArgumentException("알 수 없는 리그: " + leagueKey);
+            }
+            if (jobGuard.tryAcquire(jobKey(leagueKey))) {
+                claimed.add(crawler);
+            } else {
+                log.warn("⏭️ {} 크롤링이 이미 실행 중이어서 건너뜀", leagueKey);
+            }
+        }
+
+        if (claimed.isEmpty()) {
+            return JobGuard.SubmitResult.ALREADY_RUNNING;
+        }
+
+        try {
+            crawlExecutor.execute(() -> {
+                try {
+                    crawl(claimed, fullRefresh);
+                } catch (Exception e) {
+                    log.error("❌ 일정 크롤링 실행 중 오류 발생", e);
+                } finally {
+                    claimed.forEach(crawler -> jobGuard.release(jobKey(crawler.leagueKey())));
+                }
+            });
+            return JobGuard.SubmitResult.SUBMITTED;
+        } catch (RejectedExecutionException e) {
+            claimed.forEach(crawler -> jobGuard.release(jobKey(crawler.leagueKey())));
+            return JobGuard.SubmitResult.REJECTED;
+        }
+    }
+
+    // ========== 실행 ==========
+
+    private void crawl(List<SeasonScheduleCrawler> targets, boolean fullRefresh) throws InterruptedException {
+        Map<String, String> knownHashes = fullRefresh ? Collections.emptyMap() : crawlCache.findHashes(
+                targets.stream()
+                        .flatMap(crawler -> crawler.seasonMonths().stream()
+                                .map(month -> CrawlCache.scheduleKey(crawler.leagueKey(), month)))
+                        .toList());
+
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        Queue<MonthTask> queue = new ConcurrentLinkedQueue<>();
+        Map<String, LeagueResult> results = new LinkedHashMap<>();
+        int skippedMonths = 0;
+        for (SeasonScheduleCrawler crawler : targets) {
+            results.put(crawler.leagueKey(), new LeagueResult());
+            for (YearMonth month : crawler.seasonMonths()) {
+                String knownHash = knownHashes.get(CrawlCache.scheduleKey(crawler.leagueKey(), month));
+                if (fullRefresh || knownHash == null || inRoutineWindow(month, today)) {
+                    queue.add(new MonthTask(crawler, month, knownHash));
+                } else {
+                    skippedMonths++;
+                }
+            }
+        }
+
+        List<String> leagueNames = targets.stream().map(SeasonScheduleCrawler::leagueKey).toList();
+        if (queue.isEmpty()) {
+            log.info("⏭️ 일정 크롤링 대상 월 없음 - 리그: {}, 건너뛴 월: {}개", leagueNames, skippedMonths);
+            return;
+        }
+
+        int workers = Math.min(browsers, queue.size());
+        log.info("=".repeat(60));
+        log.info("🌍 일정 크롤링 시작 - 리그: {}, 작업: {}개, 건너뛴 월: {}개, 브라우저: {}개, 전체 새로고침: {}",
+                leagueNames, queue.size(), skippedMonths, workers, fullRefresh);
+        log.info("=".repeat(60));
+
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<Void>> workerFutures = new ArrayList<>();
+        try {
+            for (int i = 0; i < workers; i++) {
+                workerFutures.add(crawlBrowserExecutor.submitCompletable(() -> runWorker(queue, results)));
+            }
+        } catch (TaskRejectedException e) {
+            // 이미 제출한 작업자가 남은 작업을 처리
+            log.warn("⚠️ 브라우저 작업자 대기열 초과 - 작업자 {}개로 진행", workerFutures.size());
+        }
+        if (workerFutures.isEmpty()) {
+            log.error("❌ 브라우저 작업자를 시작하지 못해 일정 크롤링을 중단합니다. 리그: {}", leagueNames);
+            return;
+        }
+        try {
+            CompletableFuture.allOf(workerFutures.toArray(CompletableFuture[]::new)).get();
+        } catch (ExecutionException e) {
+            log.error("❌ 브라우저 작업자 실행 중 오류 발생", e.getCause());
+        } catch (InterruptedException e) {
+            // 남은 작업을 비워 작업자가 현재 작업만 마치고 끝나도록 함
+            queue.clear();
+            throw e;
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // 리그별 저장 (DB 트랜잭션은 저장 단계에서만 사용)
+        for (SeasonScheduleCrawler crawler : targets) {
+            LeagueResult result = results.get(crawler.leagueKey());
+            report(crawler.leagueKey(), result);
+
+            List<MatchCrawlDto> matches = result.matches();
+            Set<String> unresolvedTeams = Set.of();
+            if (matches.isEmpty()) {
+                log.info("⏭️ {}: 새로 반영할 경기가 없습니다. DB 저장을 건너뜁니다.", crawler.leagueKey());
+            } else {
+                try {
+                    unresolvedTeams = crawler.saveMatchesToDatabase(matches).unresolvedTeams();
+                } catch (Exception e) {
+                    // 해시를 기록하지 않아 다음 크롤링에서 다시 반영
+                    log.error("❌ {} 경기 저장 실패", crawler.leagueKey(), e);
+                    continue;
+                }
+            }
+
+            try {
+                crawlCache.record(result.hashesWithout(unresolvedTeams));
+            } catch (Exception e) {
+                log.warn("⚠️ {} 크롤링 해시 기록 실패: {}", crawler.leagueKey(), e.getMessage());
+            }
+        }
+
+        log.info("🎉 일정 크롤링 완료 - 리그: {}, 크롤링 소요: {}ms", leagueNames, elapsedMs);
+    }
+
+    /**
+     * 작업자: 대기열이 빌 때까지 (리그, 월) 작업을 꺼내 실행
+     */
+    private void runWorker(Queue<MonthTask> queue, Map<String, LeagueResult> results) {
+        WebDriver driver = null;
+        try {
+            MonthTask task;
+            while ((task = queue.poll()) != null) {
+                SeasonScheduleCrawler crawler = task.crawler();
+                LeagueResult result = results.get(crawler.leagueKey());
+                long startedAt = System.nanoTime();
+                String outcome = "failure";
+
+                try {
+                    if (driver == null) {
+                        driver = crawler.openBrowser();
+                    }
+
+                    HostThrottle throttle = throttle(crawler.scheduleUrl());
+                    throttle.acquire();
+                    try {
+                        SeasonScheduleCrawler.MonthSchedule schedule =
+                                crawler.crawlMonth(driver, task.month(), task.knownHash());
+                        if (schedule.unchanged()) {
+                            result.addReport(new TaskReport(task.month(), 0, elapsedMs(startedAt), true, true));
+                            outcome = "unchanged";
+                        } else {
+                            result.addMatches(CrawlCache.scheduleKey(crawler.leagueKey(), task.month()),
+                                    schedule.matches());
+                            result.addReport(new TaskReport(task.month(), schedule.matches().size(),
+                                    elapsedMs(startedAt), true, false));
+                            outcome = "success";
+                        }
+                        if (schedule.contentHash() != null) {
+                            result.addHash(CrawlCache.scheduleKey(crawler.leagueKey(), task.month()),
+                                    schedule.contentHash());
+                        }
+                    } finally {
+                        throttle.release();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    result.addReport(new TaskReport(task.month(), 0, elapsedMs(startedAt), false, false));
+                    return;
+                } catch (Exception e) {
+                    log.error("  ❌ {} {} 크롤링 실패 - 브라우저를 다시 띄워 다음 작업 계속 진행",
+                            crawler.leagueKey(), task.month(), e);
+                    result.addReport(new TaskReport(task.month(), 0, elapsedMs(startedAt), false, false));
+                    quit(driver);
+                    driver = null;
+                } finally {
+                    Timer.builder("crawl.month.duration")
+                            .tag("league", crawler.leagueKey())
+                            .tag("outcome", outcome)
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            }
+        } finally {
+            quit(driver);
+        }
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    private void report(String leagueKey, LeagueResult result) {
+        List<TaskReport> reports = result.reports();
+        long failed = reports.stream().filter(r -> !r.success()).count();
+        long unchanged = reports.stream().filter(TaskReport::unchanged).count();
+        log.info("📊 {} - 수집 경기: {}경기, 성공한 월: {}개 (변경 없음: {}개), 실패한 월: {}개",
+                leagueKey, result.matches().size(), reports.size() - failed, unchanged, failed);
+        for (TaskReport r : reports) {
+            if (r.unchanged()) {
+                log.info("  ⏭️ {} {}: 변경 없음, {}ms", leagueKey, r.month(), r.durationMs());
+            } else {
+                log.info("  {} {} {}: {}경기, {}ms",
+                        r.success() ? "✅" : "❌", leagueKey, r.month(), r.matchCount(), r.durationMs());
+            }
+        }
+    }
+
+    /**
+     * 오늘 ± routineWindowDays 일과 겹치는 월인지 (진행 중/곧 열릴 경기가 있는 월)
+     */
+    private boolean inRoutineWindow(YearMonth month, LocalDate today) {
+        return !month.atDay(1).isAfter(today.plusDays(routineWindowDays))
+                && !month.atEndOfMonth().isBefore(today.minusDays(routineWindowDays));
+    }
+
+    private HostThrottle throttle(String url) {
+        String host = URI.create(url).getHost();
+        return hostThrottles.computeIfAbsent(host,
+                h -> new HostThrottle(hostMaxConcurrency, TimeUnit.MILLISECONDS.toNanos(hostMinIntervalMs)));
+    }
+
+    private static void quit(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            log.warn("⚠️ WebDriver 종료 중 오류: {}", e.getMessage());
+        }
+    }
+
+    private static long elapsedMs(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    private static String jobKey(String leagueKey) {
+        return "crawl:" + leagueKey;
+    }
+
+    private record MonthTask(SeasonScheduleCrawler crawler, YearMonth month, String knownHash) {
+    }
+
+    private record TaskReport(YearMonth month, int matchCount, long durationMs, boolean success, boolean unchanged) {
+    }
+
+    /**
+     * 리그별 결과 (여러 작업자가 동시에 추가)
+     */
+    private static final class LeagueResult {
+
+        private final List<MatchCrawlDto> matches = new ArrayList<>();
+        private final List<TaskReport> reports = new ArrayList<>();
+        private final Map<String, String> hashes = new HashMap<>();
+        // 캐시 키(리그, 월) → 그 월에 나온 팀 이름
+        private final Map<String, Set<String>> teamNames = new HashMap<>();
+
+        synchronized void addMatches(String cacheKey, List<MatchCrawlDto> monthMatches) {
+            matches.addAll(monthMatches);
+            Set<String> names = teamNames.computeIfAbsent(cacheKey, key -> new HashSet<>());
+            for (MatchCrawlDto match : monthMatches) {
+                names.add(match.getHomeTeamName());
+                names.add(match.getAwayTeamName());
+            }
+        }
+
+        synchronized void addReport(TaskReport report) {
+            reports.add(report);
+        }
+
+        synchronized void addHash(String cacheKey, String contentHash) {
+            hashes.put(cacheKey, contentHash);
+        }
+
+        /**
+         * 기록할 해시 (찾지 못한 팀 이름이 나온 월 제외)
+         */
+        synchronized Map<String, String> hashesWithout(Set<String> unresolvedTeams) {
+            Map<String, String> result = new HashMap<>(hashes);
+            if (!unresolvedTeams.isEmpty()) {
+                teamNames.forEach((cacheKey, names) -> {
+                    if (names.stream().anyMatch(unresolvedTeams::contains)) {
+                        result.remove(cacheKey);
+                    }
+                });
+            }
+            return result;
+        }
+
+        synchronized List<MatchCrawlDto> matches() {
+            return new ArrayList<>(matches);
+        }
+
+        synchronized List<TaskReport> reports() {
+            List<TaskReport> sorted = new ArrayList<>(reports);
+            sorted.sort(Comparator.comparing(TaskReport::month));
+            return Collections.unmodifiableList(sorted);
+        }
+    }
+
+    /**
+     * 호스트별 요청 제한
+     * - 동시 요청 수: Semaphore
+     * - 작업 시작 간격: 마지막 예약 시각 + 최소 간격 이후에 시작
+     */
+    private static final class HostThrottle {
+
+        private final Semaphore permits;
+        private final long minIntervalNanos;
+        private long nextStartAt = System.nanoTime();
+
+        private HostThrottle(int maxConcurrency, long minIntervalNanos) {
+            this.permits = new Semaphore(maxConcurrency, true);
+            this.minIntervalNanos = minIntervalNanos;
+        }
+
+        void acquire() throws InterruptedException {
+            permits.acquire();
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long startAt = Math.max(now, nextStartAt);
+                nextStartAt = startAt + minIntervalNanos;
+                waitNanos = startAt - now;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        void release() {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.dto.MatchCrawlDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * 크롤링한 시즌 일정을 matches 테이블에 반영 (전체 시즌 크롤러 공용)
+ * - 리그의 해당 기간 경기를 한 번에 조회해 (홈팀, 원정팀, 날짜) 키로 메모리에서 비교
+ * - 바뀐 경기만 UPDATE, 새 경기만 INSERT (JDBC 배치), 같은 날 시작 시각이 바뀌면 match_date 도 UPDATE
+ * - FINISHED 경기는 점수 수정 외에는 변경하지 않음 (보호)
+ *
+ * 중복 방지: uk_matches_league_teams_day (league_id, home_team_id, away_team_id, match_day = DATE(match_date))
+ * 호출하는 쪽의 트랜잭션 안에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleMatchWriter {
+
+    private static final String SELECT_SQL =
+            "SELECT match_id, home_team_id, away_team_id, match_date, status, venue, home_score, away_score " +
+            "FROM matches WHERE league_id = ? AND match_date >= ? AND match_date < ? " +
+            "ORDER BY match_date, match_id";
+
+    private static final String UPDATE_SQL =
+            "UPDATE matches SET match_date = ?, status = ?, venue = ?, home_score = ?, away_score = ?, updated_at = ? " +
+            "WHERE match_id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO matches (league_id, home_team_id, away_team_id, match_date, venue, status, " +
+            "home_score, away_score, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장 결과
+     */
+    public record Result(int inserted, int updated, int unchanged, int skipped, Set<String> unresolvedTeams) {
+    }
+
+    /**
+     * 크롤링한 경기 반영
+     *
+     * @param leagueId              리그 ID
+     * @param leagueName            로그용 리그 이름
+     * @param matchDtos             크롤링한 경기
+     * @param teamIdResolver        크롤링한 팀 이름 → 팀 ID (없으면 null)
+     * @param requireFinishedScores true 이면 점수 없는 FINISHED 경기를 종료 처리하지 않음
+     */
+    public Result save(long leagueId, String leagueName, List<MatchCrawlDto> matchDtos,
+                       Function<String, Long> teamIdResolver, boolean requireFinishedScores) {
+        log.info("💾 {} DB 저장 시작... (총 {}경기)", leagueName, matchDtos.size());
+
+        Set<String> unresolvedTeams = new TreeSet<>();
+        List<ResolvedMatch> resolved = new ArrayList<>(matchDtos.size());
+        for (MatchCrawlDto dto : matchDtos) {
+            Long homeTeamId = teamIdResolver.apply(dto.getHomeTeamName());
+            Long awayTeamId = teamIdResolver.apply(dto.getAwayTeamName());
+            if (homeTeamId == null) {
+                unresolvedTeams.add(dto.getHomeTeamName());
+            }
+            if (awayTeamId == null) {
+                unresolvedTeams.add(dto.getAwayTeamName());
+            }
+            if (homeTeamId != null && awayTeamId != null && dto.getMatchDate() != null) {
+                resolved.add(new ResolvedMatch(
+                        new MatchKey(homeTeamId, awayTeamId, dto.getMatchDate().toLocalDate()), dto));
+            }
+        }
+        int skipped = matchDtos.size() - resolved.size();
+
+        if (resolved.isEmpty()) {
+            log.warn("⚠️ {}: 저장할 경기가 없습니다. (팀 매핑 실패: {})", leagueName, unresolvedTeams);
+            return new Result(0, 0, 0, skipped, unresolvedTeams);
+        }
+
+        Map<MatchKey, MatchRow> existing = loadExisting(leagueId, resolved);
+
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        Map<Long, MatchRow> updates = new LinkedHashMap<>();
+        Map<MatchKey, NewMatch> inserts = new LinkedHashMap<>();
+        int unchanged = 0;
+
+        for (ResolvedMatch match : resolved) {
+            MatchCrawlDto dto = match.dto();
+            MatchRow current = existing.get(match.key());
+
+            if (current == null) {
+                // 새 경기 (같은 크롤링 안에서 중복되면 마지막 값 사용)
+                inserts.put(match.key(), newMatch(match.key(), dto, requireFinishedScores, leagueName));
+                continue;
+            }
+
+            MatchRow next = applyCrawled(current, dto, requireFinishedScores, leagueName);
+            if (next == null) {
+                // 기존 FINISHED 경기를 다른 상태로 변경하려는 시도 차단
+                log.debug("  ⏭️ FINISHED 경기 보호: {} vs {}", dto.getHomeTeamName(), dto.getAwayTeamName());
+                skipped++;
+            } else if (next.equals(current)) {
+                unchanged++;
+            } else {
+                updates.put(next.matchId(), next);
+                existing.put(match.key(), next);
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            List<Object[]> batchArgs = new ArrayList<>(updates.size());
+            for (MatchRow row : updates.values()) {
+                batchArgs.add(new Object[]{
+                        Timestamp.valueOf(row.matchDate()), row.status(), row.venue(), row.homeScore(), row.awayScore(),
+                        Timestamp.valueOf(now), row.matchId()
+                });
+            }
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+        }
+
+        if (!inserts.isEmpty()) {
+            List<Object[]> batchArgs = new ArrayList<>(inserts.size());
+            for (NewMatch match : inserts.values()) {
+                batchArgs.add(new Object[]{
+                        leagueId, match.homeTeamId(), match.awayTeamId(), Timestamp.valueOf(match.matchDate()),
+                        match.venue(), match.status(), match.homeScore(), match.awayScore(),
+                        Timestamp.valueOf(now), Timestamp.valueOf(now)
+                });
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+        }
+
+        if (!unresolvedTeams.isEmpty()) {
+            log.warn("⚠️ {} 팀 매핑 실패 ({}개, DB에 팀 정보 없음): {}", leagueName, unresolvedTeams.size(), unresolvedTeams);
+        }
+        log.info("✅ {} DB 저장 완료! ✨ 새 경기: {}개, 🔄 업데이트: {}개, 변경 없음: {}개, ⏭️ 스킵: {}개",
+                leagueName, inserts.size(), updates.size(), unchanged, skipped);
+
+        return new Result(inserts.size(), updates.size(), unchanged, skipped, unresolvedTeams);
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    /**
+     * 크롤링 기간의 리그 경기를 한 번에 조회
+     * 같은 날짜, 같은 팀 조합의 경기가 여러 개면 LIVE 우선, 없으면 첫 번째 경기
+     */
+    private Map<MatchKey, MatchRow> loadExisting(long leagueId, List<ResolvedMatch> resolved) {
+        LocalDate from = resolved.stream().map(m -> m.key().date()).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate to = resolved.stream().map(m -> m.key().date()).max(Comparator.naturalOrder()).orElseThrow();
+
+        Map<MatchKey, MatchRow> existing = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            LocalDateTime matchDate = rs.getTimestamp("match_date").toLocalDateTime();
+            MatchKey key = new MatchKey(
+                    rs.getLong("home_team_id"),
+                    rs.getLong("away_team_id"),
+                    matchDate.toLocalDate());
+            MatchRow row = new MatchRow(
+                    rs.getLong("match_id"),
+                    matchDate,
+                    rs.getString("status"),
+                    rs.getString("venue"),
+                    rs.getObject("home_score", Integer.class),
+                    rs.getObject("away_score", Integer.class));
+            existing.merge(key, row, (first, other) ->
+                    !"LIVE".equals(first.status()) && "LIVE".equals(other.status()) ? other : first);
+        }, leagueId, Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        return existing;
+    }
+
+    /**
+     * 기존 경기에 크롤링 결과 적용 (변경 불가하면 null)
+     */
+    private static MatchRow applyCrawled(MatchRow current, MatchCrawlDto dto,
+                                         boolean requireFinishedScores, String leagueName) {
+        boolean hasScores = dto.getHomeScore() != null && dto.getAwayScore() != null;
+
+        if (!"FINISHED".equals(current.status())) {
+            // SCHEDULED 상태는 무조건 점수를 null로 설정
+            if ("SCHEDULED".equals(dto.getStatus()) || "POSTPONED".equals(dto.getStatus())) {
+                return new MatchRow(current.matchId(), dto.getMatchDate(), dto.getStatus(), dto.getVenue(), null, null);
+            }
+            if (requireFinishedScores && "FINISHED".equals(dto.getStatus()) && !hasScores) {
+                // FINISHED 상태로 저장하지 않고 LIVE로 유지
+                log.error("❌ [{}] FINISHED 상태이지만 점수가 NULL: {} vs {} (matchId: {})",
+                        leagueName, dto.getHomeTeamName(), dto.getAwayTeamName(), current.matchId());
+                return new MatchRow(current.matchId(), dto.getMatchDate(), "LIVE", dto.getVenue(),
+                        current.homeScore(), current.awayScore());
+            }
+            return new MatchRow(current.matchId(), dto.getMatchDate(), dto.getStatus(), dto.getVenue(),
+                    dto.getHomeScore(), dto.getAwayScore());
+        }
+
+        if ("FINISHED".equals(dto.getStatus())) {
+            // 둘 다 FINISHED인 경우는 점수만 업데이트 (점수 수정 가능성)
+            if (requireFinishedScores && !hasScores) {
+                log.warn("⚠️ [{}] FINISHED 상태이지만 점수가 NULL이어서 업데이트 스킵: {} vs {}",
+                        leagueName, dto.getHomeTeamName(), dto.getAwayTeamName());
+                return null;
+            }
+            return new MatchRow(current.matchId(), current.matchDate(), current.status(), current.venue(),
+                    dto.getHomeScore(), dto.getAwayScore());
+        }
+
+        return null;
+    }
+
+    private static NewMatch newMatch(MatchKey key, MatchCrawlDto dto, boolean requireFinishedScores, String leagueName) {
+        boolean hasScores = dto.getHomeScore() != null && dto.getAwayScore() != null;
+        String status = dto.getStatus();
+        Integer homeScore = dto.getHomeScore();
+        Integer awayScore = dto.getAwayScore();
+
+        // SCHEDULED 상태는 무조건 점수를 null로 설정
+        if ("SCHEDULED".equals(status) || "POSTPONED".equals(status)) {
+            homeScore = null;
+            awayScore = null;
+        } else if (requireFinishedScores && "FINISHED".equals(status) && !hasScores) {
+            // FINISHED 상태인데 점수가 null인 경우 경고하고 SCHEDULED로 저장
+            log.error("❌ [{}] 새 경기 생성 시 FINISHED 상태이지만 점수가 NULL: {} vs {}",
+                    leagueName, dto.getHomeTeamName(), dto.getAwayTeamName());
+            status = "SCHEDULED";
+            homeScore = null;
+            awayScore = null;
+        }
+
+        return new NewMatch(key.homeTeamId(), key.awayTeamId(), dto.getMatchDate(), dto.getVenue(),
+                status, homeScore, awayScore);
+    }
+
+    private record MatchKey(long homeTeamId, long awayTeamId, LocalDate date) {
+    }
+
+    private record ResolvedMatch(MatchKey key, MatchCrawlDto dto) {
+    }
+
+    private record MatchRow(long matchId, LocalDateTime matchDate, String status, String venue,
+                            Integer homeScore, Integer awayScore) {
+    }
+
+    private record NewMatch(long homeTeamId, long awayTeamId, LocalDateTime matchDate, String venue,
+                            String status, Integer homeScore, Integer awayScore) {
+    }
+}
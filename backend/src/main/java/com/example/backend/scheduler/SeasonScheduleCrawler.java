@@ -0,0 +1,93 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.dto.MatchCrawlDto;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 리그별 전체 시즌 일정 크롤러
+ * ScheduleCrawlOrchestrator 가 (리그, 월) 단위 작업으로 나누어 병렬 실행
+ */
+public interface SeasonScheduleCrawler {
+
+    /**
+     * 리그 키 (EPL, NBA, BUNDESLIGA, LALIGA, SERIEA, LIGUE1, KBL)
+     */
+    String leagueKey();
+
+    /**
+     * 네이버 스포츠 일정 페이지 URL
+     */
+    String scheduleUrl();
+
+    /**
+     * 시즌에 포함된 월 목록
+     */
+    List<YearMonth> seasonMonths();
+
+    /**
+     * 크롤링용 브라우저 생성
+     */
+    WebDriver openBrowser();
+
+    /**
+     * 특정 월 일정 크롤링 (전달받은 브라우저로 일정 페이지를 열고 해당 월 탭 선택)
+     *
+     * @param knownHash 지난 크롤링의 경기 목록 해시 (같으면 파싱 생략, 없으면 null)
+     */
+    MonthSchedule crawlMonth(WebDriver driver, YearMonth month, String knownHash) throws InterruptedException;
+
+    /**
+     * 크롤링한 데이터를 DB에 저장
+     *
+     * @return 저장 결과 (팀 이름을 찾지 못해 건너뛴 경기 포함)
+     */
+    ScheduleMatchWriter.Result saveMatchesToDatabase(List<MatchCrawlDto> matchDtos);
+
+    /**
+     * 월별 크롤링 결과
+     *
+     * @param contentHash 경기 목록 내용 해시 (경기 목록을 찾지 못했으면 null)
+     * @param matches     수집한 경기 (내용이 바뀌지 않아 파싱을 생략했으면 null)
+     */
+    record MonthSchedule(String contentHash, List<MatchCrawlDto> matches) {
+
+        public boolean unchanged() {
+            return matches == null;
+        }
+    }
+
+    /**
+     * 페이지에서 selector 에 해당하는 요소들의 텍스트 SHA-256 해시 (브라우저 왕복 1회)
+     */
+    static String contentHash(WebDriver driver, String cssSelector) {
+        Object text = ((JavascriptExecutor) driver).executeScript(
+                "return Array.from(document.querySelectorAll(arguments[0]))"
+                        + ".map(e => e.innerText).join('\\n');", cssSelector);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(String.valueOf(text).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * from ~ to 월 목록
+     */
+    static List<YearMonth> months(YearMonth from, YearMonth to) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return List.copyOf(months);
+    }
+}
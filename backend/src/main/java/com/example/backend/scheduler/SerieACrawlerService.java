@@ -7,7 +7,6 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -16,34 +15,36 @@ import java.util.Map;
  */
 @Service
 @Slf4j
-public class SerieACrawlerService extends BaseCrawlerService {
+public class SerieACrawlerService extends BaseCrawlerService implements TeamAliasSource {
+
+    private static final long LEAGUE_ID = 8L;
 
     /**
-     * 팀 이름과 DB team_id 매핑
-     * 크롤링한 팀 이름을 DB의 team_id로 변환
+     * 네이버 스포츠 팀 표기와 DB team_id 매핑 (기본 별칭)
+     * 실제 조회는 TeamNameResolver 가 팀 이름 → 별칭 → 유사 이름 순으로 처리
      */
-    public static final Map<String, Long> TEAM_NAME_TO_ID = new HashMap<>() {{
-        put("나폴리", 109L);
-        put("인테르", 110L);
-        put("아탈란타", 111L);
-        put("유벤투스", 112L);
-        put("로마", 113L);
-        put("피오렌티나", 114L);
-        put("라치오", 115L);
-        put("밀란", 116L);
-        put("볼로냐", 117L);
-        put("코모", 118L);
-        put("토리노", 119L);
-        put("우디네세", 120L);
-        put("제노아", 121L);
-        put("베로나", 122L);
-        put("칼리아리", 123L);
-        put("파르마", 124L);
-        put("레체", 125L);
-        put("크레모네세", 126L);
-        put("피사", 127L);
-        put("사수올로", 128L);
-    }};
+    private static final Map<String, Long> TEAM_ALIASES = Map.ofEntries(
+            Map.entry("나폴리", 109L),
+            Map.entry("인테르", 110L),
+            Map.entry("아탈란타", 111L),
+            Map.entry("유벤투스", 112L),
+            Map.entry("로마", 113L),
+            Map.entry("피오렌티나", 114L),
+            Map.entry("라치오", 115L),
+            Map.entry("밀란", 116L),
+            Map.entry("볼로냐", 117L),
+            Map.entry("코모", 118L),
+            Map.entry("토리노", 119L),
+            Map.entry("우디네세", 120L),
+            Map.entry("제노아", 121L),
+            Map.entry("베로나", 122L),
+            Map.entry("칼리아리", 123L),
+            Map.entry("파르마", 124L),
+            Map.entry("레체", 125L),
+            Map.entry("크레모네세", 126L),
+            Map.entry("피사", 127L),
+            Map.entry("사수올로", 128L)
+    );
 
     /**
      * Chrome WebDriver 설정 및 생성
@@ -102,12 +103,16 @@ public class SerieACrawlerService extends BaseCrawlerService {
         return "LIVE";
     }
 
-    /**
-     * 팀 이름으로 팀 ID 조회
-     */
-    public Long getTeamId(String teamName) {
-        return TEAM_NAME_TO_ID.get(teamName);
+    @Override
+    public long leagueId() {
+        return LEAGUE_ID;
     }
+
+    @Override
+    public Map<String, Long> teamAliases() {
+        return TEAM_ALIASES;
+    }
+
     // Public wrapper methods for external classes
     public WebDriver setupDriver() {
         return super.setupDriver();
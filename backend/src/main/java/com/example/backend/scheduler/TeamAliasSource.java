@@ -0,0 +1,20 @@
+package com.example.backend.scheduler;
+
+import java.util.Map;
+
+/**
+ * 리그별 기본 팀 별칭 (크롤링 표기 → DB team_id)
+ * TeamNameResolver 가 시작 시 teams / team_aliases 테이블과 함께 색인
+ */
+public interface TeamAliasSource {
+
+    /**
+     * 리그 ID
+     */
+    long leagueId();
+
+    /**
+     * 크롤링 표기 → team_id
+     */
+    Map<String, Long> teamAliases();
+}
@@ -0,0 +1,368 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.entity.Team;
+import com.example.backend.entity.TeamAlias;
+import com.example.backend.repository.TeamAliasRepository;
+import com.example.backend.repository.TeamRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 크롤링한 팀 이름 → team_id 변환
+ * - 시작 시 teams, team_aliases 테이블과 크롤러 기본 별칭(TeamAliasSource)을 리그별 불변 색인으로 구성
+ * - 이름은 유니코드 정규화(NFKC) + 소문자 + 공백/기호 제거 후 비교
+ * - 조회 순서: 팀 이름 → 별칭
+ * - 같은 표기는 다시 계산하지 않도록 리그별로 결과를 기억
+ * - 찾지 못한 이름은 리그별로 모아 관리자 API로 제공
+ *   유사 이름(한글은 자모 단위 2-gram 유사도)은 후보로만 제안하고 자동 매칭하지 않음
+ *   (맨체스터시티 / 맨체스터유나이티드처럼 다른 팀도 유사도가 높아 잘못된 경기가 저장될 수 있음)
+ *
+ * 메트릭: team.resolve (match = exact / alias / fuzzy(후보 제안) / unresolved, 처음 보는 표기만 집계)
+ */
+@Slf4j
+@Component
+public class TeamNameResolver {
+
+    private static final long UNRESOLVED = -1L;
+    private static final int MEMO_LIMIT = 10_000;
+
+    private final TeamRepository teamRepository;
+    private final TeamAliasRepository teamAliasRepository;
+    private final List<TeamAliasSource> aliasSources;
+    private final double fuzzyThreshold;
+
+    private final Counter exactCounter;
+    private final Counter aliasCounter;
+    private final Counter fuzzyCounter;
+    private final Counter unresolvedCounter;
+
+    // 리그 ID → 색인 (reload 시 통째로 교체)
+    private volatile Map<Long, LeagueIndex> index;
+    // 리그 ID → 찾지 못한 이름
+    private final Map<Long, Set<String>> unresolvedNames = new ConcurrentHashMap<>();
+    // 리그 ID → (찾지 못한 이름 → 유사 이름 후보 team_id)
+    private final Map<Long, Map<String, Long>> suggestions = new ConcurrentHashMap<>();
+
+    public TeamNameResolver(TeamRepository teamRepository,
+                            TeamAliasRepository teamAliasRepository,
+                            List<TeamAliasSource> aliasSources,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.team-resolver.fuzzy-threshold:0.6}") double fuzzyThreshold) {
+        this.teamRepository = teamRepository;
+        this.teamAliasRepository = teamAliasRepository;
+        this.aliasSources = aliasSources;
+        this.fuzzyThreshold = fuzzyThreshold;
+        this.exactCounter = meterRegistry.counter("team.resolve", "match", "exact");
+        this.aliasCounter = meterRegistry.counter("team.resolve", "match", "alias");
+        this.fuzzyCounter = meterRegistry.counter("team.resolve", "match", "fuzzy");
+        this.unresolvedCounter = meterRegistry.counter("team.resolve", "match", "unresolved");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 팀/별칭 테이블을 다시 읽어 색인 재구성 (별칭 추가 후 호출)
+     */
+    public synchronized void reload() {
+        Map<Long, LeagueIndex.Builder> builders = new HashMap<>();
+
+        List<Team> teams = teamRepository.findAll();
+        for (Team team : teams) {
+            builders.computeIfAbsent(team.getLeague().getLeagueId(), LeagueIndex.Builder::new)
+                    .addName(team.getTeamName(), team.getTeamId());
+        }
+
+        int aliasCount = 0;
+        for (TeamAliasSource source : aliasSources) {
+            LeagueIndex.Builder builder = builders.computeIfAbsent(source.leagueId(), LeagueIndex.Builder::new);
+            source.teamAliases().forEach(builder::addAlias);
+            aliasCount += source.teamAliases().size();
+        }
+
+        List<TeamAlias> aliases = teamAliasRepository.findAllWithTeam();
+        for (TeamAlias alias : aliases) {
+            Team team = alias.getTeam();
+            builders.computeIfAbsent(team.getLeague().getLeagueId(), LeagueIndex.Builder::new)
+                    .addAlias(alias.getAlias(), team.getTeamId());
+        }
+        aliasCount += aliases.size();
+
+        Map<Long, LeagueIndex> built = new HashMap<>();
+        builders.forEach((leagueId, builder) -> built.put(leagueId, builder.build()));
+        index = Map.copyOf(built);
+        unresolvedNames.clear();
+        suggestions.clear();
+
+        log.info("🏷️ 팀 이름 색인 완료 - 리그: {}개, 팀: {}개, 별칭: {}개", built.size(), teams.size(), aliasCount);
+    }
+
+    /**
+     * 크롤링한 팀 이름으로 team_id 조회
+     *
+     * @return 찾지 못하면 null
+     */
+    public Long resolve(long leagueId, String teamName) {
+        if (teamName == null) {
+            return null;
+        }
+
+        LeagueIndex league = index().get(leagueId);
+        if (league == null) {
+            return null;
+        }
+
+        Long remembered = league.memo.get(teamName);
+        if (remembered != null) {
+            return remembered == UNRESOLVED ? null : remembered;
+        }
+
+        Long teamId = lookup(leagueId, league, teamName);
+        if (league.memo.size() < MEMO_LIMIT) {
+            league.memo.put(teamName, teamId != null ? teamId : UNRESOLVED);
+        }
+        return teamId;
+    }
+
+    /**
+     * 리그별 찾지 못한 팀 이름 (마지막 reload 이후)
+     */
+    public Map<Long, Set<String>> getUnresolvedNames() {
+        Map<Long, Set<String>> result = new TreeMap<>();
+        unresolvedNames.forEach((leagueId, names) -> result.put(leagueId, new TreeSet<>(names)));
+        return result;
+    }
+
+    /**
+     * 리그별 찾지 못한 이름의 유사 이름 후보 (별칭 등록 참고용)
+     */
+    public Map<Long, Map<String, Long>> getSuggestions() {
+        Map<Long, Map<String, Long>> result = new TreeMap<>();
+        suggestions.forEach((leagueId, names) -> result.put(leagueId, new TreeMap<>(names)));
+        return result;
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    private Map<Long, LeagueIndex> index() {
+        Map<Long, LeagueIndex> current = index;
+        if (current == null) {
+            // 시작 이벤트 전에 호출된 경우
+            reload();
+            current = index;
+        }
+        return current;
+    }
+
+    private Long lookup(long leagueId, LeagueIndex league, String teamName) {
+        String key = normalize(teamName);
+
+        Long teamId = league.names.get(key);
+        if (teamId != null) {
+            exactCounter.increment();
+            return teamId;
+        }
+
+        teamId = league.aliases.get(key);
+        if (teamId != null) {
+            aliasCounter.increment();
+            return teamId;
+        }
+
+        unresolvedNames.computeIfAbsent(leagueId, id -> ConcurrentHashMap.newKeySet()).add(teamName);
+
+        // 유사 이름은 후보로만 제안 (별칭 등록 전까지는 찾지 못한 이름으로 처리)
+        LeagueIndex.FuzzyMatch match = league.fuzzy(key, fuzzyThreshold);
+        if (match != null) {
+            fuzzyCounter.increment();
+            suggestions.computeIfAbsent(leagueId, id -> new ConcurrentHashMap<>()).put(teamName, match.teamId());
+            log.warn("⚠️ 팀 이름을 찾을 수 없음 (리그 {}): '{}' - 유사 이름 후보 team_id {} (유사도 {}), 별칭 등록 필요",
+                    leagueId, teamName, match.teamId(), String.format("%.2f", match.score()));
+            return null;
+        }
+
+        unresolvedCounter.increment();
+        log.warn("⚠️ 팀 이름을 찾을 수 없음 (리그 {}): '{}'", leagueId, teamName);
+        return null;
+    }
+
+    /**
+     * 비교용 정규화: NFKC → 소문자 → 문자/숫자만 남김
+     */
+    static String normalize(String name) {
+        String normalized = Normalizer.normalize(name, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    /**
+     * 유사도 비교용 2-gram (한글 음절은 NFD 로 초성/중성/종성 자모로 분해)
+     */
+    static Set<String> grams(String key) {
+        String jamo = Normalizer.normalize(key, Normalizer.Form.NFD);
+        Set<String> grams = new LinkedHashSet<>();
+        if (jamo.length() < 2) {
+            if (!jamo.isEmpty()) {
+                grams.add(jamo);
+            }
+            return grams;
+        }
+        for (int i = 0; i + 1 < jamo.length(); i++) {
+            grams.add(jamo.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 리그별 불변 색인
+     */
+    private static final class LeagueIndex {
+
+        private final Map<String, Long> names;
+        private final Map<String, Long> aliases;
+        // 유사 이름 후보 (팀 이름과 별칭 모두)
+        private final long[] candidateTeamIds;
+        private final int[] candidateGramCounts;
+        // 2-gram → 후보 번호
+        private final Map<String, int[]> postings;
+        // 원래 표기 → team_id (찾지 못하면 UNRESOLVED)
+        private final Map<String, Long> memo = new ConcurrentHashMap<>();
+
+        private LeagueIndex(Map<String, Long> names, Map<String, Long> aliases,
+                            long[] candidateTeamIds, int[] candidateGramCounts, Map<String, int[]> postings) {
+            this.names = names;
+            this.aliases = aliases;
+            this.candidateTeamIds = candidateTeamIds;
+            this.candidateGramCounts = candidateGramCounts;
+            this.postings = postings;
+        }
+
+        /**
+         * Dice 계수가 가장 높은 팀 (기준 미달이거나 다른 팀과 동점이면 null)
+         */
+        FuzzyMatch fuzzy(String key, double threshold) {
+            Set<String> queryGrams = grams(key);
+            if (queryGrams.isEmpty()) {
+                return null;
+            }
+
+            int[] shared = new int[candidateTeamIds.length];
+            for (String gram : queryGrams) {
+                int[] candidates = postings.get(gram);
+                if (candidates != null) {
+                    for (int candidate : candidates) {
+                        shared[candidate]++;
+                    }
+                }
+            }
+
+            long bestTeamId = 0;
+            double bestScore = 0;
+            double runnerUpScore = 0;
+            for (int i = 0; i < shared.length; i++) {
+                if (shared[i] == 0) {
+                    continue;
+                }
+                double score = 2.0 * shared[i] / (queryGrams.size() + candidateGramCounts[i]);
+                if (score > bestScore) {
+                    if (candidateTeamIds[i] != bestTeamId) {
+                        runnerUpScore = bestScore;
+                    }
+                    bestTeamId = candidateTeamIds[i];
+                    bestScore = score;
+                } else if (score > runnerUpScore && candidateTeamIds[i] != bestTeamId) {
+                    runnerUpScore = score;
+                }
+            }
+
+            if (bestScore < threshold || bestScore == runnerUpScore) {
+                return null;
+            }
+            return new FuzzyMatch(bestTeamId, bestScore);
+        }
+
+        record FuzzyMatch(long teamId, double score) {
+        }
+
+        private static final class Builder {
+
+            private final long leagueId;
+            private final Map<String, Long> names = new HashMap<>();
+            private final Map<String, Long> aliases = new HashMap<>();
+            private final Set<String> ambiguousAliases = new HashSet<>();
+
+            private Builder(long leagueId) {
+                this.leagueId = leagueId;
+            }
+
+            void addName(String name, Long teamId) {
+                String key = normalize(name);
+                if (!key.isEmpty()) {
+                    names.put(key, teamId);
+                }
+            }
+
+            void addAlias(String alias, Long teamId) {
+                String key = normalize(alias);
+                if (key.isEmpty() || ambiguousAliases.contains(key)) {
+                    return;
+                }
+                Long existing = aliases.putIfAbsent(key, teamId);
+                if (existing != null && !existing.equals(teamId)) {
+                    // 서로 다른 팀을 가리키는 별칭은 사용하지 않음
+                    log.warn("⚠️ 중복 별칭 무시 (리그 {}): '{}' → {}, {}", leagueId, alias, existing, teamId);
+                    aliases.remove(key);
+                    ambiguousAliases.add(key);
+                }
+            }
+
+            LeagueIndex build() {
+                Map<String, Long> forms = new HashMap<>(aliases);
+                forms.putAll(names);
+
+                List<Map.Entry<String, Long>> candidates = new ArrayList<>(forms.entrySet());
+                long[] candidateTeamIds = new long[candidates.size()];
+                int[] candidateGramCounts = new int[candidates.size()];
+                Map<String, List<Integer>> postingLists = new HashMap<>();
+                for (int i = 0; i < candidates.size(); i++) {
+                    Set<String> candidateGrams = grams(candidates.get(i).getKey());
+                    candidateTeamIds[i] = candidates.get(i).getValue();
+                    candidateGramCounts[i] = candidateGrams.size();
+                    for (String gram : candidateGrams) {
+                        postingLists.computeIfAbsent(gram, g -> new ArrayList<>()).add(i);
+                    }
+                }
+
+                Map<String, int[]> postings = new HashMap<>();
+                postingLists.forEach((gram, list) ->
+                        postings.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+
+                return new LeagueIndex(Map.copyOf(names), Map.copyOf(aliases),
+                        candidateTeamIds, candidateGramCounts, Map.copyOf(postings));
+            }
+        }
+    }
+}
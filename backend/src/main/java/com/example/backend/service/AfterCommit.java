@@ -0,0 +1,30 @@
+package com.example.backend.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행
+ * - 트랜잭션 안에서 호출하면 커밋된 뒤 실행 (롤백되면 실행하지 않음)
+ * - 트랜잭션 밖에서 호출하면 바로 실행
+ *
+ * 메모리 캐시 무효화, 랭킹 갱신, 실시간 전송처럼 DB 와 어긋나면 안 되는 작업에 사용
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.ChatMessageDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 묶음 전송기
+ * - 메시지를 채팅방별로 모았다가 app.chat.broadcast.interval-ms 마다 한 프레임(배열)으로 전송
+ * - 구독자 수 × 메시지 수 만큼 발생하던 직렬화/전송을 구독자 수 × 프레임 수로 줄임
+ * - 크롤링 스케줄러(app.scheduling.enabled)와 무관하게 전용 스레드에서 전송
+ * - 메트릭: chat.broadcast.frames (전송 프레임 수), chat.broadcast.coalesced (다른 메시지와 합쳐진 메시지 수)
+ */
+@Slf4j
+@Component
+public class ChatBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long intervalMs;
+    private final Map<Long, Queue<ChatMessageDto>> pendingByRoom = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-broadcaster");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter frameCounter;
+    private final Counter coalescedCounter;
+
+    public ChatBroadcaster(SimpMessagingTemplate messagingTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.chat.broadcast.interval-ms:150}") long intervalMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.intervalMs = intervalMs;
+        this.frameCounter = meterRegistry.counter("chat.broadcast.frames");
+        this.coalescedCounter = meterRegistry.counter("chat.broadcast.coalesced");
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+        flush();
+    }
+
+    /**
+     * 채팅방 전송 대기열에 추가 (다음 주기에 전송)
+     */
+    public void publish(Long chatroomId, ChatMessageDto message) {
+        pendingByRoom.computeIfAbsent(chatroomId, id -> new ConcurrentLinkedQueue<>()).offer(message);
+    }
+
+    /**
+     * 채팅방별로 모인 메시지를 한 프레임으로 전송
+     * 클라이언트는 /topic/chatroom/{chatroomId} 에서 메시지 배열을 수신
+     */
+    public void flush() {
+        pendingByRoom.forEach((chatroomId, queue) -> {
+            if (queue.isEmpty()) {
+                return;
+            }
+
+            List<ChatMessageDto> frame = new ArrayList<>();
+            ChatMessageDto message;
+            while ((message = queue.poll()) != null) {
+                frame.add(message);
+            }
+
+            try {
+                messagingTemplate.convertAndSend("/topic/chatroom/" + chatroomId, frame);
+                frameCounter.increment();
+                if (frame.size() > 1) {
+                    coalescedCounter.increment(frame.size() - 1);
+                }
+            } catch (Exception e) {
+                log.error("채팅 메시지 전송 실패 - chatroomId: {}, {}개: {}", chatroomId, frame.size(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 채팅방 대기열 해제 (경기 종료 후 보관 처리)
+     */
+    public void remove(Long chatroomId) {
+        pendingByRoom.remove(chatroomId);
+    }
+}
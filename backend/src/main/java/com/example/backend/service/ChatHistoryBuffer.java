@@ -0,0 +1,148 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.ChatMessageDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 채팅방별 최근 메시지 링 버퍼
+ * - 채팅방마다 최근 capacity 개 메시지를 메모리에 보관
+ * - 입장 시 최근 메시지를 DB 조회 없이 제공
+ * - 채팅방당 최초 1회만 DB에서 적재 (서버 재시작 직후 등)
+ *   적재는 락 밖에서 처음 요청한 스레드가 수행, 같은 방의 다른 요청은 적재 완료를 기다림 (가상 스레드 고정 방지)
+ * - 종료된 경기의 채팅방은 remove 로 버퍼 해제
+ * - 인스턴스별 메모리 버퍼이므로 릴레이 모드에서는 다른 인스턴스에 접속한 사용자의 메시지가 빠질 수 있음
+ *   (입장 시 최근 목록 한정, 이후 메시지는 브로커로 모두 수신)
+ */
+@Component
+public class ChatHistoryBuffer {
+
+    private final int capacity;
+    private final Map<Long, CompletableFuture<RoomHistory>> rooms = new ConcurrentHashMap<>();
+
+    public ChatHistoryBuffer(@Value("${app.chat.history.size:200}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 최근 메시지 (오래된 순)
+     *
+     * @param loader 버퍼가 비어 있을 때 DB에서 최근 메시지를 읽는 함수 (오래된 순)
+     */
+    public List<ChatMessageDto> getRecent(Long chatroomId, Supplier<List<ChatMessageDto>> loader) {
+        return room(chatroomId, loader).snapshot();
+    }
+
+    /**
+     * 새 메시지 추가
+     */
+    public void append(Long chatroomId, ChatMessageDto message, Supplier<List<ChatMessageDto>> loader) {
+        room(chatroomId, loader).append(message);
+    }
+
+    /**
+     * 채팅방 버퍼 해제 (경기 종료 후 보관 처리)
+     */
+    public void remove(Long chatroomId) {
+        rooms.remove(chatroomId);
+    }
+
+    /**
+     * 버퍼가 있는 채팅방 ID (보관된 채팅방 정리용)
+     */
+    public Set<Long> chatroomIds() {
+        return Set.copyOf(rooms.keySet());
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 채팅방 버퍼 (없으면 이 스레드가 DB에서 적재, 적재 중이면 완료까지 대기)
+     */
+    private RoomHistory room(Long chatroomId, Supplier<List<ChatMessageDto>> loader) {
+        CompletableFuture<RoomHistory> existing = rooms.get(chatroomId);
+        if (existing == null) {
+            CompletableFuture<RoomHistory> created = new CompletableFuture<>();
+            existing = rooms.putIfAbsent(chatroomId, created);
+            if (existing == null) {
+                return load(chatroomId, created, loader);
+            }
+        }
+
+        try {
+            return existing.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private RoomHistory load(Long chatroomId, CompletableFuture<RoomHistory> future,
+                             Supplier<List<ChatMessageDto>> loader) {
+        try {
+            RoomHistory room = new RoomHistory(capacity);
+            loader.get().forEach(room::append);
+            future.complete(room);
+            return room;
+        } catch (RuntimeException e) {
+            // 실패하면 다음 요청이 다시 적재하도록 제거
+            rooms.remove(chatroomId, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 고정 크기 원형 배열 (가득 차면 가장 오래된 메시지를 덮어씀)
+     */
+    private static final class RoomHistory {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ChatMessageDto[] messages;
+        private int head;   // 가장 오래된 메시지 위치
+        private int size;
+
+        private RoomHistory(int capacity) {
+            this.messages = new ChatMessageDto[capacity];
+        }
+
+        List<ChatMessageDto> snapshot() {
+            lock.lock();
+            try {
+                List<ChatMessageDto> result = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    result.add(messages[(head + i) % messages.length]);
+                }
+                return result;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void append(ChatMessageDto message) {
+            lock.lock();
+            try {
+                if (size < messages.length) {
+                    messages[(head + size) % messages.length] = message;
+                    size++;
+                } else {
+                    messages[head] = message;
+                    head = (head + 1) % messages.length;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
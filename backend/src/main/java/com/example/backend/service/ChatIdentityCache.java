@@ -0,0 +1,149 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.User;
+import com.example.backend.repository.ChatroomRepository;
+import com.example.backend.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 채팅용 사용자/채팅방 식별 정보 캐시
+ * - username / userId → 불변 프로필 (ID, 닉네임, 티어, 관리자 여부)
+ * - STOMP CONNECT 시 미리 적재하여 메시지마다 DB 조회 X
+ * - 닉네임/티어/관리자 권한 변경 시 커밋 이후 해당 사용자 항목만 무효화
+ * - 채팅방은 삭제되지 않으므로 존재가 확인된 ID만 보관
+ */
+@Component
+public class ChatIdentityCache {
+
+    private final UserRepository userRepository;
+    private final ChatroomRepository chatroomRepository;
+
+    private final Cache<String, UserProfile> profilesByUsername;
+    private final Cache<Long, UserProfile> profilesById;
+    private final Cache<Long, Boolean> existingChatrooms;
+
+    public ChatIdentityCache(UserRepository userRepository,
+                             ChatroomRepository chatroomRepository,
+                             MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.chatroomRepository = chatroomRepository;
+        this.profilesByUsername = Caffeine.newBuilder()
+                .maximumSize(20000)
+                .expireAfterAccess(Duration.ofHours(1))
+                .recordStats()
+                .build();
+        this.profilesById = Caffeine.newBuilder()
+                .maximumSize(20000)
+                .expireAfterAccess(Duration.ofHours(1))
+                .recordStats()
+                .build();
+        this.existingChatrooms = Caffeine.newBuilder()
+                .maximumSize(5000)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, profilesByUsername, "chatProfiles");
+        CaffeineCacheMetrics.monitor(meterRegistry, profilesById, "chatProfilesById");
+    }
+
+    // ========== 사용자 ==========
+
+    /**
+     * username으로 프로필 조회 (없는 사용자면 empty)
+     */
+    public Optional<UserProfile> getProfile(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        UserProfile cached = profilesByUsername.getIfPresent(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return userRepository.findByUsername(username).map(this::put);
+    }
+
+    /**
+     * userId로 프로필 조회 (없는 사용자면 empty)
+     */
+    public Optional<UserProfile> getProfile(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        UserProfile cached = profilesById.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return userRepository.findById(userId).map(this::put);
+    }
+
+    /**
+     * 이미 로드된 사용자 엔티티로 프로필 조회 (캐시에 없으면 엔티티로 적재)
+     */
+    public UserProfile getProfile(User user) {
+        UserProfile cached = profilesById.getIfPresent(user.getUserId());
+        return cached != null ? cached : put(user);
+    }
+
+    /**
+     * 닉네임/티어/관리자 권한 변경 시 무효화 (트랜잭션 커밋 이후)
+     */
+    public void evictUser(User user) {
+        Long userId = user.getUserId();
+        String username = user.getUsername();
+        AfterCommit.run(() -> {
+            profilesById.invalidate(userId);
+            profilesByUsername.invalidate(username);
+        });
+    }
+
+    private UserProfile put(User user) {
+        UserProfile profile = UserProfile.of(user);
+        profilesById.put(profile.userId(), profile);
+        profilesByUsername.put(profile.username(), profile);
+        return profile;
+    }
+
+    // ========== 채팅방 ==========
+
+    /**
+     * 채팅방 존재 여부 (존재가 확인된 ID만 캐시)
+     */
+    public boolean chatroomExists(Long chatroomId) {
+        if (chatroomId == null) {
+            return false;
+        }
+        if (existingChatrooms.getIfPresent(chatroomId) != null) {
+            return true;
+        }
+        boolean exists = chatroomRepository.existsById(chatroomId);
+        if (exists) {
+            existingChatrooms.put(chatroomId, Boolean.TRUE);
+        }
+        return exists;
+    }
+
+    /**
+     * 채팅방 생성/조회 시 존재 등록
+     */
+    public void markChatroomExists(Long chatroomId) {
+        if (chatroomId != null) {
+            existingChatrooms.put(chatroomId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 채팅에 필요한 사용자 정보 (불변)
+     */
+    public record UserProfile(Long userId, String username, String nickname, String tier, Boolean isAdmin) {
+
+        static UserProfile of(User user) {
+            return new UserProfile(user.getUserId(), user.getUsername(), user.getNickname(),
+                    user.getTier(), user.getIsAdmin());
+        }
+    }
+}
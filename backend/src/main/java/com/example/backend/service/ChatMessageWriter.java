@@ -0,0 +1,197 @@
+package com.example.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 비동기 배치 저장기
+ * - 브로드캐스트와 분리하여 고정 크기 큐(링 버퍼)에 메시지를 적재
+ * - 전용 스레드가 flushIntervalMs 마다 또는 batchSize 개가 모이면 JDBC 배치 INSERT
+ * - 큐가 가득 차면 새 메시지를 거부 (호출 측에서 브로드캐스트하지 않고 버림)
+ * - 특정 행 때문에 배치가 실패하면 (삭제된 채팅방/사용자 FK 위반 등) 반씩 나눠 다시 저장하고 실패한 행만 버림
+ * - 메트릭: chat.writer.queue.depth, chat.writer.flush, chat.writer.persisted, chat.writer.dropped, chat.writer.failed
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_messages (chatroom_id, user_id, message, message_type, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingChatMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final Timer flushTimer;
+    private final Counter persistedCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public ChatMessageWriter(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.chat.writer.capacity:10000}") int capacity,
+                             @Value("${app.chat.writer.batch-size:500}") int batchSize,
+                             @Value("${app.chat.writer.flush-interval-ms:200}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+
+        Gauge.builder("chat.writer.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.writer.flush")
+                .description("채팅 메시지 배치 INSERT 소요 시간")
+                .register(meterRegistry);
+        this.persistedCounter = meterRegistry.counter("chat.writer.persisted");
+        this.droppedCounter = meterRegistry.counter("chat.writer.dropped");
+        this.failedCounter = meterRegistry.counter("chat.writer.failed");
+    }
+
+    /**
+     * 저장 큐에 메시지 적재
+     *
+     * @return 큐가 가득 차서 거부되면 false
+     */
+    public boolean enqueue(Long chatroomId, Long userId, String message, String messageType, LocalDateTime createdAt) {
+        boolean accepted = queue.offer(new PendingChatMessage(chatroomId, userId, message, messageType, createdAt));
+        if (!accepted) {
+            droppedCounter.increment();
+        }
+        return accepted;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runLoop, "chat-message-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 서버 종료 시 남은 메시지 모두 저장
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+
+        List<PendingChatMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("서버 종료 - 남은 채팅 메시지 {}개 저장", remaining.size());
+            for (int from = 0; from < remaining.size(); from += batchSize) {
+                flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+            }
+        }
+    }
+
+    private void runLoop() {
+        List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                long deadline = System.currentTimeMillis() + flushIntervalMs;
+                while (batch.size() < batchSize) {
+                    long waitMs = deadline - System.currentTimeMillis();
+                    if (waitMs <= 0) {
+                        break;
+                    }
+                    PendingChatMessage first = queue.poll(waitMs, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        break;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("채팅 메시지 저장 루프 오류: {}", e.getMessage(), e);
+            }
+        }
+
+        // 종료 직전까지 모은 메시지는 큐로 되돌려 stop()에서 저장
+        batch.forEach(queue::offer);
+    }
+
+    private void flush(List<PendingChatMessage> batch) {
+        long startedAt = System.nanoTime();
+        int persisted = insert(batch);
+        flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        persistedCounter.increment(persisted);
+        failedCounter.increment(batch.size() - persisted);
+    }
+
+    /**
+     * 한 트랜잭션으로 배치 INSERT (실패하면 배치 전체 롤백)
+     * 행 단위 제약 위반이면 반으로 나눠 다시 시도해 실패한 행만 버림
+     *
+     * @return 저장된 메시지 수
+     */
+    private int insert(List<PendingChatMessage> batch) {
+        List<Object[]> batchArgs = new ArrayList<>(batch.size());
+        for (PendingChatMessage message : batch) {
+            batchArgs.add(new Object[]{
+                    message.chatroomId(),
+                    message.userId(),
+                    message.message(),
+                    message.messageType(),
+                    Timestamp.valueOf(message.createdAt())
+            });
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs));
+            return batch.size();
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                PendingChatMessage message = batch.get(0);
+                log.warn("채팅 메시지 저장 실패 - 버림 (chatroomId: {}, userId: {}): {}",
+                        message.chatroomId(), message.userId(), e.getMostSpecificCause().getMessage());
+                return 0;
+            }
+            int middle = batch.size() / 2;
+            return insert(batch.subList(0, middle)) + insert(batch.subList(middle, batch.size()));
+        } catch (Exception e) {
+            log.error("채팅 메시지 {}개 저장 실패: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private record PendingChatMessage(Long chatroomId, Long userId, String message,
+                                      String messageType, LocalDateTime createdAt) {
+    }
+}
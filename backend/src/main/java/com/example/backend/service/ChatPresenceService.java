@@ -0,0 +1,290 @@
+package com.example.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅방 시청자 수 집계
+ * - STOMP SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 이벤트로 채팅방별 구독 세션 수를 메모리에서 관리
+ * - 5초마다 변경된 채팅방의 시청자 수를 /topic/chatroom/{chatroomId}/viewers 로 전송
+ * - 30초마다 변경된 시청자 수를 chatrooms.viewer_count 에 배치 UPDATE
+ *   이 인스턴스가 마지막으로 반영한 값과의 차이(delta)만 더하므로 여러 인스턴스가 서로 덮어쓰지 않음
+ * - 릴레이 모드에서는 각 인스턴스가 자기 접속자만 알기 때문에 5초마다 DB에 반영한 뒤 DB 합계를 조회/전송
+ *   조회한 합계는 메모리에 두고 getViewerCount 에서 사용 (요청마다 DB 조회 없음)
+ * - 크롤링 스케줄러(app.scheduling.enabled)와 무관하게 전용 스레드에서 실행
+ *
+ * 시청자 수 컬럼은 엔티티에서 updatable = false 이므로 이 서비스만 UPDATE 한다.
+ * 단일 인스턴스(simple)는 시작 시 0으로 초기화, 릴레이 모드는 종료 시 자기 몫을 빼고 내려감
+ * (비정상 종료한 인스턴스의 몫은 남으므로 전체 재시작 시 정리 필요)
+ */
+@Slf4j
+@Service
+public class ChatPresenceService {
+
+    private static final Pattern CHATROOM_DESTINATION = Pattern.compile("^/topic/chatroom/(\\d+)$");
+    private static final long BROADCAST_INTERVAL_MS = 5000;
+    private static final long FLUSH_INTERVAL_MS = 30000;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean relayMode;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-presence");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 채팅방 ID → 시청자 수 (이 인스턴스 접속자, 0명이 되면 제거)
+    private final Map<Long, Integer> viewerCounts = new ConcurrentHashMap<>();
+    // 릴레이 모드: 채팅방 ID → 모든 인스턴스 합계 (5초마다 통째로 교체, 시청자가 있는 채팅방만)
+    private volatile Map<Long, Integer> viewerTotals = Map.of();
+    // 채팅방 ID → 이 인스턴스가 DB에 반영한 시청자 수 (전용 스레드에서만 접근)
+    private final Map<Long, Integer> flushedCounts = new HashMap<>();
+    // 세션 ID → (구독 ID → 채팅방 ID)
+    private final Map<String, Map<String, Long>> subscriptionsBySession = new ConcurrentHashMap<>();
+    // 브로드캐스트/DB 반영 대기 중인 채팅방
+    private final Set<Long> changedForBroadcast = ConcurrentHashMap.newKeySet();
+    private final Set<Long> changedForFlush = ConcurrentHashMap.newKeySet();
+
+    public ChatPresenceService(SimpMessagingTemplate messagingTemplate,
+                               JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${app.websocket.broker.mode:simple}") String brokerMode) {
+        this.messagingTemplate = messagingTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.relayMode = "relay".equalsIgnoreCase(brokerMode);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!relayMode) {
+            // 이전 실행에서 남은 값 정리 (단일 인스턴스만 - 릴레이 모드는 다른 인스턴스 몫을 지우게 됨)
+            try {
+                jdbcTemplate.update("UPDATE chatrooms SET viewer_count = 0 WHERE viewer_count <> 0");
+            } catch (Exception e) {
+                log.warn("시청자 수 초기화 실패: {}", e.getMessage());
+            }
+        }
+        scheduler.scheduleWithFixedDelay(this::broadcastViewerCounts,
+                BROADCAST_INTERVAL_MS, BROADCAST_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (!relayMode) {
+            scheduler.scheduleWithFixedDelay(this::flushViewerCounts,
+                    FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 종료 시 이 인스턴스 몫을 DB에서 뺌
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        viewerCounts.clear();
+        changedForFlush.addAll(flushedCounts.keySet());
+        flushViewerCounts();
+    }
+
+    // ========== 이벤트 ==========
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Long chatroomId = parseChatroomId(accessor.getDestination());
+        if (chatroomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Map<String, Long> subscriptions = subscriptionsBySession
+                .computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>());
+        if (subscriptions.putIfAbsent(accessor.getSubscriptionId(), chatroomId) == null) {
+            change(chatroomId, 1);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> subscriptions = accessor.getSessionId() != null
+                ? subscriptionsBySession.get(accessor.getSessionId()) : null;
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long chatroomId = subscriptions.remove(accessor.getSubscriptionId());
+        if (chatroomId != null) {
+            change(chatroomId, -1);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subscriptions = subscriptionsBySession.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(chatroomId -> change(chatroomId, -1));
+        }
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 현재 시청자 수 (릴레이 모드에서는 모든 인스턴스 합계, 최대 5초 지연)
+     */
+    public int getViewerCount(Long chatroomId) {
+        if (relayMode) {
+            return viewerTotals.getOrDefault(chatroomId, 0);
+        }
+        return getLocalViewerCount(chatroomId);
+    }
+
+    // ========== 주기 작업 (전용 스레드) ==========
+
+    /**
+     * 5초마다 시청자 수가 바뀐 채팅방에 전송 (릴레이 모드는 변경이 없어도 합계를 다시 조회)
+     */
+    void broadcastViewerCounts() {
+        if (changedForBroadcast.isEmpty() && !relayMode) {
+            return;
+        }
+
+        List<Long> chatroomIds = new ArrayList<>(changedForBroadcast);
+        changedForBroadcast.removeAll(chatroomIds);
+
+        Map<Long, Integer> counts;
+        try {
+            if (relayMode) {
+                Map<Long, Integer> totals = flushAndLoadTotals();
+                viewerTotals = totals;
+                counts = new HashMap<>();
+                for (Long chatroomId : chatroomIds) {
+                    counts.put(chatroomId, totals.getOrDefault(chatroomId, 0));
+                }
+            } else {
+                counts = localCounts(chatroomIds);
+            }
+        } catch (Exception e) {
+            log.error("시청자 수 집계 실패 - 다음 주기에 재시도: {}", e.getMessage());
+            changedForBroadcast.addAll(chatroomIds);
+            return;
+        }
+
+        counts.forEach((chatroomId, viewerCount) -> {
+            try {
+                messagingTemplate.convertAndSend("/topic/chatroom/" + chatroomId + "/viewers",
+                        Map.of("chatroomId", chatroomId, "viewerCount", viewerCount));
+            } catch (Exception e) {
+                log.error("시청자 수 전송 실패 - chatroomId: {}: {}", chatroomId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 변경된 시청자 수를 DB에 반영 (이 인스턴스가 마지막으로 반영한 값과의 차이만 더함)
+     */
+    void flushViewerCounts() {
+        if (changedForFlush.isEmpty()) {
+            return;
+        }
+
+        List<Long> chatroomIds = new ArrayList<>(changedForFlush);
+        changedForFlush.removeAll(chatroomIds);
+
+        Map<Long, Integer> current = new HashMap<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long chatroomId : chatroomIds) {
+            int count = getLocalViewerCount(chatroomId);
+            int delta = count - flushedCounts.getOrDefault(chatroomId, 0);
+            current.put(chatroomId, count);
+            if (delta != 0) {
+                batchArgs.add(new Object[]{delta, chatroomId});
+            }
+        }
+
+        try {
+            if (!batchArgs.isEmpty()) {
+                // 일부만 반영된 뒤 재시도하면 delta 가 두 번 더해지므로 한 트랜잭션으로 반영
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                        "UPDATE chatrooms SET viewer_count = viewer_count + ? WHERE chatroom_id = ?", batchArgs));
+                log.debug("시청자 수 반영 완료: {}건", batchArgs.size());
+            }
+            current.forEach((chatroomId, count) -> {
+                if (count == 0) {
+                    flushedCounts.remove(chatroomId);
+                } else {
+                    flushedCounts.put(chatroomId, count);
+                }
+            });
+        } catch (Exception e) {
+            log.error("시청자 수 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+            changedForFlush.addAll(chatroomIds);
+        }
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    private int getLocalViewerCount(Long chatroomId) {
+        return viewerCounts.getOrDefault(chatroomId, 0);
+    }
+
+    private Map<Long, Integer> localCounts(List<Long> chatroomIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        chatroomIds.forEach(chatroomId -> counts.put(chatroomId, getLocalViewerCount(chatroomId)));
+        return counts;
+    }
+
+    /**
+     * 릴레이 모드: 이 인스턴스 몫을 반영한 뒤 시청자가 있는 채팅방의 모든 인스턴스 합계 조회
+     */
+    private Map<Long, Integer> flushAndLoadTotals() {
+        flushViewerCounts();
+
+        Map<Long, Integer> totals = new HashMap<>();
+        jdbcTemplate.query("SELECT chatroom_id, viewer_count FROM chatrooms WHERE viewer_count > 0",
+                rs -> {
+                    totals.put(rs.getLong("chatroom_id"), rs.getInt("viewer_count"));
+                });
+        return Map.copyOf(totals);
+    }
+
+    private void change(Long chatroomId, int delta) {
+        viewerCounts.compute(chatroomId, (id, count) -> {
+            int next = (count != null ? count : 0) + delta;
+            return next > 0 ? next : null;
+        });
+        changedForBroadcast.add(chatroomId);
+        changedForFlush.add(chatroomId);
+    }
+
+    private static Long parseChatroomId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = CHATROOM_DESTINATION.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
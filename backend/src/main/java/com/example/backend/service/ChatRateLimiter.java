@@ -0,0 +1,68 @@
+package com.example.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 채팅 전송 속도 제한 (토큰 버킷)
+ * - 최대 capacity 개까지 연속 전송 허용, 초당 refillPerSecond 개씩 충전
+ * - 제한을 넘은 메시지는 저장/전송하지 않고 버림 (chat.ratelimit.dropped)
+ */
+@Component
+public class ChatRateLimiter {
+
+    private final Cache<Long, TokenBucket> buckets;
+    private final double capacity;
+    private final double refillPerNano;
+    private final Counter droppedCounter;
+
+    public ChatRateLimiter(MeterRegistry meterRegistry,
+                           @Value("${app.chat.rate-limit.capacity:5}") double capacity,
+                           @Value("${app.chat.rate-limit.refill-per-second:1}") double refillPerSecond) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(100000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.droppedCounter = meterRegistry.counter("chat.ratelimit.dropped");
+    }
+
+    /**
+     * 메시지 1개 전송 허용 여부
+     */
+    public boolean tryAcquire(Long userId) {
+        TokenBucket bucket = buckets.get(userId, id -> new TokenBucket(capacity, System.nanoTime()));
+        boolean acquired = bucket.tryConsume(capacity, refillPerNano, System.nanoTime());
+        if (!acquired) {
+            droppedCounter.increment();
+        }
+        return acquired;
+    }
+
+    private static final class TokenBucket {
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(double tokens, long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+
+        synchronized boolean tryConsume(double capacity, double refillPerNano, long now) {
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+            lastRefillNanos = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
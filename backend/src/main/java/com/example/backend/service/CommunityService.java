@@ -7,6 +7,7 @@ import com.example.backend.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -16,6 +17,7 @@ import jakarta.servlet.http.HttpSession;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -37,6 +39,10 @@ public class CommunityService {
     private final ReportRepository reportRepository;
     private final UserBlockRepository userBlockRepository;
     private final NotificationService notificationService;
+    private final ViewCountService viewCountService;
+    private final PostPageCache postPageCache;
+    private final TrendingPostService trendingPostService;
+    private final UserBlockCache userBlockCache;
 
     // 인기글 기준 추천수
     private static final int POPULAR_POST_THRESHOLD = 10;
@@ -57,25 +63,33 @@ public class CommunityService {
      */
     // ========== 게시글 조회 (카테고리별) ==========
 
+    /**
+     * 카테고리별 게시글 조회 (조회자가 차단한 사용자 글 제외)
+     */
+    @Transactional(readOnly = true)
+    public Page<PostDto> getPostsByCategory(String categoryName, Pageable pageable, Long viewerId) {
+        return excludeBlockedAuthors(viewerId, pageable, p -> getPostsByCategory(categoryName, p));
+    }
+
     @Transactional(readOnly = true)
     public Page<PostDto> getPostsByCategory(String categoryName, Pageable pageable) {
         try {
-            Page<Post> posts;
-
-            if (categoryName == null || categoryName.isEmpty() || categoryName.equals("전체") || categoryName.equals("all")) {
+            if (isAllCategory(categoryName)) {
                 // 전체 게시글 조회 (블라인드 제외)
-                posts = postRepository.findByIsBlindedFalseOrderByIsNoticeDescCreatedAtDesc(pageable);
-            } else {
-                // 특정 카테고리 게시글 조회 (블라인드 제외)
-                BoardCategory category = boardCategoryRepository.findByCategoryName(categoryName).orElse(null);
-                if (category == null) {
-                    // 카테고리가 없으면 빈 페이지 반환
-                    return Page.empty(pageable);
-                }
-                posts = postRepository.findByCategoryAndIsBlindedFalseOrderByIsNoticeDescCreatedAtDesc(category, pageable);
+                return postPageCache.getLatest(PostPageCache.ALL_CATEGORIES, pageable, () ->
+                        postRepository.findByIsBlindedFalseOrderByIsNoticeDescCreatedAtDesc(pageable)
+                                .map(this::convertToDto));
             }
 
-            return posts.map(this::convertToDto);
+            // 특정 카테고리 게시글 조회 (블라인드 제외)
+            BoardCategory category = boardCategoryRepository.findByCategoryName(categoryName).orElse(null);
+            if (category == null) {
+                // 카테고리가 없으면 빈 페이지 반환
+                return Page.empty(pageable);
+            }
+            return postPageCache.getLatest(categoryName, pageable, () ->
+                    postRepository.findByCategoryAndIsBlindedFalseOrderByIsNoticeDescCreatedAtDesc(category, pageable)
+                            .map(this::convertToDto));
         } catch (Exception e) {
             log.error("게시글 조회 중 에러 발생", e);
             return Page.empty(pageable);
@@ -96,13 +110,22 @@ public class CommunityService {
         }
     }
 
+    /**
+     * 카테고리별 인기글 조회 (조회자가 차단한 사용자 글 제외)
+     */
+    @Transactional(readOnly = true)
+    public Page<PostDto> getPopularPostsByCategory(String categoryName, Pageable pageable, Long viewerId) {
+        return excludeBlockedAuthors(viewerId, pageable, p -> getPopularPostsByCategory(categoryName, p));
+    }
+
     @Transactional(readOnly = true)
     public Page<PostDto> getPopularPostsByCategory(String categoryName, Pageable pageable) {
         try {
-            if (categoryName == null || categoryName.isEmpty() || categoryName.equals("전체") || categoryName.equals("all")) {
+            if (isAllCategory(categoryName)) {
                 // 전체 인기글 (블라인드 제외)
-                Page<Post> posts = postRepository.findByIsPopularTrueAndIsBlindedFalseOrderByLikeCountDescCreatedAtDesc(pageable);
-                return posts.map(this::convertToDto);
+                return postPageCache.getPopular(PostPageCache.ALL_CATEGORIES, pageable, () ->
+                        postRepository.findByIsPopularTrueAndIsBlindedFalseOrderByLikeCountDescCreatedAtDesc(pageable)
+                                .map(this::convertToDto));
             }
 
             BoardCategory category = boardCategoryRepository.findByCategoryName(categoryName).orElse(null);
@@ -111,8 +134,9 @@ public class CommunityService {
             }
 
             // 카테고리별 인기글 (블라인드 제외)
-            Page<Post> posts = postRepository.findByCategoryAndIsPopularTrueAndIsBlindedFalseOrderByLikeCountDescCreatedAtDesc(category, pageable);
-            return posts.map(this::convertToDto);
+            return postPageCache.getPopular(categoryName, pageable, () ->
+                    postRepository.findByCategoryAndIsPopularTrueAndIsBlindedFalseOrderByLikeCountDescCreatedAtDesc(category, pageable)
+                            .map(this::convertToDto));
         } catch (Exception e) {
             log.error("카테고리별 인기글 조회 중 에러 발생", e);
             return Page.empty(pageable);
@@ -125,19 +149,21 @@ public class CommunityService {
      * @param searchType 검색 타입 (all, title, content, author)
      * @param categoryName 카테고리 이름 (선택사항)
      * @param pageable 페이지 정보
+     * @param viewerId 조회자 ID (차단한 사용자 글 제외, 비로그인이면 null)
+     */
+    @Transactional(readOnly = true)
+    public Page<PostDto> searchPosts(String keyword, String searchType, String categoryName, Pageable pageable, Long viewerId) {
+        return excludeBlockedAuthors(viewerId, pageable, p -> searchPosts(keyword, searchType, categoryName, p));
+    }
+
+    /**
+     * 게시글 검색 (차단 필터 없음)
      */
     @Transactional(readOnly = true)
     public Page<PostDto> searchPosts(String keyword, String searchType, String categoryName, Pageable pageable) {
         // 카테고리 필터링 여부 확인
-        BoardCategory category = null;
-        boolean filterByCategory = false;
-
-        if (categoryName != null && !categoryName.isEmpty() && !categoryName.equals("전체") && !categoryName.equals("all")) {
-            category = boardCategoryRepository.findByCategoryName(categoryName).orElse(null);
-            if (category != null) {
-                filterByCategory = true;
-            }
-        }
+        BoardCategory category = resolveSearchCategory(categoryName);
+        boolean filterByCategory = category != null;
 
         // 검색 타입에 따라 적절한 메서드 호출
         if (searchType == null || searchType.isEmpty() || searchType.equals("all")) {
@@ -190,8 +216,9 @@ public class CommunityService {
 
     /**
      * 게시글 상세 조회 (조회수 증가)
+     * 조회수는 ViewCountService에 누적 후 주기적으로 반영되므로 읽기 전용 트랜잭션으로 처리
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public PostDto getPost(Long postId, HttpSession session) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
@@ -201,19 +228,16 @@ public class CommunityService {
             throw new RuntimeException("블라인드 처리된 게시글입니다.");
         }
 
-        // 조회수 증가 (중복 방지 로직)
-        String viewKey = "viewed_post_" + postId;
-        Long lastViewTime = (Long) session.getAttribute(viewKey);
-        long currentTime = System.currentTimeMillis();
-
-        // 5분(300,000ms) 이내에 같은 게시글을 조회한 적이 없으면 조회수 증가
-        if (lastViewTime == null || (currentTime - lastViewTime) > 300000) {
-            post.setViewCount(post.getViewCount() + 1);
-            postRepository.save(post);
-            session.setAttribute(viewKey, currentTime);
+        // 조회수 증가 (5분 이내 같은 세션의 중복 조회는 제외)
+        if (viewCountService.recordPostView(postId, session.getId())) {
+            trendingPostService.onView(postId);
         }
 
-        return convertToDto(post);
+        PostDto dto = convertToDto(post);
+        // 아직 DB에 반영되지 않은 조회수 포함
+        int viewCount = post.getViewCount() != null ? post.getViewCount() : 0;
+        dto.setViewCount(viewCount + (int) viewCountService.getPendingPostViews(postId));
+        return dto;
     }
 
     // ========== 게시글 작성/수정/삭제 ==========
@@ -244,6 +268,8 @@ public class CommunityService {
         post.setContent(content);
 
         Post savedPost = postRepository.save(post);
+        postPageCache.evictPost(finalCategoryName, false);
+        trendingPostService.track(savedPost);
         return convertToDto(savedPost);
     }
 
@@ -263,6 +289,7 @@ public class CommunityService {
         post.setTitle(title);
         post.setContent(content);
         Post updatedPost = postRepository.save(post);
+        postPageCache.evictPost(post.getCategory().getCategoryName(), post.getIsPopular());
 
         return convertToDto(updatedPost);
     }
@@ -280,34 +307,27 @@ public class CommunityService {
             throw new IllegalArgumentException("본인이 작성한 게시글만 삭제할 수 있습니다.");
         }
 
-        // ⭐ 게시글에 달린 모든 댓글 먼저 삭제
-        List<Comment> comments = commentRepository.findByPostAndParentCommentIsNullOrderByCreatedAtAsc(post);
-
-        // 대댓글 먼저 삭제
-        for (Comment comment : comments) {
-            List<Comment> replies = commentRepository.findByParentCommentOrderByCreatedAtAsc(comment);
-
-            // ⭐ 대댓글의 투표 먼저 삭제
-            for (Comment reply : replies) {
-                commentVoteRepository.deleteByComment(reply);
-            }
-            commentRepository.deleteAll(replies);
+        // ⭐ 댓글 수와 상관없이 의존 순서대로 일괄 삭제 (쿼리 6개)
+        // 1. 댓글 투표 삭제
+        int commentVotes = commentVoteRepository.deleteByPost(post);
 
-            // ⭐ 부모 댓글의 투표 삭제
-            commentVoteRepository.deleteByComment(comment);
-        }
+        // 2. 대댓글의 부모 참조 해제 후 댓글 전체 삭제
+        commentRepository.detachRepliesByPost(post);
+        int comments = commentRepository.deleteByPost(post);
 
-        // 그 다음 부모 댓글 삭제
-        commentRepository.deleteAll(comments);
+        // 3. 게시글 관련 추천/비추천 데이터 삭제
+        int postVotes = postVoteRepository.deleteByPost(post);
 
-        // ⭐ 게시글 관련 추천/비추천 데이터 삭제
-        postVoteRepository.deleteByPost(post);
+        // 4. 게시글 스크랩 데이터 삭제
+        int scraps = postScrapRepository.deleteByPost(post);
 
-        // ⭐ 게시글 스크랩 데이터 삭제
-        postScrapRepository.deleteByPost(post);
+        log.info("게시글 삭제 - postId: {}, 댓글: {}, 댓글 투표: {}, 게시글 투표: {}, 스크랩: {}",
+                postId, comments, commentVotes, postVotes, scraps);
 
         // 마지막으로 게시글 삭제
         postRepository.delete(post);
+        postPageCache.evictPost(post.getCategory().getCategoryName(), post.getIsPopular());
+        trendingPostService.untrack(postId);
     }
 
     // ========== 게시글 추천/비추천 ==========
@@ -343,6 +363,7 @@ public class CommunityService {
         checkAndUpdatePopularStatus(post);
 
         postRepository.save(post);
+        trendingPostService.onCountsChanged(post);
 
         // 인기글 진입 알림 (기준 달성 시)
         if (post.getIsPopular() && post.getLikeCount() == POPULAR_POST_THRESHOLD) {
@@ -380,6 +401,7 @@ public class CommunityService {
         checkAndUpdatePopularStatus(post);
 
         postRepository.save(post);
+        trendingPostService.onCountsChanged(post);
     }
 
     /**
@@ -408,6 +430,7 @@ public class CommunityService {
 
         postVoteRepository.delete(vote);
         postRepository.save(post);
+        trendingPostService.onCountsChanged(post);
     }
 
     /**
@@ -415,12 +438,18 @@ public class CommunityService {
      * 추천수가 기준 이상이면 인기글로 설정
      */
     private void checkAndUpdatePopularStatus(Post post) {
+        boolean wasPopular = Boolean.TRUE.equals(post.getIsPopular());
         int netLikes = post.getLikeCount() - post.getDislikeCount();  // 순수 추천 수
         if (netLikes >= POPULAR_POST_THRESHOLD) {
             post.setIsPopular(true);
         } else {
             post.setIsPopular(false);
         }
+
+        // 인기글 진입/해제 시 인기글 목록 캐시 무효화
+        if (wasPopular != post.getIsPopular()) {
+            postPageCache.evictPopular(post.getCategory().getCategoryName());
+        }
     }
 
     // ========== 댓글 기능 ==========
@@ -471,7 +500,7 @@ public class CommunityService {
      * 게시글의 댓글 목록 조회 (페이지네이션)
      */
     @Transactional(readOnly = true)
-    public Map<String, Object> getCommentsPaginated(Long postId, int page, int size) {
+    public Map<String, Object> getCommentsPaginated(Long postId, int page, int size, Long viewerId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
 
@@ -482,6 +511,17 @@ public class CommunityService {
                 .map(this::convertCommentToDto)
                 .collect(Collectors.toList());
 
+        // ⭐ 조회자가 차단한 사용자의 댓글/대댓글 제외 (페이지네이션 전에 걸러서 페이지 크기 유지)
+        UserBlockCache.BlockedUsers blockedUsers = userBlockCache.getBlockedUsers(viewerId);
+        if (!blockedUsers.isEmpty()) {
+            allCommentDtos.removeIf(comment -> blockedUsers.contains(comment.getUserId()));
+            for (CommentDto comment : allCommentDtos) {
+                if (comment.getReplies() != null) {
+                    comment.getReplies().removeIf(reply -> blockedUsers.contains(reply.getUserId()));
+                }
+            }
+        }
+
         // ⭐ 베스트 댓글 수집 (페이지와 상관없이)
         List<CommentDto> bestComments = new ArrayList<>();
 
@@ -605,6 +645,7 @@ public class CommunityService {
         // 댓글 수 증가
         post.setCommentCount(post.getCommentCount() + 1);
         postRepository.save(post);
+        trendingPostService.onCountsChanged(post);
 
         Comment savedComment = commentRepository.save(comment);
         return convertCommentToDto(savedComment);
@@ -643,10 +684,21 @@ public class CommunityService {
             throw new IllegalArgumentException("본인이 작성한 댓글만 삭제할 수 있습니다.");
         }
 
+        // 이미 삭제된 댓글이면 댓글 수를 다시 줄이지 않음
+        if (Boolean.TRUE.equals(comment.getIsDeleted())) {
+            return;
+        }
+
         // 소프트 삭제
         comment.setIsDeleted(true);
         comment.setContent("삭제된 댓글입니다.");
         commentRepository.save(comment);
+
+        // 댓글 수 감소 (표시되는 댓글 수는 삭제된 댓글 제외)
+        Post post = comment.getPost();
+        post.setCommentCount(Math.max(0, post.getCommentCount() - 1));
+        postRepository.save(post);
+        trendingPostService.onCountsChanged(post);
     }
 
     /**
@@ -845,6 +897,7 @@ public class CommunityService {
         block.setBlocker(blocker);
         block.setBlocked(blocked);
         userBlockRepository.save(block);
+        userBlockCache.evict(blocker.getUserId());
     }
 
     /**
@@ -862,6 +915,7 @@ public class CommunityService {
                 .orElseThrow(() -> new RuntimeException("차단 내역을 찾을 수 없습니다."));
 
         userBlockRepository.delete(block);
+        userBlockCache.evict(blocker.getUserId());
     }
 
     // ========== 통계 및 랭킹 ==========
@@ -871,13 +925,15 @@ public class CommunityService {
      */
     @Transactional(readOnly = true)
     public List<PostDto> getWeeklyBestPosts() {
-        LocalDateTime weekAgo = LocalDateTime.now().minusWeeks(1);
-        Pageable topTen = PageRequest.of(0, 10);
-
-        return postRepository.findWeeklyBest(weekAgo, topTen)
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return postPageCache.getWeeklyBest(() -> {
+            LocalDateTime weekAgo = LocalDateTime.now().minusWeeks(1);
+            Pageable topTen = PageRequest.of(0, 10);
+
+            return postRepository.findWeeklyBest(weekAgo, topTen)
+                    .stream()
+                    .map(this::convertToDto)
+                    .collect(Collectors.toList());
+        });
     }
 
     /**
@@ -885,11 +941,40 @@ public class CommunityService {
      */
     @Transactional(readOnly = true)
     public List<PostDto> getMonthlyBestPosts() {
-        LocalDateTime monthAgo = LocalDateTime.now().minusMonths(1);
-        Pageable topTen = PageRequest.of(0, 10);
+        return postPageCache.getMonthlyBest(() -> {
+            LocalDateTime monthAgo = LocalDateTime.now().minusMonths(1);
+            Pageable topTen = PageRequest.of(0, 10);
+
+            return postRepository.findMonthlyBest(monthAgo, topTen)
+                    .stream()
+                    .map(this::convertToDto)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    /**
+     * 트렌딩 게시글 (시간 감쇠 hot score 상위 k개)
+     * 순위는 메모리 랭킹에서 계산하고 게시글은 ID로 한 번에 조회
+     */
+    @Transactional(readOnly = true)
+    public List<PostDto> getTrendingPosts(String categoryName, int limit, Long viewerId) {
+        // 차단한 사용자 글이 빠질 수 있으므로 차단 수만큼 더 가져옴
+        UserBlockCache.BlockedUsers blockedUsers = userBlockCache.getBlockedUsers(viewerId);
+        List<Long> postIds = trendingPostService.getTrendingPostIds(
+                isAllCategory(categoryName) ? null : categoryName, limit + blockedUsers.size());
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Post> postMap = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getPostId, post -> post));
 
-        return postRepository.findMonthlyBest(monthAgo, topTen)
-                .stream()
+        return postIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .filter(post -> !Boolean.TRUE.equals(post.getIsBlinded()))
+                .filter(post -> !blockedUsers.contains(post.getUser().getUserId()))
+                .limit(limit)
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
@@ -956,6 +1041,8 @@ public class CommunityService {
 
         post.setIsBlinded(true);
         postRepository.save(post);
+        postPageCache.evictPost(post.getCategory().getCategoryName(), post.getIsPopular());
+        trendingPostService.untrack(postId);
     }
 
     /**
@@ -975,10 +1062,55 @@ public class CommunityService {
 
         post.setIsBlinded(false);
         postRepository.save(post);
+        postPageCache.evictPost(post.getCategory().getCategoryName(), post.getIsPopular());
+        trendingPostService.track(post);
     }
 
     // ========== DTO 변환 헬퍼 메서드 ==========
 
+    /**
+     * 조회자가 차단한 사용자 ID 목록 (실시간 채팅 등 클라이언트 측 필터용)
+     */
+    public List<Long> getBlockedUserIds(Long viewerId) {
+        return userBlockCache.getBlockedUsers(viewerId).toList();
+    }
+
+    /**
+     * 검색 카테고리 (없거나 전체면 null)
+     */
+    private BoardCategory resolveSearchCategory(String categoryName) {
+        if (categoryName == null || categoryName.isEmpty() || categoryName.equals("전체") || categoryName.equals("all")) {
+            return null;
+        }
+        return boardCategoryRepository.findByCategoryName(categoryName).orElse(null);
+    }
+
+    /**
+     * 조회자가 차단한 사용자의 게시글 제외
+     * 걸러낸 만큼 짧은 페이지를 그대로 반환 (다음 페이지에서 채우지 않음)
+     * 페이지 위치와 전체 개수는 필터 전 목록 기준이므로 페이지 간 중복/누락 없음
+     * (목록 페이지는 PostPageCache 로 조회자와 무관하게 공유하므로 쿼리에서 거르지 않음)
+     */
+    private Page<PostDto> excludeBlockedAuthors(Long viewerId, Pageable pageable, Function<Pageable, Page<PostDto>> fetcher) {
+        Page<PostDto> page = fetcher.apply(pageable);
+        UserBlockCache.BlockedUsers blockedUsers = userBlockCache.getBlockedUsers(viewerId);
+        if (blockedUsers.isEmpty()) {
+            return page;
+        }
+
+        List<PostDto> content = page.getContent().stream()
+                .filter(post -> !blockedUsers.contains(post.getUserId()))
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, page.getTotalElements());
+    }
+
+    /**
+     * 전체 카테고리 요청 여부
+     */
+    private boolean isAllCategory(String categoryName) {
+        return categoryName == null || categoryName.isEmpty() || categoryName.equals("전체") || categoryName.equals("all");
+    }
+
     /**
      * Post 엔티티를 PostDto로 변환
      */
@@ -995,6 +1127,7 @@ public class CommunityService {
 
         // 사용자 null 체크
         if (post.getUser() != null) {
+            dto.setUserId(post.getUser().getUserId());
             dto.setUsername(post.getUser().getUsername());
             dto.setNickname(post.getUser().getNickname());
         } else {
@@ -1051,6 +1184,7 @@ public class CommunityService {
         CommentDto dto = new CommentDto();
         dto.setCommentId(comment.getCommentId());
         dto.setPostId(comment.getPost().getPostId());
+        dto.setUserId(comment.getUser().getUserId());
         dto.setUsername(comment.getUser().getUsername());
         dto.setNickname(comment.getUser().getNickname());
         dto.setContent(comment.getContent());
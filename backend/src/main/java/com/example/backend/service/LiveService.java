@@ -4,25 +4,65 @@ import com.example.backend.dto.ChatMessageDto;
 import com.example.backend.dto.MatchDto;
 import com.example.backend.entity.*;
 import com.example.backend.repository.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * 실시간 경기 및 채팅 Service
+ * - 종료된 경기 채팅방 보관은 크롤링 스케줄러(app.scheduling.enabled)와 무관하게 전용 스레드에서 실행
+ *   (링 버퍼/브로드캐스트 큐가 인스턴스별이므로 모든 인스턴스에서 실행)
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LiveService {
 
+    // 이전 메시지 조회 최대 개수
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final long ARCHIVE_INTERVAL_MS = 300000;
+
     private final MatchRepository matchRepository;
     private final ChatroomRepository chatroomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
     private final MatchService matchService;
+    private final UserBlockCache userBlockCache;
+    private final ChatIdentityCache chatIdentityCache;
+    private final ChatHistoryBuffer chatHistoryBuffer;
+    private final ChatBroadcaster chatBroadcaster;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chatroom-archiver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::archiveFinishedChatrooms,
+                ARCHIVE_INTERVAL_MS, ARCHIVE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
 
     /**
      * 진행 중인 경기 조회 (LIVE 상태)
@@ -44,29 +84,110 @@ public class LiveService {
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new RuntimeException("경기를 찾을 수 없습니다."));
 
-        return chatroomRepository.findByMatch(match)
+        Chatroom chatroom = chatroomRepository.findByMatch(match)
                 .orElseGet(() -> {
-                    Chatroom chatroom = new Chatroom();
-                    chatroom.setMatch(match);
-                    chatroom.setIsActive(true);
-                    chatroom.setViewerCount(0);
-                    return chatroomRepository.save(chatroom);
+                    Chatroom created = new Chatroom();
+                    created.setMatch(match);
+                    created.setIsActive(true);
+                    created.setViewerCount(0);
+                    return chatroomRepository.save(created);
                 });
+        chatIdentityCache.markChatroomExists(chatroom.getChatroomId());
+        return chatroom;
     }
 
     /**
-     * 채팅 메시지 조회
+     * 최근 채팅 메시지 조회 (조회자가 차단한 사용자 메시지 제외)
+     * 채팅방별 링 버퍼에서 제공하므로 입장 시 DB 조회 없음
+     */
+    public List<ChatMessageDto> getChatMessages(Long chatroomId, Long viewerId) {
+        if (!chatIdentityCache.chatroomExists(chatroomId)) {
+            throw new RuntimeException("채팅방을 찾을 수 없습니다.");
+        }
+
+        List<ChatMessageDto> messages = chatHistoryBuffer.getRecent(chatroomId, () -> loadRecentMessages(chatroomId));
+        return excludeBlockedUsers(messages, viewerId);
+    }
+
+    /**
+     * 이전 채팅 메시지 조회 (키셋 페이지네이션, 오래된 순)
+     * 커서는 현재 화면의 가장 오래된 메시지의 (createdAt, messageId)
+     *
+     * @param before   커서 메시지 시각
+     * @param beforeId 커서 메시지 ID (아직 저장 전이라 ID가 없으면 null → 시각만으로 조회)
      */
     @Transactional(readOnly = true)
-    public List<ChatMessageDto> getChatMessages(Long chatroomId) {
-        Chatroom chatroom = chatroomRepository.findById(chatroomId)
-                .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
+    public List<ChatMessageDto> getOlderChatMessages(Long chatroomId, LocalDateTime before, Long beforeId,
+                                                     int size, Long viewerId) {
+        if (!chatIdentityCache.chatroomExists(chatroomId)) {
+            throw new RuntimeException("채팅방을 찾을 수 없습니다.");
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        PageRequest page = PageRequest.of(0, pageSize);
+        List<ChatMessage> found = beforeId != null
+                ? chatMessageRepository.findMessagesBefore(chatroomId, before, beforeId, page)
+                : chatMessageRepository.findMessagesBefore(chatroomId, before, page);
+        List<ChatMessageDto> messages = found.stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+        Collections.reverse(messages);
+        return excludeBlockedUsers(messages, viewerId);
+    }
 
-        List<ChatMessage> messages = chatMessageRepository.findByChatroomOrderByCreatedAtAsc(chatroom);
+    /**
+     * 새 메시지를 채팅방 링 버퍼에 추가
+     */
+    public void appendToHistory(ChatMessageDto message) {
+        chatHistoryBuffer.append(message.getChatroomId(), message, () -> loadRecentMessages(message.getChatroomId()));
+    }
 
-        return messages.stream()
+    /**
+     * 5분마다 종료된 경기의 채팅방 보관 처리 (전용 스레드)
+     * (비활성화 후 링 버퍼 해제, 메시지는 DB에 남아 이전 메시지 조회로 확인 가능)
+     */
+    void archiveFinishedChatrooms() {
+        try {
+            List<Long> archived = transactionTemplate.execute(status -> {
+                List<Chatroom> finished = chatroomRepository.findByIsActiveTrueAndMatch_Status("FINISHED");
+                finished.forEach(chatroom -> chatroom.setIsActive(false));
+                return finished.stream().map(Chatroom::getChatroomId).collect(Collectors.toList());
+            });
+            if (archived != null && !archived.isEmpty()) {
+                log.info("종료된 경기 채팅방 보관 처리: {}개", archived.size());
+            }
+
+            // 커밋 후 메모리 해제 (다른 인스턴스가 먼저 보관한 채팅방 포함)
+            Set<Long> buffered = chatHistoryBuffer.chatroomIds();
+            if (buffered.isEmpty()) {
+                return;
+            }
+            for (Chatroom chatroom : chatroomRepository.findByChatroomIdInAndIsActiveFalse(buffered)) {
+                chatHistoryBuffer.remove(chatroom.getChatroomId());
+                chatBroadcaster.remove(chatroom.getChatroomId());
+            }
+        } catch (Exception e) {
+            log.error("채팅방 보관 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<ChatMessageDto> loadRecentMessages(Long chatroomId) {
+        List<ChatMessageDto> messages = chatMessageRepository
+                .findRecentMessages(chatroomId, PageRequest.of(0, chatHistoryBuffer.capacity())).stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
+        Collections.reverse(messages);
+        return messages;
+    }
+
+    private List<ChatMessageDto> excludeBlockedUsers(List<ChatMessageDto> messages, Long viewerId) {
+        UserBlockCache.BlockedUsers blockedUsers = userBlockCache.getBlockedUsers(viewerId);
+        if (blockedUsers.isEmpty()) {
+            return messages;
+        }
+        return messages.stream()
+                .filter(dto -> !blockedUsers.contains(dto.getUserId()))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -87,20 +208,28 @@ public class LiveService {
         chatMessage.setMessageType("USER");
 
         ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
-        return convertToDto(savedMessage);
+        ChatMessageDto dto = convertToDto(savedMessage);
+        appendToHistory(dto);
+        return dto;
     }
 
     /**
      * ChatMessage를 DTO로 변환
+     * 작성자 정보는 식별 캐시에서 조회 (메시지마다 User 지연 로딩 X)
      */
     private ChatMessageDto convertToDto(ChatMessage chatMessage) {
+        ChatIdentityCache.UserProfile profile = chatIdentityCache.getProfile(chatMessage.getUser().getUserId())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
         ChatMessageDto dto = new ChatMessageDto();
         dto.setMessageId(chatMessage.getMessageId());
+        dto.setMessageKey("m-" + chatMessage.getMessageId());
         dto.setChatroomId(chatMessage.getChatroom().getChatroomId());
-        dto.setUsername(chatMessage.getUser().getUsername());
-        dto.setNickname(chatMessage.getUser().getNickname());
-        dto.setUserTier(chatMessage.getUser().getTier());
-        dto.setIsAdmin(chatMessage.getUser().getIsAdmin());  // 관리자 여부 추가
+        dto.setUserId(profile.userId());
+        dto.setUsername(profile.username());
+        dto.setNickname(profile.nickname());
+        dto.setUserTier(profile.tier());
+        dto.setIsAdmin(profile.isAdmin());  // 관리자 여부 추가
         dto.setMessage(chatMessage.getMessage());
         dto.setMessageType(chatMessage.getMessageType());
         dto.setCreatedAt(chatMessage.getCreatedAt());
@@ -25,7 +25,9 @@ public class MyPageService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserSettingsRepository userSettingsRepository;
+    private final NotificationSettingsCache notificationSettingsCache;
     private final PostScrapRepository postScrapRepository;
+    private final ChatIdentityCache chatIdentityCache;
 
     public UserProfileDto getUserProfile(String username) {
         User user = userRepository.findByUsername(username)
@@ -203,6 +205,7 @@ public class MyPageService {
 
         user.setNickname(newNickname);
         userRepository.save(user);
+        chatIdentityCache.evictUser(user);
     }
 
     @Transactional
@@ -249,7 +252,9 @@ public class MyPageService {
         settings.setPopularPostNotification(true);
         settings.setPredictionResultNotification(true);
 
-        return userSettingsRepository.save(settings);
+        UserSettings saved = userSettingsRepository.save(settings);
+        notificationSettingsCache.evict(user.getUserId());
+        return saved;
     }
 
     @Transactional
@@ -266,5 +271,6 @@ public class MyPageService {
         settings.setPredictionResultNotification(request.getPredictionResultNotification());
 
         userSettingsRepository.save(settings);
+        notificationSettingsCache.evict(user.getUserId());
     }
 }
\ No newline at end of file
@@ -1,154 +1,239 @@
 package com.example.backend.service;
 
-import com.example.backend.entity.News;
 import com.example.backend.entity.Sport;
-import com.example.backend.repository.NewsRepository;
 import com.example.backend.repository.SportRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+
+/**
+ * 뉴스 보관 개수 정리
+ * - 종목별 최신 MAX_NEWS_PER_SPORT 개만 유지
+ * - 전체가 MAX_TOTAL_NEWS 개를 넘으면 종목별 최소 MIN_NEWS_PER_SPORT 개를 보장하면서 오래된 순으로 추가 삭제
+ * - 삭제 대상은 윈도 함수 쿼리 한 번으로 계산하고, app.news.cleanup.batch-size 개씩 짧은 트랜잭션으로 삭제
+ *   (news_likes → news 순서로 같은 배치에서 함께 삭제)
+ * - dryRun 이면 삭제 없이 삭제될 개수만 보고
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NewsCleanupService {
 
-    private final NewsRepository newsRepository;
-    private final SportRepository sportRepository;
-
     // 전체 뉴스 최대 개수 (20페이지 × 10개)
     private static final int MAX_TOTAL_NEWS = 200;
     // 종목별 최대 개수 (200 ÷ 5종목 = 40개)
     private static final int MAX_NEWS_PER_SPORT = 40;
     // 종목별 최소 개수 (UFC 등 비인기 종목 보장)
     private static final int MIN_NEWS_PER_SPORT = 20;
-    // 자동 삭제 기준 일수
-    private static final int DELETE_AFTER_DAYS = 30;
 
     /**
-     * 매일 새벽 3시에 자동 실행
+     * 삭제 대상 계산
+     * - sport_rank: 종목 안에서 최신순 순위
+     * - SPORT_LIMIT: 종목별 최대 개수 초과분
+     * - TOTAL_LIMIT: 남은 뉴스 중 종목 최소 개수를 넘는 것들을 오래된 순으로 전체 초과분만큼
      */
-    @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
-    public void cleanupOldNews() {
-        log.info("===== 뉴스 자동 정리 시작 =====");
+    private static final String SELECT_EXPIRED_SQL =
+            "WITH ranked AS (" +
+            "  SELECT news_id, sport_id, published_at," +
+            "         ROW_NUMBER() OVER (PARTITION BY sport_id ORDER BY published_at DESC, news_id DESC) AS sport_rank" +
+            "  FROM news" +
+            "), kept AS (" +
+            "  SELECT * FROM ranked WHERE sport_rank <= ?" +
+            "), total_candidates AS (" +
+            "  SELECT news_id, sport_id," +
+            "         ROW_NUMBER() OVER (ORDER BY published_at ASC, news_id ASC) AS oldest_rank" +
+            "  FROM kept WHERE sport_rank > ?" +
+            ") " +
+            "SELECT news_id, sport_id, 'SPORT_LIMIT' AS reason FROM ranked WHERE sport_rank > ? " +
+            "UNION ALL " +
+            "SELECT news_id, sport_id, 'TOTAL_LIMIT' AS reason FROM total_candidates " +
+            "WHERE oldest_rank <= (SELECT COUNT(*) FROM kept) - ?";
+
+    private static final String COUNT_BY_SPORT_SQL =
+            "SELECT sport_id, COUNT(*) AS news_count FROM news GROUP BY sport_id";
 
-        // 전체 뉴스 개수 확인
-        long totalNews = newsRepository.count();
-        log.info("현재 전체 뉴스 개수: {}", totalNews);
+    private final SportRepository sportRepository;
+    private final NewsDeduplicator newsDeduplicator;
+    private final PopularNewsService popularNewsService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public NewsCleanupService(SportRepository sportRepository,
+                              NewsDeduplicator newsDeduplicator,
+                              PopularNewsService popularNewsService,
+                              JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${app.news.cleanup.batch-size:500}") int batchSize) {
+        this.sportRepository = sportRepository;
+        this.newsDeduplicator = newsDeduplicator;
+        this.popularNewsService = popularNewsService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
 
-        List<Sport> sports = sportRepository.findAll();
-        int totalDeleted = 0;
+    /**
+     * 정리 결과
+     *
+     * @param dryRun       true 이면 실제로 삭제하지 않음
+     * @param deletedNews  삭제(예정)된 뉴스 수
+     * @param deletedLikes 함께 삭제(예정)된 좋아요 수
+     * @param sports       종목별 현황
+     */
+    public record CleanupReport(boolean dryRun, int deletedNews, int deletedLikes, List<SportReport> sports) {
 
-        for (Sport sport : sports) {
-            int deleted = cleanupNewsBySport(sport);
-            totalDeleted += deleted;
+        public long totalBefore() {
+            return sports.stream().mapToLong(SportReport::before).sum();
         }
 
-        // 전체 개수가 여전히 200개를 초과하면 추가 정리
-        totalNews = newsRepository.count();
-        if (totalNews > MAX_TOTAL_NEWS) {
-            int excess = (int)(totalNews - MAX_TOTAL_NEWS);
-            log.info("전체 개수가 {}개 초과 - 추가로 {}개 삭제", MAX_TOTAL_NEWS, excess);
-            totalDeleted += deleteOldestNewsGlobally(excess);
+        public long totalAfter() {
+            return totalBefore() - deletedNews;
         }
-
-        log.info("===== 뉴스 자동 정리 완료: 총 {}개 삭제 =====", totalDeleted);
-        log.info("남은 전체 뉴스 개수: {}", newsRepository.count());
     }
 
     /**
-     * 종목별 뉴스 정리
+     * 종목별 현황
+     *
+     * @param sportLimit 종목별 최대 개수 초과로 삭제(예정)
+     * @param totalLimit 전체 최대 개수 초과로 삭제(예정)
      */
+    public record SportReport(String sportName, long before, int sportLimit, int totalLimit) {
 
+        public long after() {
+            return before - sportLimit - totalLimit;
+        }
+    }
 
     /**
-     * 종목별 뉴스 정리
+     * 매일 새벽 3시에 자동 실행
      */
-    private int cleanupNewsBySport(Sport sport) {
-        long totalCount = newsRepository.countBySport(sport);
-
-        log.info("[{}] 현재 개수: {}", sport.getDisplayName(), totalCount);
+    @Scheduled(cron = "0 0 3 * * *", scheduler = "newsScheduler")
+    public void cleanupOldNews() {
+        cleanup(false);
+    }
 
-        if (totalCount <= MIN_NEWS_PER_SPORT) {
-            log.info("[{}] 최소 개수({})보다 적음 - 유지",
-                    sport.getDisplayName(), MIN_NEWS_PER_SPORT);
-            return 0;
+    /**
+     * 뉴스 정리 (dryRun 이면 삭제될 개수만 계산)
+     */
+    public CleanupReport cleanup(boolean dryRun) {
+        log.info("===== 뉴스 자동 정리 시작{} =====", dryRun ? " (dry-run)" : "");
+
+        Map<Long, Long> countsBySport = new LinkedHashMap<>();
+        jdbcTemplate.query(COUNT_BY_SPORT_SQL,
+                rs -> {
+                    countsBySport.put(rs.getLong("sport_id"), rs.getLong("news_count"));
+                });
+
+        List<Long> expiredIds = new ArrayList<>();
+        Map<Long, int[]> expiredBySport = new LinkedHashMap<>();  // sport_id → [SPORT_LIMIT, TOTAL_LIMIT]
+        jdbcTemplate.query(SELECT_EXPIRED_SQL,
+                rs -> {
+                    expiredIds.add(rs.getLong("news_id"));
+                    int[] counts = expiredBySport.computeIfAbsent(rs.getLong("sport_id"), id -> new int[2]);
+                    counts["SPORT_LIMIT".equals(rs.getString("reason")) ? 0 : 1]++;
+                },
+                MAX_NEWS_PER_SPORT, MIN_NEWS_PER_SPORT, MAX_NEWS_PER_SPORT, MAX_TOTAL_NEWS);
+
+        int deletedLikes = 0;
+        for (List<Long> batch : partition(expiredIds)) {
+            deletedLikes += dryRun ? countLikes(batch) : deleteBatch(batch);
         }
-
-        int deleteCount = 0;
-
-        // 🔥 핵심 수정: 40개 초과 시 무조건 오래된 것부터 삭제!
-        if (totalCount > MAX_NEWS_PER_SPORT) {
-            int excessCount = (int)(totalCount - MAX_NEWS_PER_SPORT);
-            List<News> oldestNews = newsRepository
-                    .findTopNBySportOrderByPublishedAtAsc(sport, excessCount);
-
-            newsRepository.deleteAll(oldestNews);
-            deleteCount += oldestNews.size();
-            log.info("[{}] 최대 개수({}) 초과 - 오래된 뉴스 {}개 삭제",
-                    sport.getDisplayName(), MAX_NEWS_PER_SPORT, oldestNews.size());
+        if (!dryRun && !expiredIds.isEmpty()) {
+            // 삭제된 뉴스를 중복 색인과 인기 랭킹에서 제외
+            newsDeduplicator.reload();
+            popularNewsService.reload();
         }
 
-        log.info("[{}] 정리 완료 - {}개 삭제, 남은 개수: {}",
-                sport.getDisplayName(), deleteCount,
-                newsRepository.countBySport(sport));
+        CleanupReport report = new CleanupReport(dryRun, expiredIds.size(), deletedLikes,
+                sportReports(countsBySport, expiredBySport));
 
-        return deleteCount;
+        for (SportReport sport : report.sports()) {
+            log.info("[{}] {}개 → {}개 (종목 최대 초과: {}개, 전체 최대 초과: {}개)",
+                    sport.sportName(), sport.before(), sport.after(), sport.sportLimit(), sport.totalLimit());
+        }
+        log.info("===== 뉴스 자동 정리 완료{}: 뉴스 {}개, 좋아요 {}개 삭제, 남은 전체 뉴스 {}개 =====",
+                dryRun ? " (dry-run)" : "", report.deletedNews(), report.deletedLikes(), report.totalAfter());
+        return report;
     }
 
     /**
-     * 전체에서 가장 오래된 뉴스 삭제 (각 종목 최소 개수는 보장)
+     * 수동 실행용 (dryRun 이면 삭제 없이 보고만)
      */
-    private int deleteOldestNewsGlobally(int count) {
-        List<Sport> sports = sportRepository.findAll();
-        int deleted = 0;
-
-        // 각 종목에서 최소 개수를 초과하는 뉴스 중 가장 오래된 것부터 삭제
-        List<News> candidateNews = newsRepository.findAllByOrderByPublishedAtAsc();
-
-        for (News news : candidateNews) {
-            if (deleted >= count) break;
-
-            Sport sport = news.getSport();
-            long sportCount = newsRepository.countBySport(sport);
-
-            // 해당 종목이 최소 개수보다 많으면 삭제 가능
-            if (sportCount > MIN_NEWS_PER_SPORT) {
-                newsRepository.delete(news);
-                deleted++;
-                log.info("[전체 정리] [{}] 오래된 뉴스 삭제: {}",
-                        sport.getDisplayName(), news.getTitle());
-            }
+    public String manualCleanup(boolean dryRun) {
+        CleanupReport report = cleanup(dryRun);
+
+        StringBuilder result = new StringBuilder();
+        result.append(dryRun ? "뉴스 정리 미리보기 (삭제하지 않음)\n" : "뉴스 정리 완료!\n");
+        result.append("삭제").append(dryRun ? " 예정" : "").append(": 뉴스 ")
+                .append(report.deletedNews()).append("개, 좋아요 ").append(report.deletedLikes()).append("개\n");
+        result.append("전체 뉴스 개수: ").append(report.totalBefore())
+                .append("개 → ").append(report.totalAfter()).append("개\n\n");
+
+        result.append("종목별 현황:\n");
+        for (SportReport sport : report.sports()) {
+            result.append(String.format("- %s: %d개 → %d개 (종목 최대 초과 %d개, 전체 최대 초과 %d개)\n",
+                    sport.sportName(), sport.before(), sport.after(), sport.sportLimit(), sport.totalLimit()));
         }
 
-        return deleted;
+        return result.toString();
     }
 
+    // ========== 내부 헬퍼 ==========
+
     /**
-     * 수동 실행용 (테스트)
+     * 한 배치 삭제 (좋아요 → 뉴스, 짧은 트랜잭션)
+     *
+     * @return 삭제된 좋아요 수
      */
-    @Transactional
-    public String manualCleanup() {
-        cleanupOldNews();
+    private int deleteBatch(List<Long> newsIds) {
+        String placeholders = placeholders(newsIds.size());
+        Object[] args = newsIds.toArray();
+        Integer deletedLikes = transactionTemplate.execute(status -> {
+            int likes = jdbcTemplate.update("DELETE FROM news_likes WHERE news_id IN (" + placeholders + ")", args);
+            jdbcTemplate.update("DELETE FROM news WHERE news_id IN (" + placeholders + ")", args);
+            return likes;
+        });
+        return deletedLikes != null ? deletedLikes : 0;
+    }
 
-        long totalCount = newsRepository.count();
-        StringBuilder result = new StringBuilder();
-        result.append("뉴스 정리 완료!\n");
-        result.append("전체 뉴스 개수: ").append(totalCount).append("개\n\n");
+    private int countLikes(List<Long> newsIds) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM news_likes WHERE news_id IN (" + placeholders(newsIds.size()) + ")",
+                Integer.class, newsIds.toArray());
+        return count != null ? count : 0;
+    }
 
-        List<Sport> sports = sportRepository.findAll();
-        result.append("종목별 현황:\n");
-        for (Sport sport : sports) {
-            long count = newsRepository.countBySport(sport);
-            result.append(String.format("- %s: %d개\n", sport.getDisplayName(), count));
+    private List<SportReport> sportReports(Map<Long, Long> countsBySport, Map<Long, int[]> expiredBySport) {
+        List<SportReport> reports = new ArrayList<>();
+        for (Sport sport : sportRepository.findAll()) {
+            long before = countsBySport.getOrDefault(sport.getSportId(), 0L);
+            int[] expired = expiredBySport.getOrDefault(sport.getSportId(), new int[2]);
+            reports.add(new SportReport(sport.getDisplayName(), before, expired[0], expired[1]));
         }
+        return reports;
+    }
 
-        return result.toString();
+    private List<List<Long>> partition(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            batches.add(ids.subList(from, Math.min(from + batchSize, ids.size())));
+        }
+        return batches;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
     }
-}
\ No newline at end of file
+}
@@ -1,220 +1,271 @@
 package com.example.backend.service;
 
-import com.example.backend.entity.News;
 import com.example.backend.entity.Sport;
-import com.example.backend.repository.NewsRepository;
 import com.example.backend.repository.SportRepository;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.bind.annotation.CrossOrigin;
-
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.net.URLEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 네이버 뉴스 수집
+ * - 종목별 뉴스 검색 API를 공유 WebClient(연결 풀)로 동시에 호출 (app.news.api-concurrency)
+ * - 같은 URL/비슷한 제목의 기사는 네트워크·DB 작업 전에 제외 (NewsDeduplicator)
+ * - 새 기사만 골라 썸네일을 병렬 추출 (NewsThumbnailExtractor, 호스트별 동시 요청 수 제한: app.news.thumbnail-per-host-concurrency)
+ * - 일시적 오류(연결 실패, 타임아웃, 429/5xx)는 지수 백오프로 재시도
+ * - HTTP 호출이 모두 끝난 뒤 짧은 트랜잭션 하나로 JDBC 배치 INSERT
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-
 public class NewsCrawlerService {
 
-    private final NewsRepository newsRepository;
-    private final SportRepository sportRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String NEWS_API_URL =
+            "https://openapi.naver.com/v1/search/news.json?query={query}&display=10&sort=date"; // 최신순 10개
+
+    private static final String INSERT_SQL =
+            "INSERT INTO news (sport_id, title, content, thumbnail_url, source_url, source_name, title_fingerprint, " +
+            "published_at, view_count, like_count, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, 0, ?)";
 
-    @Value("${naver.api.client-id}")
-    private String clientId;
+    private static final String SOURCE_NAME = "네이버 뉴스";
 
-    @Value("${naver.api.client-secret}")
-    private String clientSecret;
+    // news 테이블 컬럼 길이 (배치 INSERT 한 건이 길이 초과로 전체를 실패시키지 않도록 미리 검사)
+    private static final int MAX_TITLE_LENGTH = 300;
+    private static final int MAX_URL_LENGTH = 500;
+
+    // 검색 API 단계 전체 대기 한도 (개별 요청은 WebClientConfig 의 타임아웃 적용)
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(60);
 
     // 종목별 검색 키워드
-    private static final Map<String, String> SPORT_KEYWORD_MAP = new HashMap<>() {{
-        put("FOOTBALL", "축구");
-        put("BASKETBALL", "농구");
-        put("BASEBALL", "야구");
-        put("LOL", "리그오브레전드");
-        put("MMA", "UFC");
-    }};
+    private static final Map<String, String> SPORT_KEYWORD_MAP = Map.of(
+            "FOOTBALL", "축구",
+            "BASKETBALL", "농구",
+            "BASEBALL", "야구",
+            "LOL", "리그오브레전드",
+            "MMA", "UFC"
+    );
+
+    private final NewsDeduplicator newsDeduplicator;
+    private final PopularNewsService popularNewsService;
+    private final SportRepository sportRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WebClient newsWebClient;
+    private final NewsThumbnailExtractor thumbnailExtractor;
+    private final String clientId;
+    private final String clientSecret;
+    private final int apiConcurrency;
+    private final int thumbnailPerHostConcurrency;
+    private final int maxRetries;
+    private final Duration thumbnailTimeout;
+
+    public NewsCrawlerService(NewsDeduplicator newsDeduplicator,
+                              PopularNewsService popularNewsService,
+                              SportRepository sportRepository,
+                              JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              WebClient newsWebClient,
+                              NewsThumbnailExtractor thumbnailExtractor,
+                              @Value("${naver.api.client-id}") String clientId,
+                              @Value("${naver.api.client-secret}") String clientSecret,
+                              @Value("${app.news.api-concurrency:2}") int apiConcurrency,
+                              @Value("${app.news.thumbnail-per-host-concurrency:4}") int thumbnailPerHostConcurrency,
+                              @Value("${app.news.max-retries:2}") int maxRetries,
+                              @Value("${app.news.thumbnail.timeout-ms:10000}") long thumbnailTimeoutMs) {
+        this.newsDeduplicator = newsDeduplicator;
+        this.popularNewsService = popularNewsService;
+        this.sportRepository = sportRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.newsWebClient = newsWebClient;
+        this.thumbnailExtractor = thumbnailExtractor;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.apiConcurrency = Math.max(1, apiConcurrency);
+        this.thumbnailPerHostConcurrency = Math.max(1, thumbnailPerHostConcurrency);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.thumbnailTimeout = Duration.ofMillis(Math.max(1, thumbnailTimeoutMs));
+    }
 
     /**
      * 60분마다 자동 실행 (비용 절감 최적화)
      */
-    @Scheduled(fixedRate = 3600000) // 60분
-    @Transactional
+    @Scheduled(fixedRate = 3600000, scheduler = "newsScheduler") // 60분
     public void crawlAllSportsNews() {
         log.info("=== 네이버 뉴스 API 수집 시작 ===");
+        long startedAt = System.nanoTime();
 
-        for (Map.Entry<String, String> entry : SPORT_KEYWORD_MAP.entrySet()) {
-            String sportName = entry.getKey();
-            String keyword = entry.getValue();
+        try {
+            // 1. 종목별 뉴스 검색 (동시 호출)
+            List<NewsItem> fetched = Flux.fromIterable(SPORT_KEYWORD_MAP.entrySet())
+                    .flatMap(entry -> fetchNewsFromNaverAPI(entry.getKey(), entry.getValue()), apiConcurrency)
+                    .collectList()
+                    .block(FETCH_TIMEOUT);
+            if (fetched == null || fetched.isEmpty()) {
+                log.info("=== 네이버 뉴스 API 수집 완료 === 수집된 뉴스 없음");
+                return;
+            }
 
-            try {
-                fetchNewsFromNaverAPI(sportName, keyword);
-                Thread.sleep(1000); // 1초 대기
-            } catch (Exception e) {
-                log.error("뉴스 수집 실패: {} - {}", sportName, e.getMessage());
+            // 2. 중복 제거 (같은 URL, 비슷한 제목 - 같은 수집 안의 중복 + 이미 저장된 기사)
+            List<NewsItem> candidates = newsDeduplicator.filter(fetched, NewsItem::link, NewsItem::titleFingerprint);
+            if (candidates.isEmpty()) {
+                log.info("=== 네이버 뉴스 API 수집 완료 === 새 뉴스 없음 (수집: {}개)", fetched.size());
+                return;
             }
-        }
 
-        log.info("=== 네이버 뉴스 API 수집 완료 ===");
+            // 3. 썸네일 병렬 추출 (호스트별 동시 요청 수 제한, 전체 상한은 연결 풀 크기)
+            //    기사마다 시간 제한이 있어 느린 호스트가 있어도 나머지 기사는 저장됨
+            List<NewsItem> items = Flux.fromIterable(candidates)
+                    .groupBy(item -> host(item.link()))
+                    .flatMap(group -> group.flatMap(this::withThumbnail, thumbnailPerHostConcurrency),
+                            Integer.MAX_VALUE)
+                    .collectList()
+                    .block();
+
+            // 4. 배치 저장 (짧은 트랜잭션)
+            int saved = saveAll(items);
+            newsDeduplicator.register(items, NewsItem::link, NewsItem::titleFingerprint);
+            if (saved > 0) {
+                popularNewsService.reload();
+            }
+
+            log.info("=== 네이버 뉴스 API 수집 완료 === 수집: {}개, 새 뉴스: {}개, 소요: {}ms",
+                    fetched.size(), saved, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        } catch (Exception e) {
+            log.error("뉴스 수집 실패: {}", e.getMessage(), e);
+        }
     }
 
     /**
      * 수동 크롤링
      */
-    @Transactional
     public void crawlNewsManually() {
         crawlAllSportsNews();
     }
 
     /**
-     * 네이버 뉴스 검색 API 호출
+     * 네이버 뉴스 검색 API 호출 (실패 시 해당 종목만 건너뜀)
      */
-    private void fetchNewsFromNaverAPI(String sportName, String keyword) {
-        try {
-            log.info("뉴스 수집 시작: {} - {}", sportName, keyword);
-
-            // Sport 엔티티 조회
-            Optional<Sport> sportOpt = sportRepository.findBySportName(sportName);
-            if (sportOpt.isEmpty()) {
-                log.warn("Sport not found: {}", sportName);
-                return;
-            }
-            Sport sport = sportOpt.get();
-
-            // 네이버 뉴스 검색 API 호출
-            String text = URLEncoder.encode(keyword + " 스포츠", "UTF-8");
-            String apiURL = "https://openapi.naver.com/v1/search/news.json?query=" + text
-                    + "&display=10&sort=date"; // 최신순 10개
-
-            URL url = new URL(apiURL);
-            HttpURLConnection con = (HttpURLConnection) url.openConnection();
-            con.setRequestMethod("GET");
-            con.setRequestProperty("X-Naver-Client-Id", clientId);
-            con.setRequestProperty("X-Naver-Client-Secret", clientSecret);
-
-            int responseCode = con.getResponseCode();
-            BufferedReader br;
-
-            if (responseCode == 200) {
-                br = new BufferedReader(new InputStreamReader(con.getInputStream(), "UTF-8"));
-            } else {
-                br = new BufferedReader(new InputStreamReader(con.getErrorStream(), "UTF-8"));
-                log.error("API 호출 실패: {}", responseCode);
-                return;
-            }
+    private Flux<NewsItem> fetchNewsFromNaverAPI(String sportName, String keyword) {
+        Sport sport = sportRepository.findBySportName(sportName).orElse(null);
+        if (sport == null) {
+            log.warn("Sport not found: {}", sportName);
+            return Flux.empty();
+        }
 
-            StringBuilder response = new StringBuilder();
-            String inputLine;
-            while ((inputLine = br.readLine()) != null) {
-                response.append(inputLine);
-            }
-            br.close();
-
-            // JSON 파싱
-            JsonNode root = objectMapper.readTree(response.toString());
-            JsonNode items = root.path("items");
-
-            int count = 0;
-            for (JsonNode item : items) {
-                try {
-                    String title = cleanHtmlTags(item.path("title").asText());
-                    String link = item.path("link").asText();
-                    log.info("==== 크롤링 데이터 ====");
-                    log.info("제목: {}", title);
-                    log.info("원본 링크: {}", link);
-                    log.info("링크 길이: {}", link.length());
-                    String description = cleanHtmlTags(item.path("description").asText());
-                    String pubDate = item.path("pubDate").asText();
-
-                    // 중복 체크
-                    if (newsRepository.existsBySourceUrl(link)) {
-                        continue;
+        return newsWebClient.get()
+                .uri(NEWS_API_URL, keyword + " 스포츠")
+                .header("X-Naver-Client-Id", clientId)
+                .header("X-Naver-Client-Secret", clientSecret)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .retryWhen(transientErrorRetry(maxRetries))
+                .flatMapIterable(root -> {
+                    List<NewsItem> items = new ArrayList<>();
+                    for (JsonNode item : root.path("items")) {
+                        String link = item.path("link").asText();
+                        if (link.isEmpty() || link.length() > MAX_URL_LENGTH) {
+                            log.warn("뉴스 링크 형식 오류로 건너뜀: {}", link);
+                            continue;
+                        }
+                        String title = cleanHtmlTags(item.path("title").asText());
+                        items.add(new NewsItem(
+                                sport.getSportId(),
+                                title.length() > MAX_TITLE_LENGTH ? title.substring(0, MAX_TITLE_LENGTH) : title,
+                                cleanHtmlTags(item.path("description").asText()),
+                                link,
+                                NewsDeduplicator.titleFingerprint(title),
+                                parseNaverDate(item.path("pubDate").asText()),
+                                null));
                     }
+                    log.info("뉴스 수집: {} - {}개", sportName, items.size());
+                    return items;
+                })
+                .onErrorResume(e -> {
+                    log.error("API 호출 오류: {} - {}", sportName, e.getMessage());
+                    return Flux.empty();
+                });
+    }
 
-                    // 썸네일 추출
-                    String thumbnailUrl = extractThumbnail(link);
-
-                    // 뉴스 저장
-                    News news = new News();
-                    news.setSport(sport);
-                    news.setTitle(title);
-                    news.setContent(description);
-                    news.setSourceUrl(link);
-                    news.setSourceName("네이버 뉴스");
-                    news.setThumbnailUrl(thumbnailUrl);
-                    news.setPublishedAt(parseNaverDate(pubDate));
-                    news.setViewCount(0);
-
-                    newsRepository.save(news);
-                    count++;
-
-                    log.info("뉴스 저장: {}", title);
-
-                } catch (Exception e) {
-                    log.error("뉴스 파싱 실패: {}", e.getMessage());
-                }
-            }
+    /**
+     * 썸네일 추출 (재시도 포함 thumbnailTimeout 안에 끝나지 않거나 실패하면 썸네일 없이 저장)
+     */
+    private Mono<NewsItem> withThumbnail(NewsItem item) {
+        return thumbnailExtractor.extract(item.link())
+                .filter(imageUrl -> imageUrl.length() <= MAX_URL_LENGTH)
+                .map(item::withThumbnailUrl)
+                .defaultIfEmpty(item)
+                .timeout(thumbnailTimeout)
+                .onErrorReturn(item);
+    }
 
-            log.info("{} 뉴스 {}개 저장 완료", sportName, count);
+    /**
+     * 새 뉴스 일괄 저장
+     */
+    private int saveAll(List<NewsItem> items) {
+        if (items == null || items.isEmpty()) {
+            return 0;
+        }
 
-        } catch (Exception e) {
-            log.error("API 호출 오류: {} - {}", sportName, e.getMessage());
-            e.printStackTrace();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+        List<Object[]> batchArgs = new ArrayList<>(items.size());
+        for (NewsItem item : items) {
+            batchArgs.add(new Object[]{
+                    item.sportId(), item.title(), item.description(), item.thumbnailUrl(), item.link(),
+                    SOURCE_NAME, item.titleFingerprint(), Timestamp.valueOf(item.publishedAt()), now
+            });
         }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs));
+        return items.size();
     }
 
     /**
-     * 뉴스 기사에서 썸네일 이미지 추출
+     * 재시도 정책: 연결 실패, 타임아웃, 429/5xx 응답만 지수 백오프로 재시도 (썸네일 추출과 공용)
      */
-    private String extractThumbnail(String newsUrl) {
-        try {
-            Document doc = Jsoup.connect(newsUrl)
-                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                    .timeout(5000)
-                    .get();
-
-            // OpenGraph 이미지 태그 찾기
-            Element ogImage = doc.selectFirst("meta[property=og:image]");
-            if (ogImage != null) {
-                String imageUrl = ogImage.attr("content");
-                if (imageUrl != null && !imageUrl.isEmpty()) {
-                    log.info("썸네일 추출 성공: {}", imageUrl);
-                    return imageUrl;
-                }
-            }
+    static Retry transientErrorRetry(int maxRetries) {
+        return Retry.backoff(maxRetries, Duration.ofMillis(500))
+                .filter(NewsCrawlerService::isRetryable)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
 
-            // og:image가 없으면 첫 번째 img 태그 찾기
-            Element firstImg = doc.selectFirst("article img, .article img, #articleBodyContents img");
-            if (firstImg != null) {
-                String imageUrl = firstImg.attr("src");
-                if (imageUrl != null && !imageUrl.isEmpty()) {
-                    return imageUrl;
-                }
-            }
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError()
+                    || response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
 
-        } catch (Exception e) {
-            log.warn("썸네일 추출 실패: {} - {}", newsUrl, e.getMessage());
+    private static String host(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : "";
+        } catch (IllegalArgumentException e) {
+            return "";
         }
-        return null;
     }
 
     /**
@@ -243,4 +294,15 @@ public class NewsCrawlerService {
             return LocalDateTime.now();
         }
     }
+
+    /**
+     * 수집한 뉴스 한 건 (저장 전)
+     */
+    private record NewsItem(Long sportId, String title, String description, String link, long titleFingerprint,
+                            LocalDateTime publishedAt, String thumbnailUrl) {
+
+        NewsItem withThumbnailUrl(String thumbnailUrl) {
+            return new NewsItem(sportId, title, description, link, titleFingerprint, publishedAt, thumbnailUrl);
+        }
+    }
 }
@@ -0,0 +1,266 @@
+package com.example.backend.service;
+
+import com.example.backend.repository.NewsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * 수집한 뉴스 중복 제거 (썸네일 추출/DB 저장 전에 실행)
+ * - URL: 저장된 원문 URL 블룸 필터 → "있을 수도 있음" 인 URL만 DB에서 확인 (없다고 나오면 DB 조회 생략)
+ * - 제목: 정규화한 제목의 64비트 SimHash 지문 → 저장된/같이 수집된 기사와 해밍 거리가 max-hamming-distance 이하면 같은 기사로 판단
+ *   (다른 언론사가 다른 URL로 낸 같은 기사, 다른 종목 검색에 같이 걸린 기사)
+ * - 지문은 news.title_fingerprint 에 저장, 시작 시와 뉴스 정리 후 news 테이블에서 색인 재구성
+ *
+ * 메트릭: news.dedup.rejected (reason = url / title)
+ */
+@Slf4j
+@Component
+public class NewsDeduplicator {
+
+    private static final String SELECT_SQL = "SELECT news_id, source_url, title, title_fingerprint FROM news";
+    private static final String BACKFILL_SQL = "UPDATE news SET title_fingerprint = ? WHERE news_id = ?";
+
+    // 제목 말머리 ([속보], 【포토】 등)
+    private static final Pattern TITLE_TAGS = Pattern.compile("\\[[^\\]]*]|【[^】]*】");
+
+    private final NewsRepository newsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxHammingDistance;
+    private final int expectedUrls;
+
+    private final Counter urlRejectedCounter;
+    private final Counter titleRejectedCounter;
+
+    // 색인 (reload 시 통째로 교체, 새 뉴스 저장 후 추가)
+    private BloomFilter urlFilter;
+    private List<Long> fingerprints = new ArrayList<>();
+
+    public NewsDeduplicator(NewsRepository newsRepository,
+                            JdbcTemplate jdbcTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.news.dedup.max-hamming-distance:6}") int maxHammingDistance,
+                            @Value("${app.news.dedup.expected-urls:10000}") int expectedUrls) {
+        this.newsRepository = newsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxHammingDistance = maxHammingDistance;
+        this.expectedUrls = Math.max(1000, expectedUrls);
+        this.urlFilter = new BloomFilter(this.expectedUrls, 0.01);
+        this.urlRejectedCounter = meterRegistry.counter("news.dedup.rejected", "reason", "url");
+        this.titleRejectedCounter = meterRegistry.counter("news.dedup.rejected", "reason", "title");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * news 테이블을 다시 읽어 색인 재구성 (지문이 없는 기존 뉴스는 계산해서 저장)
+     */
+    public synchronized void reload() {
+        BloomFilter filter = new BloomFilter(expectedUrls, 0.01);
+        List<Long> loaded = new ArrayList<>();
+        List<Object[]> backfill = new ArrayList<>();
+
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            filter.put(rs.getString("source_url"));
+            long fingerprint = rs.getLong("title_fingerprint");
+            if (rs.wasNull()) {
+                fingerprint = titleFingerprint(rs.getString("title"));
+                backfill.add(new Object[]{fingerprint, rs.getLong("news_id")});
+            }
+            loaded.add(fingerprint);
+        });
+
+        if (!backfill.isEmpty()) {
+            jdbcTemplate.batchUpdate(BACKFILL_SQL, backfill);
+        }
+
+        urlFilter = filter;
+        fingerprints = loaded;
+        log.info("📰 뉴스 중복 색인 완료 - 뉴스: {}개, 지문 새로 계산: {}개", loaded.size(), backfill.size());
+    }
+
+    /**
+     * 새 뉴스만 남김 (입력 순서 유지, 같은 기사면 먼저 나온 것 사용)
+     *
+     * @param items       수집한 뉴스
+     * @param url         원문 URL
+     * @param fingerprint 제목 지문 (titleFingerprint)
+     */
+    public synchronized <T> List<T> filter(List<T> items, Function<T, String> url, Function<T, Long> fingerprint) {
+        // 1. URL: 같은 수집 안의 중복 제거, 블룸 필터에 걸린 URL만 DB에서 확인
+        Set<String> seenUrls = new HashSet<>();
+        List<T> unique = new ArrayList<>();
+        List<String> maybeStored = new ArrayList<>();
+        for (T item : items) {
+            String itemUrl = url.apply(item);
+            if (!seenUrls.add(itemUrl)) {
+                urlRejectedCounter.increment();
+                continue;
+            }
+            unique.add(item);
+            if (urlFilter.mightContain(itemUrl)) {
+                maybeStored.add(itemUrl);
+            }
+        }
+        Set<String> storedUrls = maybeStored.isEmpty()
+                ? Set.of()
+                : new HashSet<>(newsRepository.findExistingSourceUrls(maybeStored));
+
+        // 2. 제목 지문: 저장된 뉴스 + 이번에 받아들인 뉴스와 비교
+        List<Long> accepted = new ArrayList<>();
+        List<T> fresh = new ArrayList<>();
+        for (T item : unique) {
+            if (storedUrls.contains(url.apply(item))) {
+                urlRejectedCounter.increment();
+                continue;
+            }
+            long itemFingerprint = fingerprint.apply(item);
+            if (isNearDuplicate(itemFingerprint, fingerprints) || isNearDuplicate(itemFingerprint, accepted)) {
+                titleRejectedCounter.increment();
+                log.debug("비슷한 제목의 뉴스가 이미 있어 건너뜀: {}", url.apply(item));
+                continue;
+            }
+            accepted.add(itemFingerprint);
+            fresh.add(item);
+        }
+
+        log.info("뉴스 중복 제거 - 수집: {}개, 새 뉴스: {}개 (DB 확인한 URL: {}개)",
+                items.size(), fresh.size(), maybeStored.size());
+        return fresh;
+    }
+
+    /**
+     * 저장한 뉴스를 색인에 추가
+     */
+    public synchronized <T> void register(List<T> items, Function<T, String> url, Function<T, Long> fingerprint) {
+        for (T item : items) {
+            urlFilter.put(url.apply(item));
+            fingerprints.add(fingerprint.apply(item));
+        }
+    }
+
+    /**
+     * 제목 지문 (정규화한 제목의 문자 2-gram 64비트 SimHash)
+     * 말머리, 공백, 기호, 대소문자 차이는 같은 제목으로 봄
+     */
+    public static long titleFingerprint(String title) {
+        String normalized = normalize(title);
+        if (normalized.length() < 2) {
+            return hash64(normalized);
+        }
+
+        int[] weights = new int[64];
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            long hash = hash64(normalized.substring(i, i + 2));
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+            }
+        }
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    private boolean isNearDuplicate(long fingerprint, List<Long> candidates) {
+        for (long candidate : candidates) {
+            if (Long.bitCount(fingerprint ^ candidate) <= maxHammingDistance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalize(String title) {
+        if (title == null) {
+            return "";
+        }
+        String text = Normalizer.normalize(title, Normalizer.Form.NFKC);
+        text = TITLE_TAGS.matcher(text).replaceAll(" ").toLowerCase(Locale.ROOT);
+
+        StringBuilder sb = new StringBuilder(text.length());
+        text.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    /**
+     * 64비트 해시 (FNV-1a + splitmix64 마무리 섞기)
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 30;
+        hash *= 0xbf58476d1ce4e5b9L;
+        hash ^= hash >>> 27;
+        hash *= 0x94d049bb133111ebL;
+        hash ^= hash >>> 31;
+        return hash;
+    }
+
+    /**
+     * 원문 URL 블룸 필터 (거짓 양성만 있음: "없음" 이면 확실히 없음)
+     */
+    private static final class BloomFilter {
+
+        private final long[] bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        private BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bits = new long[(int) ((optimalBits + 63) / 64)];
+            this.bitCount = bits.length * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        }
+
+        void put(String value) {
+            long hash1 = hash64(value);
+            long hash2 = Long.rotateLeft(hash1, 32) | 1L;
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hash1 + i * hash2, bitCount);
+                bits[(int) (index >>> 6)] |= 1L << index;
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash1 = hash64(value);
+            long hash2 = Long.rotateLeft(hash1, 32) | 1L;
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hash1 + i * hash2, bitCount);
+                if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -23,6 +23,7 @@ public class NewsLikeService {
     private final NewsRepository newsRepository;
     private final UserRepository userRepository;
     private final NewsService newsService;
+    private final PopularNewsService popularNewsService;
 
     /**
      * 뉴스 좋아요 토글
@@ -45,6 +46,8 @@ public class NewsLikeService {
             // 좋아요 개수 감소
             news.setLikeCount(news.getLikeCount() - 1);
             newsRepository.save(news);
+            int likeCount = news.getLikeCount();
+            AfterCommit.run(() -> popularNewsService.onLikesChanged(newsId, likeCount));
 
             log.info("뉴스 좋아요 취소: newsId={}, userId={}", newsId, userId);
             return false; // 좋아요 취소됨
@@ -58,6 +61,8 @@ public class NewsLikeService {
             // 좋아요 개수 증가
             news.setLikeCount(news.getLikeCount() + 1);
             newsRepository.save(news);
+            int likeCount = news.getLikeCount();
+            AfterCommit.run(() -> popularNewsService.onLikesChanged(newsId, likeCount));
 
             log.info("뉴스 좋아요: newsId={}, userId={}", newsId, userId);
             return true; // 좋아요 추가됨
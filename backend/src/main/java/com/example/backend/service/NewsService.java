@@ -3,19 +3,18 @@ package com.example.backend.service;
 import com.example.backend.dto.NewsDto;
 import com.example.backend.entity.News;
 import com.example.backend.entity.Sport;
-import com.example.backend.entity.User;
 import com.example.backend.repository.NewsLikeRepository;
 import com.example.backend.repository.NewsRepository;
 import com.example.backend.repository.SportRepository;
-import com.example.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -24,15 +23,15 @@ public class NewsService {
     private final NewsRepository newsRepository;
     private final SportRepository sportRepository;
     private final NewsLikeRepository newsLikeRepository;
-    private final UserRepository userRepository;
+    private final ViewCountService viewCountService;
+    private final PopularNewsService popularNewsService;
 
     /**
      * 전체 뉴스 조회
      */
     @Transactional(readOnly = true)
     public Page<NewsDto> getAllNews(Pageable pageable, Long userId) {
-        return newsRepository.findAllByOrderByPublishedAtDesc(pageable)
-                .map(news -> convertToDto(news, userId));
+        return convertToDtoPage(newsRepository.findAllByOrderByPublishedAtDesc(pageable), userId);
     }
 
     /**
@@ -43,34 +42,36 @@ public class NewsService {
         Sport sport = sportRepository.findBySportName(sportName)
                 .orElseThrow(() -> new RuntimeException("종목을 찾을 수 없습니다."));
 
-        return newsRepository.findBySportOrderByPublishedAtDesc(sport, pageable)
-                .map(news -> convertToDto(news, userId));
+        return convertToDtoPage(newsRepository.findBySportOrderByPublishedAtDesc(sport, pageable), userId);
     }
 
     /**
-     * 인기 뉴스 조회 (TOP 10)
+     * 인기 뉴스 조회 (TOP 10, 시간 감쇠 인기 점수 순)
+     * 메모리 랭킹에서 바로 응답하고, 로그인 사용자만 좋아요 상태를 한 번에 조회
+     *
+     * @param sportName 종목 이름 (null 이면 전체)
      */
     @Transactional(readOnly = true)
-    public List<NewsDto> getPopularNews(Long userId) {
-        return newsRepository.findTop10ByOrderByViewCountDescPublishedAtDesc()
-                .stream()
-                .map(news -> convertToDto(news, userId))
-                .collect(Collectors.toList());
+    public List<NewsDto> getPopularNews(String sportName, Long userId) {
+        List<NewsDto> popular = popularNewsService.getTopNews(sportName, 10);
+        Set<Long> likedNewsIds = findLikedNewsIds(popular.stream().map(NewsDto::getNewsId).toList(), userId);
+        popular.forEach(dto -> dto.setIsLiked(likedNewsIds.contains(dto.getNewsId())));
+        return popular;
     }
 
     /**
      * 뉴스 상세 조회 (조회수 증가 포함)
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public NewsDto getNews(Long newsId, Long userId) {
         News news = newsRepository.findById(newsId)
                 .orElseThrow(() -> new RuntimeException("뉴스를 찾을 수 없습니다."));
 
-        // 조회수 증가
-        news.setViewCount(news.getViewCount() + 1);
-        newsRepository.save(news);
+        // 조회수 증가 (ViewCountService에서 주기적으로 DB 반영)
+        viewCountService.recordNewsView(newsId);
+        popularNewsService.onView(newsId);
 
-        return convertToDto(news, userId);
+        return convertToDto(news, findLikedNewsIds(List.of(newsId), userId).contains(newsId));
     }
 
     /**
@@ -78,8 +79,7 @@ public class NewsService {
      */
     @Transactional(readOnly = true)
     public Page<NewsDto> searchNews(String keyword, Pageable pageable, Long userId) {
-        return newsRepository.searchByKeyword(keyword, pageable)
-                .map(news -> convertToDto(news, userId));
+        return convertToDtoPage(newsRepository.searchByKeyword(keyword, pageable), userId);
     }
 
     /**
@@ -90,26 +90,44 @@ public class NewsService {
         Sport sport = sportRepository.findBySportName(sportName)
                 .orElseThrow(() -> new RuntimeException("종목을 찾을 수 없습니다."));
 
-        return newsRepository.searchBySportAndKeyword(sport, keyword, pageable)
-                .map(news -> convertToDto(news, userId));
+        return convertToDtoPage(newsRepository.searchBySportAndKeyword(sport, keyword, pageable), userId);
     }
 
     /**
      * 조회수만 증가 (상세 조회 없이)
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public void increaseViewCount(Long newsId) {
-        News news = newsRepository.findById(newsId)
-                .orElseThrow(() -> new RuntimeException("뉴스를 찾을 수 없습니다."));
+        if (!newsRepository.existsById(newsId)) {
+            throw new RuntimeException("뉴스를 찾을 수 없습니다.");
+        }
 
-        news.setViewCount(news.getViewCount() + 1);
-        newsRepository.save(news);
+        viewCountService.recordNewsView(newsId);
+        popularNewsService.onView(newsId);
+    }
+
+    /**
+     * 페이지 변환 (좋아요 상태는 페이지당 쿼리 한 번으로 조회)
+     */
+    private Page<NewsDto> convertToDtoPage(Page<News> page, Long userId) {
+        Set<Long> likedNewsIds = findLikedNewsIds(page.getContent().stream().map(News::getNewsId).toList(), userId);
+        return page.map(news -> convertToDto(news, likedNewsIds.contains(news.getNewsId())));
+    }
+
+    /**
+     * 목록의 뉴스 중 사용자가 좋아요한 뉴스 ID (비로그인이면 빈 집합)
+     */
+    private Set<Long> findLikedNewsIds(List<Long> newsIds, Long userId) {
+        if (userId == null || newsIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return newsLikeRepository.findLikedNewsIds(userId, newsIds);
     }
 
     /**
      * Entity를 DTO로 변환 (좋아요 상태 포함)
      */
-    private NewsDto convertToDto(News news, Long userId) {
+    private NewsDto convertToDto(News news, boolean liked) {
         NewsDto dto = new NewsDto();
         dto.setNewsId(news.getNewsId());
         if (news.getSport() != null) {
@@ -122,20 +140,12 @@ public class NewsService {
         dto.setSourceUrl(news.getSourceUrl());
         dto.setSourceName(news.getSourceName());
         dto.setPublishedAt(news.getPublishedAt());
-        dto.setViewCount(news.getViewCount());
+        // 아직 DB에 반영되지 않은 조회수 포함
+        int viewCount = news.getViewCount() != null ? news.getViewCount() : 0;
+        dto.setViewCount(viewCount + (int) viewCountService.getPendingNewsViews(news.getNewsId()));
         dto.setLikeCount(news.getLikeCount());
 
-        // 좋아요 상태 확인
-        if (userId != null) {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user != null) {
-                dto.setIsLiked(newsLikeRepository.existsByNewsAndUser(news, user));
-            } else {
-                dto.setIsLiked(false);
-            }
-        } else {
-            dto.setIsLiked(false);
-        }
+        dto.setIsLiked(liked);
 
         return dto;
     }
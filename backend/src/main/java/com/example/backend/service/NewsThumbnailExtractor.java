@@ -0,0 +1,231 @@
+package com.example.backend.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 뉴스 기사 썸네일 추출
+ * - 응답 본문을 조금씩 읽다가 </head> 를 만나거나 head-max-bytes 에 도달하면 연결을 끊고 og:image 만 확인
+ * - og:image 가 없을 때만 기사 전체를 받아 본문 이미지(article img 등)를 찾음
+ * - 원문 URL → 썸네일 URL 캐시 (썸네일 없음도 캐시, 같은 URL 동시 요청은 한 번만 다운로드)
+ *
+ * 메트릭
+ * - news.thumbnail.bytes (mode=head|full): 기사 하나당 받은 바이트 수
+ * - news.thumbnail.duration (result=og|fallback|none|failure): 기사 하나당 추출 시간
+ * - cache.gets?tag=cache:newsThumbnails: 캐시 적중률
+ */
+@Slf4j
+@Component
+public class NewsThumbnailExtractor {
+
+    private static final Duration HEAD_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration FULL_TIMEOUT = Duration.ofSeconds(10);
+
+    // 썸네일 없음 (캐시 값은 null 을 가질 수 없으므로 빈 문자열로 표시)
+    private static final String NONE = "";
+
+    private static final byte[] HEAD_END = "</head".getBytes(StandardCharsets.US_ASCII);
+
+    private final WebClient newsWebClient;
+    private final AsyncCache<String, String> cache;
+    private final MeterRegistry meterRegistry;
+    private final int headMaxBytes;
+    private final int maxRetries;
+
+    public NewsThumbnailExtractor(WebClient newsWebClient,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.news.thumbnail.head-max-bytes:65536}") int headMaxBytes,
+                                  @Value("${app.news.thumbnail.cache-max-entries:10000}") long maxEntries,
+                                  @Value("${app.news.thumbnail.cache-ttl-hours:24}") long ttlHours,
+                                  @Value("${app.news.max-retries:2}") int maxRetries) {
+        this.newsWebClient = newsWebClient;
+        this.meterRegistry = meterRegistry;
+        this.headMaxBytes = headMaxBytes;
+        this.maxRetries = Math.max(0, maxRetries);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "newsThumbnails");
+    }
+
+    /**
+     * 썸네일 URL (없거나 실패하면 빈 결과)
+     * 실패는 캐시하지 않아 다음 수집에서 다시 시도
+     */
+    public Mono<String> extract(String newsUrl) {
+        return Mono.fromFuture(() -> cache.get(newsUrl, (url, executor) -> fetch(url).toFuture()))
+                .filter(imageUrl -> !imageUrl.isEmpty())
+                .onErrorResume(e -> {
+                    log.warn("썸네일 추출 실패: {} - {}", newsUrl, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    private Mono<String> fetch(String newsUrl) {
+        long startedAt = System.nanoTime();
+        return readHead(newsUrl)
+                .flatMap(head -> {
+                    String ogImage = ogImage(Jsoup.parse(head, newsUrl));
+                    if (ogImage != null) {
+                        return Mono.just(record(startedAt, "og", ogImage));
+                    }
+                    // og:image 가 없을 때만 기사 전체를 받아 본문 이미지 탐색
+                    return readFull(newsUrl)
+                            .map(html -> {
+                                String imageUrl = selectThumbnail(Jsoup.parse(html, newsUrl));
+                                return imageUrl != null
+                                        ? record(startedAt, "fallback", imageUrl)
+                                        : record(startedAt, "none", NONE);
+                            });
+                })
+                .doOnNext(imageUrl -> log.debug("썸네일 추출: {} → {}", newsUrl, imageUrl))
+                .doOnError(e -> timer("failure").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * </head> 또는 headMaxBytes 까지만 읽고 나머지 본문은 받지 않음 (구독 취소로 연결 종료)
+     */
+    private Mono<String> readHead(String newsUrl) {
+        return Mono.defer(() -> {
+            HeadBuffer head = new HeadBuffer(headMaxBytes);
+            return newsWebClient.get()
+                    .uri(URI.create(newsUrl))
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class)
+                    .map(buffer -> {
+                        try {
+                            return head.append(buffer);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .takeUntil(complete -> complete)
+                    .then(Mono.fromSupplier(() -> {
+                        bytes("head").record(head.size());
+                        return head.toHtml();
+                    }));
+        }).timeout(HEAD_TIMEOUT).retryWhen(NewsCrawlerService.transientErrorRetry(maxRetries));
+    }
+
+    private Mono<String> readFull(String newsUrl) {
+        return Mono.defer(() -> newsWebClient.get()
+                        .uri(URI.create(newsUrl))
+                        .retrieve()
+                        .bodyToMono(byte[].class))
+                .timeout(FULL_TIMEOUT)
+                .retryWhen(NewsCrawlerService.transientErrorRetry(maxRetries))
+                .map(body -> {
+                    bytes("full").record(body.length);
+                    return new String(body, StandardCharsets.UTF_8);
+                });
+    }
+
+    private String record(long startedAt, String result, String imageUrl) {
+        timer(result).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return imageUrl;
+    }
+
+    private Timer timer(String result) {
+        return Timer.builder("news.thumbnail.duration")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary bytes(String mode) {
+        return DistributionSummary.builder("news.thumbnail.bytes")
+                .baseUnit("bytes")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+
+    private static String ogImage(Document doc) {
+        // OpenGraph 이미지 태그 찾기
+        Element ogImage = doc.selectFirst("meta[property=og:image]");
+        if (ogImage != null && !ogImage.attr("content").isEmpty()) {
+            return ogImage.attr("content");
+        }
+        return null;
+    }
+
+    private static String selectThumbnail(Document doc) {
+        String ogImage = ogImage(doc);
+        if (ogImage != null) {
+            return ogImage;
+        }
+
+        // og:image가 없으면 첫 번째 img 태그 찾기
+        Element firstImg = doc.selectFirst("article img, .article img, #articleBodyContents img");
+        if (firstImg != null && !firstImg.attr("src").isEmpty()) {
+            return firstImg.attr("src");
+        }
+        return null;
+    }
+
+    /**
+     * 응답 앞부분 누적 (</head> 를 찾았거나 상한에 도달하면 완료)
+     */
+    private static final class HeadBuffer {
+
+        private final byte[] data;
+        private int size;
+
+        private HeadBuffer(int maxBytes) {
+            this.data = new byte[Math.max(HEAD_END.length, maxBytes)];
+        }
+
+        boolean append(DataBuffer buffer) {
+            int searchFrom = Math.max(0, size - HEAD_END.length + 1);
+            int length = Math.min(buffer.readableByteCount(), data.length - size);
+            buffer.read(data, size, length);
+            size += length;
+            return size == data.length || containsHeadEnd(searchFrom);
+        }
+
+        int size() {
+            return size;
+        }
+
+        String toHtml() {
+            return new String(data, 0, size, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * searchFrom 이후에 "</head" 가 있는지 (대소문자 무시, 청크 경계에 걸친 경우 포함)
+         */
+        private boolean containsHeadEnd(int searchFrom) {
+            outer:
+            for (int i = searchFrom; i <= size - HEAD_END.length; i++) {
+                for (int j = 0; j < HEAD_END.length; j++) {
+                    if (Character.toLowerCase(data[i + j]) != HEAD_END[j]) {
+                        continue outer;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.NotificationDto;
+import com.example.backend.repository.NotificationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 실시간 전송
+ * - 새 알림은 트랜잭션 커밋 후 /user/queue/notifications 로 전송 ({type: NOTIFICATION, notification, unreadCount})
+ * - 읽음/삭제로 읽지 않은 개수가 바뀌면 같은 목적지로 {type: UNREAD_COUNT, unreadCount} 전송 (여러 탭 동기화)
+ * - 이 서버에 WebSocket 으로 접속 중인 사용자만 읽지 않은 개수를 메모리에 유지 (첫 조회 때 DB에서 한 번 계산)
+ *   첫 계산과 새 알림 저장이 겹치면 어긋날 수 있으므로 접속할 때와 모두 읽음 처리 때 DB에서 다시 계산
+ *   릴레이 모드에서는 다른 인스턴스의 변경을 알 수 없으므로 캐시하지 않고 매번 DB 조회
+ * - WebSocket 을 쓰지 못하는 클라이언트는 기존 REST 조회를 그대로 사용
+ *
+ * 사용자 목적지는 userId 를 Principal 이름으로 사용 (WebSocketConfig)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationPushService {
+
+    private static final String DESTINATION = "/queue/notifications";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final NotificationRepository notificationRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    // 세션 ID → userId (이 서버에 접속한 로그인 세션)
+    private final Map<String, Long> userIdBySession = new ConcurrentHashMap<>();
+    // userId → 접속 세션 수
+    private final Map<Long, Integer> sessionCounts = new ConcurrentHashMap<>();
+    // userId → 읽지 않은 알림 개수 (접속 중인 사용자만)
+    private final Map<Long, AtomicLong> unreadCounts = new ConcurrentHashMap<>();
+
+    // ========== 접속 이벤트 ==========
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        Map<String, Object> sessionAttributes = SimpMessageHeaderAccessor.getSessionAttributes(event.getMessage().getHeaders());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId == null || sessionAttributes == null || !(sessionAttributes.get("userId") instanceof Long userId)) {
+            return;
+        }
+
+        if (userIdBySession.putIfAbsent(sessionId, userId) == null) {
+            sessionCounts.merge(userId, 1, Integer::sum);
+        }
+        // 새로 접속(재접속 포함)하면 다음 조회 때 DB에서 다시 계산
+        unreadCounts.remove(userId);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Long userId = userIdBySession.remove(event.getSessionId());
+        if (userId == null) {
+            return;
+        }
+
+        sessionCounts.computeIfPresent(userId, (id, count) -> {
+            if (count > 1) {
+                return count - 1;
+            }
+            // 마지막 세션 종료 → 캐시한 개수도 버림 (다음 접속 때 DB에서 다시 계산)
+            unreadCounts.remove(id);
+            return null;
+        });
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 읽지 않은 알림 개수 (접속 중인 사용자는 메모리 값, 아니면 DB 조회)
+     */
+    public long getUnreadCount(Long userId) {
+        AtomicLong cached = unreadCounts.get(userId);
+        if (cached != null) {
+            return cached.get();
+        }
+
+        long count = notificationRepository.countByUser_UserIdAndIsReadFalse(userId);
+        if (!isRelayMode() && sessionCounts.containsKey(userId)) {
+            unreadCounts.putIfAbsent(userId, new AtomicLong(count));
+        }
+        return count;
+    }
+
+    // ========== 변경 반영 (모두 커밋 후 실행) ==========
+
+    /**
+     * 새 알림 전송
+     */
+    public void publish(Long userId, NotificationDto notification) {
+        AfterCommit.run(() -> {
+            AtomicLong cached = unreadCounts.get(userId);
+            if (cached != null) {
+                cached.incrementAndGet();
+            }
+            if (!isOnline(userId)) {
+                return;
+            }
+
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("type", "NOTIFICATION");
+            payload.put("notification", notification);
+            payload.put("unreadCount", getUnreadCount(userId));
+            send(userId, payload);
+        });
+    }
+
+    /**
+     * 읽지 않은 알림 delta 개가 읽음 처리/삭제됨
+     */
+    public void onUnreadRemoved(Long userId, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            AtomicLong cached = unreadCounts.get(userId);
+            if (cached != null) {
+                cached.updateAndGet(count -> Math.max(0, count - delta));
+            }
+            pushUnreadCount(userId);
+        });
+    }
+
+    /**
+     * 모든 알림 읽음 처리됨 (그 사이 저장된 새 알림이 있을 수 있으므로 DB에서 다시 계산)
+     */
+    public void onAllRead(Long userId) {
+        AfterCommit.run(() -> {
+            unreadCounts.remove(userId);
+            pushUnreadCount(userId);
+        });
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    private void pushUnreadCount(Long userId) {
+        if (!isOnline(userId)) {
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", "UNREAD_COUNT");
+        payload.put("unreadCount", getUnreadCount(userId));
+        send(userId, payload);
+    }
+
+    private void send(Long userId, Map<String, Object> payload) {
+        try {
+            messagingTemplate.convertAndSendToUser(String.valueOf(userId), DESTINATION, payload);
+            meterRegistry.counter("notification.push", "type", String.valueOf(payload.get("type"))).increment();
+        } catch (Exception e) {
+            // 전송 실패해도 알림은 저장되어 있으므로 REST 조회로 확인 가능
+            log.warn("알림 전송 실패 - userId: {}, {}", userId, e.getMessage());
+        }
+    }
+
+    private boolean isRelayMode() {
+        return "relay".equalsIgnoreCase(brokerMode);
+    }
+
+    /**
+     * 접속 중인지 (릴레이 모드에서는 다른 인스턴스 접속자 포함)
+     */
+    private boolean isOnline(Long userId) {
+        return sessionCounts.containsKey(userId) || simpUserRegistry.getUser(String.valueOf(userId)) != null;
+    }
+
+}
@@ -1,23 +1,38 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.NotificationDto;
 import com.example.backend.entity.*;
 import com.example.backend.repository.NotificationRepository;
-import com.example.backend.repository.UserSettingsRepository;
+import com.example.backend.service.NotificationWriter.PendingNotification;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 생성/조회/읽음 처리
+ * - 알림 생성은 호출한 트랜잭션이 커밋된 뒤 NotificationWriter 큐에 적재 (수신 설정 확인과 INSERT 는 배치로 비동기 처리)
+ * - 새 알림과 읽지 않은 개수 변경은 NotificationPushService 가 WebSocket 으로 전송
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final UserSettingsRepository userSettingsRepository;
+    private final NotificationPushService notificationPushService;
+    private final NotificationWriter notificationWriter;
 
     /**
      * 댓글 알림 생성
      */
-    @Transactional
     public void createCommentNotification(Post post, Comment comment) {
         User postAuthor = post.getUser();
         User commentAuthor = comment.getUser();
@@ -27,32 +42,16 @@ public class NotificationService {
             return;
         }
 
-        // 사용자 알림 설정 확인
-        UserSettings setting = userSettingsRepository.findByUser(postAuthor).orElse(null);
-        if (setting == null || !Boolean.TRUE.equals(setting.getCommentNotification())) {
-            return;
-        }
-
         String content = String.format("%s님이 회원님의 게시글에 댓글을 남겼습니다: \"%s\"",
                 commentAuthor.getNickname(),
                 comment.getContent().length() > 30 ? comment.getContent().substring(0, 30) + "..." : comment.getContent());
 
-        Notification notification = Notification.builder()
-                .user(postAuthor)
-                .notificationType("COMMENT")
-                .content(content)
-                .relatedType("POST")
-                .relatedId(post.getPostId())
-                .isRead(false)
-                .build();
-
-        notificationRepository.save(notification);
+        emit(pending(postAuthor.getUserId(), "COMMENT", content, "POST", post.getPostId()));
     }
 
     /**
      * 대댓글 알림 생성
      */
-    @Transactional
     public void createReplyNotification(Comment parentComment, Comment reply) {
         User commentAuthor = parentComment.getUser();
         User replyAuthor = reply.getUser();
@@ -62,87 +61,154 @@ public class NotificationService {
             return;
         }
 
-        // 사용자 알림 설정 확인
-        UserSettings setting = userSettingsRepository.findByUser(commentAuthor).orElse(null);
-        if (setting == null || !Boolean.TRUE.equals(setting.getReplyNotification())) {
-            return;
-        }
-
         String content = String.format("%s님이 회원님의 댓글에 답글을 남겼습니다: \"%s\"",
                 replyAuthor.getNickname(),
                 reply.getContent().length() > 30 ? reply.getContent().substring(0, 30) + "..." : reply.getContent());
 
         // 대댓글 알림은 POST로 연결 (댓글이 달린 게시글로 이동)
-        Notification notification = Notification.builder()
-                .user(commentAuthor)
-                .notificationType("REPLY")
-                .content(content)
-                .relatedType("POST")
-                .relatedId(parentComment.getPost().getPostId())
-                .isRead(false)
-                .build();
-
-        notificationRepository.save(notification);
+        emit(pending(commentAuthor.getUserId(), "REPLY", content, "POST", parentComment.getPost().getPostId()));
     }
 
     /**
      * 인기글 진입 알림 생성
      */
-    @Transactional
     public void createPopularPostNotification(Post post) {
-        User postAuthor = post.getUser();
-
-        // 사용자 알림 설정 확인
-        UserSettings setting = userSettingsRepository.findByUser(postAuthor).orElse(null);
-        if (setting == null || !Boolean.TRUE.equals(setting.getPopularPostNotification())) {
-            return;
-        }
-
         String content = String.format("회원님의 게시글 \"%s\"이(가) 인기글에 등록되었습니다!",
                 post.getTitle().length() > 30 ? post.getTitle().substring(0, 30) + "..." : post.getTitle());
 
-        Notification notification = Notification.builder()
-                .user(postAuthor)
-                .notificationType("POPULAR_POST")
-                .content(content)
-                .relatedType("POST")
-                .relatedId(post.getPostId())
-                .isRead(false)
-                .build();
-
-        notificationRepository.save(notification);
+        emit(pending(post.getUser().getUserId(), "POPULAR_POST", content, "POST", post.getPostId()));
     }
 
     /**
      * 예측 결과 알림 생성
      */
-    @Transactional
     public void createPredictionResultNotification(Prediction prediction, boolean isCorrect) {
-        User user = prediction.getUser();
+        createPredictionResultNotifications(prediction.getMatch(), Map.of(prediction.getUser().getUserId(), isCorrect));
+    }
+
+    /**
+     * 경기 하나의 예측 결과 알림 일괄 생성 (판정 시 참여자 전체)
+     *
+     * @param resultsByUserId userId → 적중 여부
+     */
+    public void createPredictionResultNotifications(Match match, Map<Long, Boolean> resultsByUserId) {
+        String homeTeam = match.getHomeTeam().getTeamName();
+        String awayTeam = match.getAwayTeam().getTeamName();
+
+        // 예측 결과 알림은 MATCH로 연결 (예측 상세 페이지로 이동)
+        List<PendingNotification> notifications = new ArrayList<>(resultsByUserId.size());
+        resultsByUserId.forEach((userId, isCorrect) -> {
+            String content = String.format("예측하신 경기 \"%s vs %s\"의 결과가 %s했습니다!",
+                    homeTeam, awayTeam, isCorrect ? "적중" : "실패");
+            notifications.add(pending(userId, "PREDICTION_RESULT", content, "MATCH", match.getMatchId()));
+        });
+
+        AfterCommit.run(() -> notificationWriter.enqueueAll(notifications));
+    }
 
-        // 사용자 알림 설정 확인
-        UserSettings setting = userSettingsRepository.findByUser(user).orElse(null);
-        if (setting == null || !setting.getPredictionResultNotification()) {
+    // ========== 조회/읽음 처리 ==========
+
+    /**
+     * 알림 목록 조회 (최신순 페이징)
+     */
+    @Transactional(readOnly = true)
+    public Page<NotificationDto> getNotifications(Long userId, int page, int size) {
+        return notificationRepository.findByUser_UserIdOrderByCreatedAtDesc(userId, PageRequest.of(page, size))
+                .map(this::convertToDto);
+    }
+
+    /**
+     * 읽지 않은 알림 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationDto> getUnreadNotifications(Long userId) {
+        return notificationRepository.findByUser_UserIdAndIsReadFalseOrderByCreatedAtDesc(userId).stream()
+                .map(this::convertToDto)
+                .toList();
+    }
+
+    /**
+     * 읽지 않은 알림 개수 (WebSocket 접속 중이면 메모리 값)
+     */
+    public long getUnreadCount(Long userId) {
+        return notificationPushService.getUnreadCount(userId);
+    }
+
+    /**
+     * 알림 읽음 처리
+     * 조건부 UPDATE 로 실제로 읽음 상태가 바뀐 경우에만 읽지 않은 개수를 줄임
+     */
+    @Transactional
+    public void markAsRead(Long notificationId, Long userId) {
+        if (notificationRepository.markAsRead(notificationId, userId) == 0) {
+            // 이미 읽었거나, 없거나, 다른 사용자의 알림 (없거나 권한이 없으면 예외)
+            getOwnedNotification(notificationId, userId);
             return;
         }
+        notificationPushService.onUnreadRemoved(userId, 1);
+    }
 
-        Match match = prediction.getMatch();
-        String result = isCorrect ? "적중" : "실패";
-        String content = String.format("예측하신 경기 \"%s vs %s\"의 결과가 %s했습니다!",
-                match.getHomeTeam().getTeamName(),
-                match.getAwayTeam().getTeamName(),
-                result);
+    /**
+     * 모든 알림 읽음 처리
+     */
+    @Transactional
+    public void markAllAsRead(Long userId) {
+        notificationRepository.markAllAsRead(userId);
+        notificationPushService.onAllRead(userId);
+    }
 
-        // 예측 결과 알림은 MATCH로 연결 (예측 상세 페이지로 이동)
-        Notification notification = Notification.builder()
-                .user(user)
-                .notificationType("PREDICTION_RESULT")
-                .content(content)
-                .relatedType("MATCH")
-                .relatedId(match.getMatchId())
-                .isRead(false)
-                .build();
-
-        notificationRepository.save(notification);
+    /**
+     * 알림 삭제
+     */
+    @Transactional
+    public void deleteNotification(Long notificationId, Long userId) {
+        Notification notification = getOwnedNotification(notificationId, userId);
+        notificationRepository.delete(notification);
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            notificationPushService.onUnreadRemoved(userId, 1);
+        }
+    }
+
+    public NotificationDto convertToDto(Notification notification) {
+        NotificationDto dto = new NotificationDto();
+        dto.setNotificationId(notification.getNotificationId());
+        dto.setNotificationType(notification.getNotificationType());
+        dto.setContent(notification.getContent());
+        dto.setRelatedType(notification.getRelatedType());
+        dto.setRelatedId(notification.getRelatedId());
+        dto.setIsRead(notification.getIsRead());
+        dto.setCreatedAt(notification.getCreatedAt());
+        return dto;
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    private static PendingNotification pending(Long userId, String notificationType, String content,
+                                               String relatedType, Long relatedId) {
+        return new PendingNotification(userId, notificationType, content, relatedType, relatedId, LocalDateTime.now());
+    }
+
+    /**
+     * 커밋 이후 저장 큐에 적재 (롤백되면 알림 없음)
+     * 수신 설정 확인, 저장, 실시간 전송은 NotificationWriter 가 배치로 처리
+     */
+    private void emit(PendingNotification notification) {
+        AfterCommit.run(() -> {
+            if (!notificationWriter.enqueue(notification)) {
+                log.warn("알림 큐가 가득 차 알림을 버림 - userId: {}, type: {}",
+                        notification.userId(), notification.notificationType());
+            }
+        });
+    }
+
+    private Notification getOwnedNotification(Long notificationId, Long userId) {
+        Notification notification = notificationRepository.findById(notificationId)
+                .orElseThrow(() -> new RuntimeException("알림을 찾을 수 없습니다."));
+
+        // 권한 확인
+        if (!notification.getUser().getUserId().equals(userId)) {
+            throw new RuntimeException("권한이 없습니다.");
+        }
+        return notification;
     }
-}
\ No newline at end of file
+}
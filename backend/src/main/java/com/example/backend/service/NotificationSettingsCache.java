@@ -0,0 +1,106 @@
+package com.example.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 알림 설정 캐시
+ * - userId → 알림 종류별 수신 여부 (설정 행이 없는 사용자는 모두 받지 않음으로 캐시)
+ * - 없는 항목은 user_settings 에서 IN 쿼리 한 번으로 적재 (알림 배치 단위)
+ * - 설정 변경 시 커밋 이후 해당 사용자 항목만 무효화, 다른 인스턴스는 ttl 후 반영
+ */
+@Component
+public class NotificationSettingsCache {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<Long, NotificationSettings> cache;
+
+    public NotificationSettingsCache(JdbcTemplate jdbcTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.notification.settings-cache.max-entries:100000}") long maxEntries,
+                                     @Value("${app.notification.settings-cache.ttl-minutes:10}") long ttlMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "notificationSettings");
+    }
+
+    /**
+     * 알림 종류별 수신 여부
+     */
+    public record NotificationSettings(boolean comment, boolean reply, boolean popularPost, boolean predictionResult) {
+
+        static final NotificationSettings NONE = new NotificationSettings(false, false, false, false);
+
+        public boolean allows(String notificationType) {
+            return switch (notificationType) {
+                case "COMMENT" -> comment;
+                case "REPLY" -> reply;
+                case "POPULAR_POST" -> popularPost;
+                case "PREDICTION_RESULT" -> predictionResult;
+                default -> false;
+            };
+        }
+    }
+
+    /**
+     * 여러 사용자의 설정 (캐시에 없는 사용자만 DB 조회)
+     */
+    public Map<Long, NotificationSettings> getAll(Collection<Long> userIds) {
+        return cache.getAll(userIds, this::load);
+    }
+
+    /**
+     * 설정 변경 시 무효화 (커밋 이후)
+     */
+    public void evict(Long userId) {
+        AfterCommit.run(() -> cache.invalidate(userId));
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    private Map<Long, NotificationSettings> load(Set<? extends Long> userIds) {
+        Map<Long, NotificationSettings> loaded = new HashMap<>();
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size()));
+            jdbcTemplate.query(
+                    "SELECT user_id, comment_notification, reply_notification, popular_post_notification, " +
+                    "prediction_result_notification FROM user_settings " +
+                    "WHERE user_id IN (" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")",
+                    rs -> {
+                        loaded.put(rs.getLong("user_id"), new NotificationSettings(
+                                rs.getBoolean("comment_notification"),
+                                rs.getBoolean("reply_notification"),
+                                rs.getBoolean("popular_post_notification"),
+                                rs.getBoolean("prediction_result_notification")));
+                    },
+                    chunk.toArray());
+        }
+
+        // 설정 행이 없는 사용자는 알림을 받지 않음
+        for (Long userId : userIds) {
+            loaded.putIfAbsent(userId, NotificationSettings.NONE);
+        }
+        return loaded;
+    }
+}
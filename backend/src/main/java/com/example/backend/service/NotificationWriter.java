@@ -0,0 +1,333 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.NotificationDto;
+import com.example.backend.service.NotificationSettingsCache.NotificationSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 비동기 배치 저장기
+ * - NotificationService 가 커밋 이후 넘긴 알림을 고정 크기 큐에 적재
+ * - 전용 스레드가 flushIntervalMs 마다 또는 batchSize 개가 모이면
+ *   1) 수신자 알림 설정을 NotificationSettingsCache 에서 한 번에 확인 (꺼진 알림은 버림)
+ *   2) JDBC 배치 INSERT (생성된 ID 포함, 특정 행 때문에 실패하면 반씩 나눠 다시 저장하고 실패한 행만 버림)
+ *   3) NotificationPushService 로 실시간 전송
+ * - 단건 알림은 큐가 가득 차면 버림, 예측 결과처럼 한꺼번에 넣는 알림은 offer-timeout-ms 까지 대기 후 버림
+ * - 메트릭: notification.writer.queue.depth, notification.writer.flush, notification.writer.persisted,
+ *   notification.writer.skipped, notification.writer.dropped, notification.writer.failed
+ */
+@Slf4j
+@Component
+public class NotificationWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (user_id, notification_type, content, related_type, related_id, is_read, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, false, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationSettingsCache settingsCache;
+    private final NotificationPushService notificationPushService;
+    private final BlockingQueue<PendingNotification> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+
+    private final Timer flushTimer;
+    private final Counter persistedCounter;
+    private final Counter skippedCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public NotificationWriter(JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              NotificationSettingsCache settingsCache,
+                              NotificationPushService notificationPushService,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.notification.writer.capacity:50000}") int capacity,
+                              @Value("${app.notification.writer.batch-size:500}") int batchSize,
+                              @Value("${app.notification.writer.flush-interval-ms:200}") long flushIntervalMs,
+                              @Value("${app.notification.writer.offer-timeout-ms:1000}") long offerTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.settingsCache = settingsCache;
+        this.notificationPushService = notificationPushService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+
+        Gauge.builder("notification.writer.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 알림 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("notification.writer.flush")
+                .description("알림 설정 확인 + 배치 INSERT 소요 시간")
+                .register(meterRegistry);
+        this.persistedCounter = meterRegistry.counter("notification.writer.persisted");
+        this.skippedCounter = meterRegistry.counter("notification.writer.skipped");
+        this.droppedCounter = meterRegistry.counter("notification.writer.dropped");
+        this.failedCounter = meterRegistry.counter("notification.writer.failed");
+    }
+
+    /**
+     * 저장 대기 알림 (수신 여부는 저장 시점에 설정으로 확인)
+     */
+    public record PendingNotification(Long userId, String notificationType, String content,
+                                      String relatedType, Long relatedId, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 저장 큐에 알림 적재 (가득 차면 버림)
+     *
+     * @return 큐가 가득 차서 거부되면 false
+     */
+    public boolean enqueue(PendingNotification notification) {
+        boolean accepted = queue.offer(notification);
+        if (!accepted) {
+            droppedCounter.increment();
+        }
+        return accepted;
+    }
+
+    /**
+     * 여러 알림 적재 (큐가 가득 차면 건마다 offerTimeoutMs 까지 대기)
+     *
+     * @return 적재된 알림 수
+     */
+    public int enqueueAll(List<PendingNotification> notifications) {
+        int accepted = 0;
+        for (PendingNotification notification : notifications) {
+            try {
+                if (queue.offer(notification, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    accepted++;
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            droppedCounter.increment(notifications.size() - accepted);
+            log.warn("알림 큐가 가득 차 {}개 중 {}개 버림", notifications.size(), notifications.size() - accepted);
+            break;
+        }
+        return accepted;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runLoop, "notification-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 서버 종료 시 남은 알림 모두 저장
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+
+        List<PendingNotification> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("서버 종료 - 남은 알림 {}개 저장", remaining.size());
+            for (int from = 0; from < remaining.size(); from += batchSize) {
+                flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+            }
+        }
+    }
+
+    private void runLoop() {
+        List<PendingNotification> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                long deadline = System.currentTimeMillis() + flushIntervalMs;
+                while (batch.size() < batchSize) {
+                    long waitMs = deadline - System.currentTimeMillis();
+                    if (waitMs <= 0) {
+                        break;
+                    }
+                    PendingNotification first = queue.poll(waitMs, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        break;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("알림 저장 루프 오류: {}", e.getMessage(), e);
+            }
+        }
+
+        // 종료 직전까지 모은 알림은 큐로 되돌려 stop()에서 저장
+        batch.forEach(queue::offer);
+    }
+
+    private void flush(List<PendingNotification> batch) {
+        long startedAt = System.nanoTime();
+        List<PendingNotification> allowed;
+        try {
+            allowed = filterBySettings(batch);
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.error("알림 {}개 저장 실패 (설정 조회): {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        List<SavedNotification> saved = new ArrayList<>(allowed.size());
+        if (!allowed.isEmpty()) {
+            insert(allowed, saved);
+        }
+        flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        persistedCounter.increment(saved.size());
+        skippedCounter.increment(batch.size() - allowed.size());
+        failedCounter.increment(allowed.size() - saved.size());
+
+        push(saved);
+    }
+
+    /**
+     * 한 트랜잭션으로 배치 INSERT (실패하면 배치 전체 롤백)
+     * 행 단위 제약 위반이면 (삭제된 사용자 FK 위반 등) 반으로 나눠 다시 시도해 실패한 행만 버림
+     *
+     * @param saved 저장된 알림과 생성된 ID (ID 수가 맞지 않으면 null)
+     */
+    private void insert(List<PendingNotification> batch, List<SavedNotification> saved) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            PendingNotification notification = batch.get(i);
+                            ps.setLong(1, notification.userId());
+                            ps.setString(2, notification.notificationType());
+                            ps.setString(3, notification.content());
+                            ps.setString(4, notification.relatedType());
+                            if (notification.relatedId() != null) {
+                                ps.setLong(5, notification.relatedId());
+                            } else {
+                                ps.setNull(5, Types.BIGINT);
+                            }
+                            ps.setTimestamp(6, Timestamp.valueOf(notification.createdAt()));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    },
+                    keyHolder));
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                log.warn("알림 저장 실패 - 버림 (userId: {}, type: {}): {}",
+                        batch.get(0).userId(), batch.get(0).notificationType(), e.getMostSpecificCause().getMessage());
+                return;
+            }
+            int middle = batch.size() / 2;
+            insert(batch.subList(0, middle), saved);
+            insert(batch.subList(middle, batch.size()), saved);
+            return;
+        } catch (Exception e) {
+            log.error("알림 {}개 저장 실패: {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        // 생성된 ID는 INSERT 순서와 같음
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != batch.size()) {
+            log.warn("생성된 알림 ID 수가 맞지 않음 - 저장: {}개, ID: {}개", batch.size(), keys.size());
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            Long id = keys.size() == batch.size()
+                    ? ((Number) keys.get(i).values().iterator().next()).longValue()
+                    : null;
+            saved.add(new SavedNotification(batch.get(i), id));
+        }
+    }
+
+    /**
+     * 수신자가 해당 종류 알림을 켜 둔 것만 남김
+     */
+    private List<PendingNotification> filterBySettings(List<PendingNotification> batch) {
+        Set<Long> userIds = new HashSet<>();
+        batch.forEach(notification -> userIds.add(notification.userId()));
+        Map<Long, NotificationSettings> settings = settingsCache.getAll(userIds);
+
+        List<PendingNotification> allowed = new ArrayList<>(batch.size());
+        for (PendingNotification notification : batch) {
+            NotificationSettings setting = settings.get(notification.userId());
+            if (setting != null && setting.allows(notification.notificationType())) {
+                allowed.add(notification);
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * 저장된 알림 실시간 전송
+     * ID 없이 보내면 읽음 처리를 할 수 없으므로 ID를 모르는 알림은 REST 조회에 맡김
+     */
+    private void push(List<SavedNotification> saved) {
+        for (SavedNotification entry : saved) {
+            if (entry.notificationId() == null) {
+                continue;
+            }
+            PendingNotification notification = entry.notification();
+            NotificationDto dto = new NotificationDto();
+            dto.setNotificationId(entry.notificationId());
+            dto.setNotificationType(notification.notificationType());
+            dto.setContent(notification.content());
+            dto.setRelatedType(notification.relatedType());
+            dto.setRelatedId(notification.relatedId());
+            dto.setIsRead(false);
+            dto.setCreatedAt(notification.createdAt());
+            notificationPushService.publish(notification.userId(), dto);
+        }
+    }
+
+    private record SavedNotification(PendingNotification notification, Long notificationId) {
+    }
+}
@@ -0,0 +1,337 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.NewsDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 뉴스 랭킹 서비스
+ * - 조회수/좋아요 수와 발행 시각 기준 지수 감쇠(반감기 24시간)로 인기 점수 계산
+ * - 조회/좋아요 이벤트마다 해당 뉴스 점수만 갱신 (종목별 + 전체 정렬 집합 유지)
+ * - 인기 뉴스 위젯은 메모리의 목록 정보로 바로 응답 (뉴스 테이블 조회 없음)
+ * - 1분마다 변경된 정렬 키를 news.popular_score 에 저장
+ * - 뉴스 수집/정리 후와 5분마다 reload 로 news 테이블과 다시 맞춤 (보관 개수 제한으로 수백 건 수준)
+ *   수집/정리는 스케줄링이 켜진 인스턴스에서만 돌기 때문에 다른 인스턴스는 주기 reload 로 따라감
+ *   (저장/reload 는 크롤링 스케줄러(app.scheduling.enabled)와 무관하게 전용 스레드에서 실행)
+ *
+ * 점수 정렬 방식은 TrendingPostService 와 동일:
+ * ln(1 + raw) + publishedAt / τ 로 정렬하면 감쇠 점수 순서와 같아 시간이 지나도 재정렬이 필요 없다.
+ * popular_score 에 저장하는 값도 이 정렬 키이므로 뉴스끼리 순서 비교에만 쓸 수 있다 (감쇠된 점수 아님).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularNewsService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ViewCountService viewCountService;
+
+    // 전체 종목 랭킹 키
+    private static final String ALL_SPORTS = "all";
+
+    // 점수 가중치
+    private static final double LIKE_WEIGHT = 5.0;
+    private static final double VIEW_WEIGHT = 1.0;
+
+    // 반감기 (24시간)
+    private static final double HALF_LIFE_SECONDS = 24 * 60 * 60;
+    private static final double DECAY_TAU = HALF_LIFE_SECONDS / Math.log(2);
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    // 정렬 키 저장 / news 테이블 재동기화 주기
+    private static final long PERSIST_INTERVAL_MS = 60000;
+    private static final long RELOAD_INTERVAL_MS = 300000;
+
+    private static final String SELECT_SQL =
+            "SELECT n.news_id, s.sport_name, s.display_name, n.title, n.content, n.thumbnail_url, n.source_url, " +
+            "n.source_name, n.published_at, n.view_count, n.like_count " +
+            "FROM news n LEFT JOIN sports s ON s.sport_id = n.sport_id";
+
+    private static final Comparator<Rank> RANK_ORDER = Comparator
+            .comparingDouble(Rank::score).reversed()
+            .thenComparing(Comparator.comparingLong(Rank::newsId).reversed());
+
+    // 뉴스 ID → 추적 정보
+    private final Map<Long, TrackedNews> trackedNews = new ConcurrentHashMap<>();
+    // 종목 → 점수 내림차순 정렬 집합
+    private final Map<String, NavigableSet<Rank>> rankings = new ConcurrentHashMap<>();
+    // DB에 저장되지 않은 점수 변경
+    private final Set<Long> dirtyNewsIds = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "popular-news");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::persistScores,
+                PERSIST_INTERVAL_MS, PERSIST_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::reloadQuietly,
+                RELOAD_INTERVAL_MS, RELOAD_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 서버 종료 시 남은 정렬 키 저장
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        persistScores();
+    }
+
+    /**
+     * 서버 시작 시 랭킹 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * news 테이블과 다시 맞춤 (새 뉴스 추적 시작, 삭제된 뉴스 추적 중지)
+     * 이미 추적 중인 뉴스는 조회수를 줄이지 않음
+     */
+    public synchronized void reload() {
+        Set<Long> loadedIds = new HashSet<>();
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            long newsId = rs.getLong("news_id");
+            loadedIds.add(newsId);
+
+            NewsSummary summary = new NewsSummary(
+                    newsId,
+                    rs.getString("sport_name"),
+                    rs.getString("display_name"),
+                    rs.getString("title"),
+                    rs.getString("content"),
+                    rs.getString("thumbnail_url"),
+                    rs.getString("source_url"),
+                    rs.getString("source_name"),
+                    rs.getTimestamp("published_at").toLocalDateTime());
+            long views = rs.getLong("view_count") + viewCountService.getPendingNewsViews(newsId);
+            int likes = rs.getInt("like_count");
+
+            trackedNews.compute(newsId, (id, tracked) -> {
+                if (tracked == null) {
+                    tracked = new TrackedNews(summary);
+                }
+                unrank(tracked);
+                tracked.views = Math.max(tracked.views, views);
+                tracked.likes = likes;
+                rank(tracked);
+                return tracked;
+            });
+        });
+
+        List<Long> removed = trackedNews.keySet().stream()
+                .filter(newsId -> !loadedIds.contains(newsId))
+                .toList();
+        removed.forEach(this::untrack);
+
+        log.info("인기 뉴스 랭킹 갱신 완료: {}개 뉴스 (추적 중지: {}개)", loadedIds.size(), removed.size());
+    }
+
+    // ========== 이벤트 반영 ==========
+
+    /**
+     * 조회 1회 반영
+     */
+    public void onView(Long newsId) {
+        trackedNews.computeIfPresent(newsId, (id, tracked) -> {
+            unrank(tracked);
+            tracked.views++;
+            rank(tracked);
+            return tracked;
+        });
+    }
+
+    /**
+     * 좋아요 수 변경 반영
+     */
+    public void onLikesChanged(Long newsId, Integer likeCount) {
+        trackedNews.computeIfPresent(newsId, (id, tracked) -> {
+            unrank(tracked);
+            tracked.likes = likeCount != null ? likeCount : 0;
+            rank(tracked);
+            return tracked;
+        });
+    }
+
+    /**
+     * 뉴스 추적 중지 (삭제)
+     */
+    public void untrack(Long newsId) {
+        trackedNews.computeIfPresent(newsId, (id, tracked) -> {
+            unrank(tracked);
+            return null;
+        });
+        dirtyNewsIds.remove(newsId);
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 인기 뉴스 상위 k개 (점수 내림차순, isLiked 는 호출하는 쪽에서 설정)
+     *
+     * @param sportName 종목 이름 (null 또는 "all"이면 전체)
+     */
+    public List<NewsDto> getTopNews(String sportName, int limit) {
+        String key = sportName == null || sportName.isEmpty() ? ALL_SPORTS : sportName;
+        NavigableSet<Rank> ranking = rankings.get(key);
+        if (ranking == null) {
+            return List.of();
+        }
+
+        List<NewsDto> result = new ArrayList<>(limit);
+        for (Rank rank : ranking) {
+            if (result.size() >= limit) {
+                break;
+            }
+            TrackedNews tracked = trackedNews.get(rank.newsId());
+            if (tracked != null) {
+                result.add(tracked.toDto());
+            }
+        }
+        return result;
+    }
+
+    // ========== 주기 작업 ==========
+
+    /**
+     * 1분마다 변경된 정렬 키를 DB에 저장 (전용 스레드)
+     */
+    public void persistScores() {
+        if (dirtyNewsIds.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long newsId : dirtyNewsIds) {
+            dirtyNewsIds.remove(newsId);
+            TrackedNews tracked = trackedNews.get(newsId);
+            if (tracked != null) {
+                batchArgs.add(new Object[]{tracked.score, newsId});
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate("UPDATE news SET popular_score = ? WHERE news_id = ?", batchArgs);
+            log.debug("인기 뉴스 점수 저장 완료: {}건", batchArgs.size());
+        } catch (Exception e) {
+            log.error("인기 뉴스 점수 저장 실패 - 다음 주기에 재시도: {}", e.getMessage());
+            batchArgs.forEach(args -> dirtyNewsIds.add((Long) args[1]));
+        }
+    }
+
+    /**
+     * 5분마다 news 테이블과 다시 맞춤 (전용 스레드, 실패해도 다음 주기에 재시도)
+     */
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("인기 뉴스 랭킹 갱신 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    private void rank(TrackedNews tracked) {
+        tracked.score = computeScore(tracked);
+        Rank rank = new Rank(tracked.score, tracked.summary.newsId());
+        rankings.computeIfAbsent(tracked.sportKey(), k -> new ConcurrentSkipListSet<>(RANK_ORDER)).add(rank);
+        rankings.computeIfAbsent(ALL_SPORTS, k -> new ConcurrentSkipListSet<>(RANK_ORDER)).add(rank);
+        dirtyNewsIds.add(tracked.summary.newsId());
+    }
+
+    private void unrank(TrackedNews tracked) {
+        if (tracked.score == null) {
+            return;
+        }
+        Rank rank = new Rank(tracked.score, tracked.summary.newsId());
+        NavigableSet<Rank> sportRanking = rankings.get(tracked.sportKey());
+        if (sportRanking != null) {
+            sportRanking.remove(rank);
+        }
+        NavigableSet<Rank> allRanking = rankings.get(ALL_SPORTS);
+        if (allRanking != null) {
+            allRanking.remove(rank);
+        }
+    }
+
+    private static double computeScore(TrackedNews tracked) {
+        double raw = tracked.likes * LIKE_WEIGHT + tracked.views * VIEW_WEIGHT;
+        long publishedEpochSeconds = tracked.summary.publishedAt().atZone(ZONE).toEpochSecond();
+        return Math.log1p(Math.max(raw, 0)) + publishedEpochSeconds / DECAY_TAU;
+    }
+
+    /**
+     * 목록에 보여줄 뉴스 정보 (수집 후 바뀌지 않는 값)
+     */
+    private record NewsSummary(long newsId, String sportName, String sportDisplayName, String title,
+                               String content, String thumbnailUrl, String sourceUrl, String sourceName,
+                               LocalDateTime publishedAt) {
+    }
+
+    /**
+     * 추적 중인 뉴스 (trackedNews.compute 안에서만 변경)
+     */
+    private static final class TrackedNews {
+        private final NewsSummary summary;
+        private long views;
+        private int likes;
+        private Double score;
+
+        private TrackedNews(NewsSummary summary) {
+            this.summary = summary;
+        }
+
+        private String sportKey() {
+            return summary.sportName() != null ? summary.sportName() : ALL_SPORTS;
+        }
+
+        private NewsDto toDto() {
+            NewsDto dto = new NewsDto();
+            dto.setNewsId(summary.newsId());
+            dto.setSportName(summary.sportName());
+            dto.setSportDisplayName(summary.sportDisplayName());
+            dto.setTitle(summary.title());
+            dto.setContent(summary.content());
+            dto.setThumbnailUrl(summary.thumbnailUrl());
+            dto.setSourceUrl(summary.sourceUrl());
+            dto.setSourceName(summary.sourceName());
+            dto.setPublishedAt(summary.publishedAt());
+            dto.setViewCount((int) views);
+            dto.setLikeCount(likes);
+            dto.setIsLiked(false);
+            return dto;
+        }
+    }
+
+    private record Rank(double score, long newsId) {
+    }
+}
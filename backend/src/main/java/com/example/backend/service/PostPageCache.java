@@ -0,0 +1,141 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.PostDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 앞쪽 페이지 캐시
+ * - 카테고리별 전체글/인기글 첫 N페이지와 주간/월간 베스트를 메모리에 보관
+ * - 크기(최대 항목 수)와 TTL 기반으로 만료
+ * - 게시글 작성/수정/삭제/블라인드/인기글 상태 변경 시 해당 카테고리 항목만 무효화
+ * - 적중률은 /actuator/metrics/cache.gets?tag=cache:boardPages 로 확인
+ */
+@Slf4j
+@Component
+public class PostPageCache {
+
+    // 캐시 키에서 "전체" 카테고리를 나타내는 값
+    public static final String ALL_CATEGORIES = "all";
+
+    private static final String LATEST = "LATEST";
+    private static final String POPULAR = "POPULAR";
+    private static final String WEEKLY_BEST = "WEEKLY_BEST";
+    private static final String MONTHLY_BEST = "MONTHLY_BEST";
+
+    private final Cache<PageKey, CachedPage> cache;
+    private final int cachedPageCount;
+
+    public PostPageCache(MeterRegistry meterRegistry,
+                         @Value("${app.cache.board.max-entries:500}") long maxEntries,
+                         @Value("${app.cache.board.ttl-seconds:30}") long ttlSeconds,
+                         @Value("${app.cache.board.pages:3}") int cachedPageCount) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.cachedPageCount = cachedPageCount;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "boardPages");
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 카테고리별 전체글 페이지 (앞쪽 N페이지만 캐시)
+     */
+    public Page<PostDto> getLatest(String category, Pageable pageable, Supplier<Page<PostDto>> loader) {
+        return getPage(LATEST, category, pageable, loader);
+    }
+
+    /**
+     * 카테고리별 인기글 페이지 (앞쪽 N페이지만 캐시)
+     */
+    public Page<PostDto> getPopular(String category, Pageable pageable, Supplier<Page<PostDto>> loader) {
+        return getPage(POPULAR, category, pageable, loader);
+    }
+
+    /**
+     * 주간 베스트
+     */
+    public List<PostDto> getWeeklyBest(Supplier<List<PostDto>> loader) {
+        return getList(WEEKLY_BEST, loader);
+    }
+
+    /**
+     * 월간 베스트
+     */
+    public List<PostDto> getMonthlyBest(Supplier<List<PostDto>> loader) {
+        return getList(MONTHLY_BEST, loader);
+    }
+
+    private Page<PostDto> getPage(String board, String category, Pageable pageable, Supplier<Page<PostDto>> loader) {
+        if (pageable.isUnpaged() || pageable.getPageNumber() >= cachedPageCount) {
+            return loader.get();
+        }
+
+        PageKey key = new PageKey(board, category, pageable.getPageNumber(), pageable.getPageSize());
+        CachedPage cached = cache.get(key, k -> {
+            Page<PostDto> page = loader.get();
+            return new CachedPage(List.copyOf(page.getContent()), page.getTotalElements());
+        });
+        return new PageImpl<>(cached.content(), pageable, cached.totalElements());
+    }
+
+    private List<PostDto> getList(String board, Supplier<List<PostDto>> loader) {
+        PageKey key = new PageKey(board, ALL_CATEGORIES, 0, 0);
+        return cache.get(key, k -> new CachedPage(List.copyOf(loader.get()), 0)).content();
+    }
+
+    // ========== 무효화 ==========
+
+    /**
+     * 게시글 작성/수정/삭제/블라인드 시 무효화
+     * 해당 카테고리와 전체 목록, 베스트 목록을 비우고 인기글이면 인기글 목록도 비움
+     * (커밋 이후 실행: 커밋 전 재조회로 옛 데이터가 다시 캐시되는 것 방지)
+     */
+    public void evictPost(String category, boolean popular) {
+        AfterCommit.run(() -> {
+            evict(LATEST, category);
+            evict(WEEKLY_BEST, ALL_CATEGORIES);
+            evict(MONTHLY_BEST, ALL_CATEGORIES);
+            if (popular) {
+                evict(POPULAR, category);
+            }
+        });
+    }
+
+    /**
+     * 인기글 상태 변경 시 무효화
+     */
+    public void evictPopular(String category) {
+        AfterCommit.run(() -> evict(POPULAR, category));
+    }
+
+    private void evict(String board, String category) {
+        // 전체 목록은 항상 비움 (category 가 null 이거나 "all" 이면 전체 목록만)
+        Set<String> categories = category == null || ALL_CATEGORIES.equals(category)
+                ? Set.of(ALL_CATEGORIES)
+                : Set.of(category, ALL_CATEGORIES);
+        cache.asMap().keySet().removeIf(key -> key.board().equals(board) && categories.contains(key.category()));
+    }
+
+    private record PageKey(String board, String category, int page, int size) {
+    }
+
+    private record CachedPage(List<PostDto> content, long totalElements) {
+    }
+}
@@ -16,7 +16,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -36,7 +38,8 @@ public class PredictionService {
     private final MmaPredictionRepository mmaPredictionRepository;
     private final MmaPredictionStatisticsRepository mmaPredictionStatisticsRepository;
     private final MmaFightRepository mmaFightRepository;
-    // NotificationService 제거
+    private final ChatIdentityCache chatIdentityCache;
+    private final NotificationService notificationService;
 
     // ========== 예측 경기 목록 (D-7 경기) ==========
 
@@ -656,6 +659,7 @@ public class PredictionService {
         double drawRatio = stats.getTotalVotes() > 0 ? (double) stats.getDrawVotes() / stats.getTotalVotes() : 0.33;
         double awayRatio = stats.getTotalVotes() > 0 ? (double) stats.getAwayVotes() / stats.getTotalVotes() : 0.33;
 
+        Map<Long, Boolean> resultsByUserId = new HashMap<>();
         for (Prediction prediction : predictions) {
             boolean isCorrect = prediction.getPredictedResult().equals(actualResult);
             prediction.setIsCorrect(isCorrect);
@@ -698,8 +702,11 @@ public class PredictionService {
             updateUserTier(user);
             userRepository.save(user);
 
-            // 알림 기능은 나중에 구현 (현재는 주석 처리)
+            resultsByUserId.put(user.getUserId(), isCorrect);
         }
+
+        // 결과 알림은 커밋 이후 알림 저장 큐에 일괄 적재
+        notificationService.createPredictionResultNotifications(match, resultsByUserId);
     }
 
     /**
@@ -827,6 +834,7 @@ public class PredictionService {
      * 티어 점수에 따른 티어 업데이트
      */
     private void updateUserTier(User user) {
+        String previousTier = user.getTier();
         int score = user.getTierScore();
 
         if (score >= 1000) {
@@ -840,6 +848,10 @@ public class PredictionService {
         } else {
             user.setTier("BRONZE");
         }
+
+        if (!user.getTier().equals(previousTier)) {
+            chatIdentityCache.evictUser(user);
+        }
     }
 
     // ========== 랭킹 시스템 ==========
@@ -0,0 +1,332 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.Post;
+import com.example.backend.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트렌딩 게시글 랭킹 서비스
+ * - 최근 게시글의 추천/비추천/댓글/조회수로 hot score 계산
+ * - 작성 시각 기준 지수 감쇠 (반감기 12시간)
+ * - 추천/댓글/조회 이벤트마다 해당 게시글 점수만 갱신 (카테고리별 정렬 집합 유지)
+ * - "지금 뜨는 글" 상위 k개를 O(k)로 조회
+ * - 1분마다 변경된 정렬 키를 posts.hot_score 에 저장, 10분마다 추적 기간이 지난 글 정리
+ *   (크롤링 스케줄러(app.scheduling.enabled)와 무관하게 전용 스레드에서 실행)
+ * - 작성/추천/댓글/삭제 반영은 호출한 트랜잭션이 커밋된 뒤 적용 (롤백되면 랭킹도 그대로)
+ *
+ * 감쇠 점수 (1 + raw) * 2^(-(now - createdAt) / halfLife) 의 로그를 취하면
+ * ln(1 + raw) + createdAt / τ - now / τ 가 되고, now 항은 모든 글에 공통이므로
+ * ln(1 + raw) + createdAt / τ 만으로 정렬해도 순서가 같다.
+ * 따라서 시간이 지나도 재정렬 없이 이벤트가 발생한 글만 갱신하면 된다.
+ * hot_score 에 저장하는 값도 이 정렬 키이므로 글끼리 순서 비교에만 쓸 수 있다 (감쇠된 점수 아님).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingPostService {
+
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 전체 카테고리 랭킹 키
+    private static final String ALL_CATEGORIES = "all";
+
+    // 점수 가중치
+    private static final double LIKE_WEIGHT = 4.0;
+    private static final double DISLIKE_WEIGHT = 2.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double VIEW_WEIGHT = 0.1;
+
+    // 반감기 (12시간)
+    private static final double HALF_LIFE_SECONDS = 12 * 60 * 60;
+    private static final double DECAY_TAU = HALF_LIFE_SECONDS / Math.log(2);
+
+    // 추적 대상 기간 (최근 7일 게시글)
+    private static final int TRACKING_DAYS = 7;
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    // 정렬 키 저장 / 추적 종료 주기
+    private static final long PERSIST_INTERVAL_MS = 60000;
+    private static final long EVICT_INTERVAL_MS = 600000;
+
+    private static final Comparator<Rank> RANK_ORDER = Comparator
+            .comparingDouble(Rank::score).reversed()
+            .thenComparing(Comparator.comparingLong(Rank::postId).reversed());
+
+    // 게시글 ID → 추적 정보
+    private final Map<Long, TrackedPost> trackedPosts = new ConcurrentHashMap<>();
+    // 카테고리 → 점수 내림차순 정렬 집합
+    private final Map<String, NavigableSet<Rank>> rankings = new ConcurrentHashMap<>();
+    // DB에 저장되지 않은 점수 변경
+    private final Set<Long> dirtyPostIds = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "trending-persister");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::persistScores,
+                PERSIST_INTERVAL_MS, PERSIST_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::evictExpired,
+                EVICT_INTERVAL_MS, EVICT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 서버 종료 시 남은 정렬 키 저장
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        persistScores();
+    }
+
+    /**
+     * 서버 시작 시 최근 게시글로 랭킹 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        LocalDateTime since = LocalDateTime.now(ZONE).minusDays(TRACKING_DAYS);
+        List<Post> recentPosts = postRepository.findByCreatedAtAfterAndIsBlindedFalse(since);
+        recentPosts.forEach(this::track);
+        log.info("트렌딩 랭킹 초기화 완료: {}개 게시글", recentPosts.size());
+    }
+
+    // ========== 이벤트 반영 ==========
+
+    /**
+     * 게시글 추적 시작 (작성, 블라인드 해제)
+     * 이미 추적 중이면 최신 카운트로 갱신
+     */
+    public void track(Post post) {
+        if (post.getPostId() == null || post.getCreatedAt() == null) {
+            return;
+        }
+
+        // 엔티티 값은 지금 읽어 두고 커밋 후 반영
+        Long postId = post.getPostId();
+        String category = post.getCategory() != null ? post.getCategory().getCategoryName() : ALL_CATEGORIES;
+        LocalDateTime createdAt = post.getCreatedAt();
+        int likes = valueOf(post.getLikeCount());
+        int dislikes = valueOf(post.getDislikeCount());
+        int comments = valueOf(post.getCommentCount());
+        int views = valueOf(post.getViewCount());
+
+        AfterCommit.run(() -> trackedPosts.compute(postId, (id, tracked) -> {
+            if (tracked == null) {
+                tracked = new TrackedPost(id, category, createdAt);
+            }
+            unrank(tracked);
+            tracked.likes = likes;
+            tracked.dislikes = dislikes;
+            tracked.comments = comments;
+            tracked.views = Math.max(tracked.views, views);
+            rank(tracked);
+            return tracked;
+        }));
+    }
+
+    /**
+     * 추천/비추천/댓글 수 변경 반영
+     * 추적 기간이 지난 게시글은 무시
+     */
+    public void onCountsChanged(Post post) {
+        Long postId = post.getPostId();
+        int likes = valueOf(post.getLikeCount());
+        int dislikes = valueOf(post.getDislikeCount());
+        int comments = valueOf(post.getCommentCount());
+
+        AfterCommit.run(() -> trackedPosts.computeIfPresent(postId, (id, tracked) -> {
+            unrank(tracked);
+            tracked.likes = likes;
+            tracked.dislikes = dislikes;
+            tracked.comments = comments;
+            rank(tracked);
+            return tracked;
+        }));
+    }
+
+    /**
+     * 조회 1회 반영
+     */
+    public void onView(Long postId) {
+        trackedPosts.computeIfPresent(postId, (id, tracked) -> {
+            unrank(tracked);
+            tracked.views++;
+            rank(tracked);
+            return tracked;
+        });
+    }
+
+    /**
+     * 게시글 추적 중지 (삭제, 블라인드)
+     */
+    public void untrack(Long postId) {
+        AfterCommit.run(() -> {
+            trackedPosts.computeIfPresent(postId, (id, tracked) -> {
+                unrank(tracked);
+                return null;
+            });
+            dirtyPostIds.remove(postId);
+        });
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 트렌딩 게시글 ID 상위 k개 (점수 내림차순)
+     *
+     * @param categoryName 카테고리 이름 (null 또는 "all"이면 전체)
+     */
+    public List<Long> getTrendingPostIds(String categoryName, int limit) {
+        String key = categoryName == null || categoryName.isEmpty() ? ALL_CATEGORIES : categoryName;
+        NavigableSet<Rank> ranking = rankings.get(key);
+        if (ranking == null) {
+            return List.of();
+        }
+
+        List<Long> postIds = new ArrayList<>(limit);
+        for (Rank rank : ranking) {
+            if (postIds.size() >= limit) {
+                break;
+            }
+            postIds.add(rank.postId());
+        }
+        return postIds;
+    }
+
+    // ========== 주기 작업 (전용 스레드) ==========
+
+    /**
+     * 1분마다 변경된 정렬 키를 DB에 저장
+     */
+    public void persistScores() {
+        if (dirtyPostIds.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long postId : dirtyPostIds) {
+            dirtyPostIds.remove(postId);
+            TrackedPost tracked = trackedPosts.get(postId);
+            if (tracked != null) {
+                batchArgs.add(new Object[]{tracked.score, postId});
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate("UPDATE posts SET hot_score = ? WHERE post_id = ?", batchArgs);
+            log.debug("트렌딩 점수 저장 완료: {}건", batchArgs.size());
+        } catch (Exception e) {
+            log.error("트렌딩 점수 저장 실패 - 다음 주기에 재시도: {}", e.getMessage());
+            batchArgs.forEach(args -> dirtyPostIds.add((Long) args[1]));
+        }
+    }
+
+    /**
+     * 10분마다 추적 기간이 지난 게시글 정리
+     */
+    public void evictExpired() {
+        LocalDateTime cutoff = LocalDateTime.now(ZONE).minusDays(TRACKING_DAYS);
+        List<Long> expired = trackedPosts.values().stream()
+                .filter(tracked -> tracked.createdAt.isBefore(cutoff))
+                .map(tracked -> tracked.postId)
+                .toList();
+
+        // 마지막 점수는 저장 후 제거
+        persistScores();
+        expired.forEach(this::untrack);
+
+        if (!expired.isEmpty()) {
+            log.info("트렌딩 추적 종료: {}개 게시글 (남은 개수: {})", expired.size(), trackedPosts.size());
+        }
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    private void rank(TrackedPost tracked) {
+        tracked.score = computeScore(tracked);
+        Rank rank = new Rank(tracked.score, tracked.postId);
+        rankings.computeIfAbsent(tracked.category, k -> new ConcurrentSkipListSet<>(RANK_ORDER)).add(rank);
+        rankings.computeIfAbsent(ALL_CATEGORIES, k -> new ConcurrentSkipListSet<>(RANK_ORDER)).add(rank);
+        dirtyPostIds.add(tracked.postId);
+    }
+
+    private void unrank(TrackedPost tracked) {
+        if (tracked.score == null) {
+            return;
+        }
+        Rank rank = new Rank(tracked.score, tracked.postId);
+        NavigableSet<Rank> categoryRanking = rankings.get(tracked.category);
+        if (categoryRanking != null) {
+            categoryRanking.remove(rank);
+        }
+        NavigableSet<Rank> allRanking = rankings.get(ALL_CATEGORIES);
+        if (allRanking != null) {
+            allRanking.remove(rank);
+        }
+    }
+
+    private static double computeScore(TrackedPost tracked) {
+        double raw = tracked.likes * LIKE_WEIGHT
+                - tracked.dislikes * DISLIKE_WEIGHT
+                + tracked.comments * COMMENT_WEIGHT
+                + tracked.views * VIEW_WEIGHT;
+        long createdEpochSeconds = tracked.createdAt.atZone(ZONE).toEpochSecond();
+        return Math.log1p(Math.max(raw, 0)) + createdEpochSeconds / DECAY_TAU;
+    }
+
+    private static int valueOf(Integer count) {
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 추적 중인 게시글 (trackedPosts.compute 안에서만 변경)
+     */
+    private static final class TrackedPost {
+        private final Long postId;
+        private final String category;
+        private final LocalDateTime createdAt;
+        private int likes;
+        private int dislikes;
+        private int comments;
+        private long views;
+        private Double score;
+
+        private TrackedPost(Long postId, String category, LocalDateTime createdAt) {
+            this.postId = postId;
+            this.category = category;
+            this.createdAt = createdAt;
+        }
+    }
+
+    private record Rank(double score, long postId) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.backend.service;
+
+import com.example.backend.repository.UserBlockRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 사용자별 차단 목록 캐시
+ * - 차단한 사용자 ID를 정렬된 long 배열로 보관 (박싱 없음)
+ * - 목록 조회 결과를 후처리로 걸러내는 데 사용 (게시판 쿼리에 NOT IN 서브쿼리 추가 X)
+ * - 차단/차단 해제 시 커밋 이후 해당 사용자 항목만 무효화, 다른 인스턴스는 ttl 후 반영 (쓰기 기준 만료)
+ */
+@Component
+public class UserBlockCache {
+
+    private final UserBlockRepository userBlockRepository;
+    private final Cache<Long, BlockedUsers> cache;
+
+    public UserBlockCache(UserBlockRepository userBlockRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.user-block-cache.ttl-minutes:5}") long ttlMinutes) {
+        this.userBlockRepository = userBlockRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userBlocks");
+    }
+
+    /**
+     * 사용자가 차단한 사용자 목록
+     *
+     * @param viewerId 조회자 ID (비로그인이면 null)
+     */
+    public BlockedUsers getBlockedUsers(Long viewerId) {
+        if (viewerId == null) {
+            return BlockedUsers.NONE;
+        }
+        return cache.get(viewerId, id -> BlockedUsers.of(userBlockRepository.findBlockedUserIdsByBlockerId(id)));
+    }
+
+    /**
+     * 차단/차단 해제 시 무효화 (트랜잭션 커밋 이후)
+     */
+    public void evict(Long blockerId) {
+        AfterCommit.run(() -> cache.invalidate(blockerId));
+    }
+
+    /**
+     * 차단한 사용자 ID 집합 (불변)
+     */
+    public static final class BlockedUsers {
+
+        public static final BlockedUsers NONE = new BlockedUsers(new long[0]);
+
+        private final long[] sortedUserIds;
+
+        private BlockedUsers(long[] sortedUserIds) {
+            this.sortedUserIds = sortedUserIds;
+        }
+
+        static BlockedUsers of(List<Long> userIds) {
+            if (userIds.isEmpty()) {
+                return NONE;
+            }
+            long[] ids = userIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+            return new BlockedUsers(ids);
+        }
+
+        public boolean isEmpty() {
+            return sortedUserIds.length == 0;
+        }
+
+        public int size() {
+            return sortedUserIds.length;
+        }
+
+        public List<Long> toList() {
+            return Arrays.stream(sortedUserIds).boxed().toList();
+        }
+
+        public boolean contains(Long userId) {
+            return userId != null && Arrays.binarySearch(sortedUserIds, userId) >= 0;
+        }
+    }
+}
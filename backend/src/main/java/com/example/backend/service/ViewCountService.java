@@ -0,0 +1,220 @@
+package com.example.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 조회수 버퍼링 서비스
+ * - 게시글/뉴스 조회수를 메모리에 누적 (ID별 merge 로 원자적으로 더하고, 반영 시 remove 로 원자적으로 꺼냄)
+ * - 5초마다 "view_count = view_count + ?" 배치 UPDATE로 DB에 반영
+ * - 크롤링 스케줄러(app.scheduling.enabled)와 무관하게 전용 스레드에서 반영
+ * - 서버 종료 시 남은 조회수를 모두 반영
+ *
+ * 조회수 컬럼은 엔티티에서 updatable = false 이므로 이 서비스만 UPDATE 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String POST_UPDATE_SQL =
+            "UPDATE posts SET view_count = COALESCE(view_count, 0) + ? WHERE post_id = ?";
+    private static final String NEWS_UPDATE_SQL =
+            "UPDATE news SET view_count = COALESCE(view_count, 0) + ? WHERE news_id = ?";
+
+    // DB 반영 주기
+    private static final long FLUSH_INTERVAL_MS = 5000;
+
+    // 중복 조회 방지 시간 (5분)
+    private static final long DEDUP_WINDOW_MINUTES = 5;
+
+    // 아직 DB에 반영되지 않은 조회수 (ID → 증가량)
+    private final Map<Long, Long> pendingPostViews = new ConcurrentHashMap<>();
+    private final Map<Long, Long> pendingNewsViews = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "view-count-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 게시글 중복 조회 방지 (세션 속성 대신 분 단위 버킷 사용)
+    private final ViewDeduplicator postDeduplicator = new ViewDeduplicator(DEDUP_WINDOW_MINUTES);
+
+    /**
+     * 게시글 조회수 증가 요청
+     * 같은 조회자가 5분 이내에 다시 조회한 경우 무시
+     *
+     * @param viewerKey 조회자 식별값 (세션 ID 등)
+     * @return 조회수가 증가했으면 true
+     */
+    public boolean recordPostView(Long postId, String viewerKey) {
+        if (viewerKey != null && !postDeduplicator.markViewed(viewerKey, postId)) {
+            return false;
+        }
+        pendingPostViews.merge(postId, 1L, Long::sum);
+        return true;
+    }
+
+    /**
+     * 뉴스 조회수 증가 요청
+     */
+    public void recordNewsView(Long newsId) {
+        pendingNewsViews.merge(newsId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 게시글 조회수
+     */
+    public long getPendingPostViews(Long postId) {
+        return pendingPostViews.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 뉴스 조회수
+     */
+    public long getPendingNewsViews(Long newsId) {
+        return pendingNewsViews.getOrDefault(newsId, 0L);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 5초마다 누적된 조회수를 DB에 반영
+     */
+    public void flush() {
+        flush(pendingPostViews, POST_UPDATE_SQL, "게시글");
+        flush(pendingNewsViews, NEWS_UPDATE_SQL, "뉴스");
+    }
+
+    /**
+     * 서버 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void drain() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        log.info("서버 종료 - 남은 조회수 반영 (게시글: {}개, 뉴스: {}개)",
+                pendingPostViews.size(), pendingNewsViews.size());
+        flush();
+    }
+
+    private void flush(Map<Long, Long> pending, String sql, String label) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long id : pending.keySet()) {
+            // remove 와 merge 는 같은 키에 대해 원자적이므로 꺼낸 뒤 들어온 조회는 새 항목에 쌓임
+            Long delta = pending.remove(id);
+            if (delta != null && delta > 0) {
+                batchArgs.add(new Object[]{delta, id});
+            }
+        }
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(sql, batchArgs);
+            log.debug("{} 조회수 반영 완료: {}건", label, batchArgs.size());
+        } catch (Exception e) {
+            // 실패한 증가량은 다음 주기에 다시 시도
+            log.error("{} 조회수 반영 실패 - 다음 주기에 재시도: {}", label, e.getMessage());
+            for (Object[] args : batchArgs) {
+                pending.merge((Long) args[1], (Long) args[0], Long::sum);
+            }
+        }
+    }
+
+    /**
+     * 분 단위 버킷 기반 중복 조회 판별기
+     * - (조회자, 대상 ID)를 64비트 지문으로 압축해 현재 분 버킷에 기록
+     * - 최근 windowMinutes 분의 버킷 중 하나에 지문이 있으면 중복으로 판단
+     * - 오래된 버킷은 통째로 교체되므로 별도 정리 작업이 필요 없음
+     */
+    static final class ViewDeduplicator {
+
+        private final long windowMinutes;
+        private final AtomicReferenceArray<Bucket> buckets;
+
+        ViewDeduplicator(long windowMinutes) {
+            this.windowMinutes = windowMinutes;
+            this.buckets = new AtomicReferenceArray<>((int) windowMinutes + 1);
+        }
+
+        /**
+         * 조회 기록
+         *
+         * @return 최근 windowMinutes 분 이내 첫 조회면 true
+         */
+        boolean markViewed(String viewerKey, Long targetId) {
+            long fingerprint = fingerprint(viewerKey, targetId);
+            long currentMinute = System.currentTimeMillis() / 60000;
+
+            for (long minute = currentMinute - windowMinutes; minute < currentMinute; minute++) {
+                Bucket bucket = buckets.get(slot(minute));
+                if (bucket != null && bucket.minute == minute && bucket.fingerprints.contains(fingerprint)) {
+                    return false;
+                }
+            }
+
+            return currentBucket(currentMinute).fingerprints.add(fingerprint);
+        }
+
+        private Bucket currentBucket(long currentMinute) {
+            int slot = slot(currentMinute);
+            while (true) {
+                Bucket bucket = buckets.get(slot);
+                if (bucket != null && bucket.minute == currentMinute) {
+                    return bucket;
+                }
+                Bucket fresh = new Bucket(currentMinute);
+                if (buckets.compareAndSet(slot, bucket, fresh)) {
+                    return fresh;
+                }
+            }
+        }
+
+        private int slot(long minute) {
+            return (int) (minute % buckets.length());
+        }
+
+        private static long fingerprint(String viewerKey, Long targetId) {
+            long h = viewerKey.hashCode() * 0x9E3779B97F4A7C15L + targetId;
+            h ^= (h >>> 33);
+            h *= 0xC4CEB9FE1A85EC53L;
+            return h ^ (h >>> 33);
+        }
+
+        private static final class Bucket {
+            private final long minute;
+            private final Set<Long> fingerprints = ConcurrentHashMap.newKeySet();
+
+            private Bucket(long minute) {
+                this.minute = minute;
+            }
+        }
+    }
+}
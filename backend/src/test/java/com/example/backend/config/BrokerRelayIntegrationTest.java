@@ -0,0 +1,282 @@
+package com.example.backend.config;
+
+import com.example.backend.BackendApplication;
+import com.example.backend.dto.ChatMessageDto;
+import com.example.backend.service.ChatBroadcaster;
+import com.example.backend.service.LiveService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 브로커 릴레이 모드 통합 테스트
+ * - 같은 DB와 외부 STOMP 브로커(ActiveMQ)를 쓰는 서버 인스턴스 2개를 띄움
+ * - 한 인스턴스에서 보낸 채팅 프레임이 두 인스턴스의 구독자 모두에게 전달되는지 확인
+ * - 한 인스턴스에 로그인한 클라이언트의 STOMP SEND 가 다른 인스턴스의 구독자에게 전달되는지 확인
+ * - Docker 가 없으면 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class BrokerRelayIntegrationTest {
+
+    private static final int STOMP_PORT = 61613;
+    private static final String PASSWORD = "relay-test-1234";
+
+    @Container
+    static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Container
+    static final GenericContainer<?> broker = new GenericContainer<>("apache/activemq-classic:5.18.3")
+            .withExposedPorts(STOMP_PORT)
+            .waitingFor(Wait.forListeningPort());
+
+    private static ConfigurableApplicationContext instanceA;
+    private static ConfigurableApplicationContext instanceB;
+
+    private final List<StompSession> sessions = new ArrayList<>();
+
+    @BeforeAll
+    static void startInstances() {
+        // 같은 DB에 동시에 스키마를 만들지 않도록 순서대로 시작
+        instanceA = startInstance();
+        instanceB = startInstance();
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        if (instanceB != null) {
+            instanceB.close();
+        }
+        if (instanceA != null) {
+            instanceA.close();
+        }
+    }
+
+    @AfterEach
+    void disconnect() {
+        sessions.forEach(StompSession::disconnect);
+        sessions.clear();
+    }
+
+    @Test
+    void chatFramePublishedOnOneInstanceReachesSubscribersOnBoth() throws Exception {
+        awaitBrokerAvailable(instanceA);
+        awaitBrokerAvailable(instanceB);
+
+        long chatroomId = 42L;
+        BlockingQueue<String> receivedOnA = subscribe(instanceA, "/topic/chatroom/" + chatroomId);
+        BlockingQueue<String> receivedOnB = subscribe(instanceB, "/topic/chatroom/" + chatroomId);
+
+        ChatBroadcaster broadcasterOnB = instanceB.getBean(ChatBroadcaster.class);
+        String text = "relay-" + UUID.randomUUID();
+
+        assertThat(publishUntilReceived(broadcasterOnB, chatroomId, text, receivedOnA)).isTrue();
+        assertThat(publishUntilReceived(broadcasterOnB, chatroomId, text, receivedOnB)).isTrue();
+    }
+
+    @Test
+    void chatMessageSentByClientOnOneInstanceReachesSubscriberOnOther() throws Exception {
+        awaitBrokerAvailable(instanceA);
+        awaitBrokerAvailable(instanceB);
+
+        long chatroomId = createChatroom(instanceA);
+        BlockingQueue<String> receivedOnB = subscribe(instanceB, "/topic/chatroom/" + chatroomId);
+
+        // 로그인 세션은 인스턴스 메모리에 있으므로 같은 인스턴스(A)로 로그인 후 연결
+        WebSocketHttpHeaders loginHeaders = new WebSocketHttpHeaders();
+        loginHeaders.add(HttpHeaders.COOKIE, signUpAndLogin(instanceA));
+        StompSession sender = connect(instanceA, loginHeaders);
+        String text = "client-" + UUID.randomUUID();
+
+        assertThat(sendUntilReceived(sender, chatroomId, text, receivedOnB)).isTrue();
+    }
+
+    // ========== 내부 헬퍼 ==========
+
+    private static ConfigurableApplicationContext startInstance() {
+        return new SpringApplicationBuilder(BackendApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + mysql.getJdbcUrl(),
+                "--spring.datasource.username=" + mysql.getUsername(),
+                "--spring.datasource.password=" + mysql.getPassword(),
+                "--app.scheduling.enabled=false",
+                "--app.websocket.broker.mode=relay",
+                "--app.websocket.broker.relay-host=" + broker.getHost(),
+                "--app.websocket.broker.relay-port=" + broker.getMappedPort(STOMP_PORT));
+    }
+
+    /**
+     * 릴레이 시스템 세션이 브로커에 연결될 때까지 대기 (시작 후 비동기로 연결)
+     */
+    private static void awaitBrokerAvailable(ConfigurableApplicationContext instance) throws InterruptedException {
+        StompBrokerRelayMessageHandler relay = instance.getBean(StompBrokerRelayMessageHandler.class);
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (!relay.isBrokerAvailable() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(200);
+        }
+        assertThat(relay.isBrokerAvailable()).isTrue();
+    }
+
+    private static int port(ConfigurableApplicationContext instance) {
+        return instance.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    /**
+     * 채팅방 생성 (경기가 있어야 하므로 테스트용 종목/리그/팀/경기를 함께 저장)
+     */
+    private static long createChatroom(ConfigurableApplicationContext instance) {
+        JdbcTemplate jdbcTemplate = instance.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO sports (sport_id, sport_name, display_name) VALUES (900, 'RELAY_TEST', '릴레이')");
+        jdbcTemplate.update("INSERT INTO leagues (league_id, sport_id, league_name) VALUES (900, 900, '릴레이 리그')");
+        jdbcTemplate.update("INSERT INTO teams (team_id, league_id, team_name) VALUES (900, 900, '홈팀'), (901, 900, '원정팀')");
+        jdbcTemplate.update("INSERT INTO matches (match_id, league_id, home_team_id, away_team_id, match_date, status) " +
+                "VALUES (900, 900, 900, 901, NOW(), 'LIVE')");
+        return instance.getBean(LiveService.class).getOrCreateChatroom(900L).getChatroomId();
+    }
+
+    /**
+     * 회원가입 후 로그인하고 세션 쿠키 반환
+     */
+    private static String signUpAndLogin(ConfigurableApplicationContext instance) throws Exception {
+        String baseUrl = "http://localhost:" + port(instance) + "/api/auth";
+        String username = "relay" + UUID.randomUUID().toString().substring(0, 8);
+        HttpClient http = HttpClient.newHttpClient();
+
+        post(http, baseUrl + "/signup", Map.of(
+                "username", username,
+                "password", PASSWORD,
+                "passwordConfirm", PASSWORD,
+                "nickname", username,
+                "email", username + "@example.com"));
+        HttpResponse<String> login = post(http, baseUrl + "/login", Map.of("username", username, "password", PASSWORD));
+
+        return login.headers().firstValue(HttpHeaders.SET_COOKIE)
+                .map(cookie -> cookie.split(";", 2)[0])
+                .orElseThrow();
+    }
+
+    private static HttpResponse<String> post(HttpClient http, String url, Map<String, String> body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(new ObjectMapper().writeValueAsString(body)))
+                .build();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response;
+    }
+
+    private StompSession connect(ConfigurableApplicationContext instance, WebSocketHttpHeaders headers) throws Exception {
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+
+        StompSession session = client.connectAsync("ws://localhost:" + port(instance) + "/ws/websocket", headers,
+                new StompSessionHandlerAdapter() {
+                }).get(10, TimeUnit.SECONDS);
+        sessions.add(session);
+        return session;
+    }
+
+    /**
+     * 구독하고 받은 채팅 메시지 본문을 큐로 반환 (프레임은 메시지 배열)
+     */
+    private BlockingQueue<String> subscribe(ConfigurableApplicationContext instance, String destination) throws Exception {
+        StompSession session = connect(instance, new WebSocketHttpHeaders());
+
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return List.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                for (Object message : (List<?>) payload) {
+                    received.add(String.valueOf(((Map<?, ?>) message).get("message")));
+                }
+            }
+        });
+        return received;
+    }
+
+    /**
+     * 구독이 브로커에 등록되기 전 메시지는 버려지므로 받을 때까지 다시 전송
+     */
+    private static boolean publishUntilReceived(ChatBroadcaster broadcaster, long chatroomId, String text,
+                                                BlockingQueue<String> received) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(15);
+        while (System.currentTimeMillis() < deadline) {
+            broadcaster.publish(chatroomId, chatMessage(chatroomId, text));
+            String message;
+            while ((message = received.poll(500, TimeUnit.MILLISECONDS)) != null) {
+                if (text.equals(message)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 클라이언트 SEND 로 보내고 받을 때까지 다시 전송 (구독 등록 전 메시지는 버려짐, 속도 제한에 걸린 메시지도 버려짐)
+     */
+    private static boolean sendUntilReceived(StompSession sender, long chatroomId, String text,
+                                             BlockingQueue<String> received) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(15);
+        while (System.currentTimeMillis() < deadline) {
+            sender.send("/app/chat/" + chatroomId, Map.of("message", text));
+            String message;
+            while ((message = received.poll(500, TimeUnit.MILLISECONDS)) != null) {
+                if (text.equals(message)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static ChatMessageDto chatMessage(long chatroomId, String text) {
+        ChatMessageDto dto = new ChatMessageDto();
+        dto.setMessageKey(UUID.randomUUID().toString());
+        dto.setChatroomId(chatroomId);
+        dto.setMessageType("USER");
+        dto.setMessage(text);
+        dto.setCreatedAt(LocalDateTime.now());
+        return dto;
+    }
+}
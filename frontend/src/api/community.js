@@ -29,6 +29,14 @@ export const getPopularPosts = async (page = 0, size = 20) => {
   return await apiGet(`/api/community/posts?type=popular&page=${page}&size=${size}`);
 };
 
+/**
+ * 트렌딩 게시글 조회 (시간 감쇠 점수 순)
+ */
+export const getTrendingPosts = async (limit = 10, categoryName = '') => {
+  const categoryParam = categoryName && categoryName !== '전체' ? `&categoryName=${encodeURIComponent(categoryName)}` : '';
+  return await apiGet(`/api/community/posts/trending?limit=${limit}${categoryParam}`);
+};
+
 /**
  * 카테고리별 인기 게시글 조회
  */
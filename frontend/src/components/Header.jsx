@@ -2,6 +2,11 @@ import { useState, useEffect, useRef } from 'react';
 import { Link, useLocation, useNavigate } from 'react-router-dom';
 import { checkAuth, logout as apiLogout } from '../api/auth';
 import mypageApi from '../api/mypageApi';
+import { Client } from '@stomp/stompjs';
+import SockJS from 'sockjs-client';
+
+// 환경변수에서 API Base URL 가져오기
+const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080';
 
 const Header = () => {
     const [isMobileMenuOpen, setIsMobileMenuOpen] = useState(false);
@@ -49,15 +54,62 @@ const Header = () => {
         }
     }, [location, isCheckingAuth]);
 
-    // 알림 개수 로드
+    // 알림 실시간 수신 (WebSocket /user/queue/notifications)
+    // 연결되지 않은 동안에만 30초마다 알림 개수 폴링
+    const username = user?.username;
     useEffect(() => {
-        if (user) {
-            loadUnreadCount();
-            // 30초마다 알림 개수 업데이트
-            const interval = setInterval(loadUnreadCount, 30000);
-            return () => clearInterval(interval);
+        if (!username) {
+            return;
         }
-    }, [user]);
+
+        loadUnreadCount();
+
+        let pollInterval = null;
+        const startPolling = () => {
+            if (!pollInterval) {
+                pollInterval = setInterval(loadUnreadCount, 30000);
+            }
+        };
+        const stopPolling = () => {
+            if (pollInterval) {
+                clearInterval(pollInterval);
+                pollInterval = null;
+            }
+        };
+        startPolling();
+
+        const client = new Client({
+            webSocketFactory: () => new SockJS(`${API_BASE_URL}/ws`),
+            reconnectDelay: 5000,
+            heartbeatIncoming: 10000,
+            heartbeatOutgoing: 10000,
+            onConnect: () => {
+                stopPolling();
+
+                // 새 알림 / 읽지 않은 개수 변경
+                client.subscribe('/user/queue/notifications', (message) => {
+                    const event = JSON.parse(message.body);
+                    setUnreadCount(event.unreadCount);
+                    if (event.type === 'NOTIFICATION') {
+                        setNotifications((prev) => [event.notification, ...prev].slice(0, 5));
+                    }
+                });
+
+                // 연결이 끊긴 동안 바뀐 개수 반영
+                loadUnreadCount();
+            },
+            onWebSocketClose: startPolling,
+            onStompError: (frame) => {
+                console.error('알림 STOMP 에러:', frame);
+            }
+        });
+        client.activate();
+
+        return () => {
+            stopPolling();
+            client.deactivate();
+        };
+    }, [username]);
 
     // 알림 드롭다운 외부 클릭 감지
     useEffect(() => {
@@ -1,6 +1,6 @@
 import { useState, useEffect } from 'react';
 import { Link } from 'react-router-dom';
-import { getPopularPosts } from '../api/community';
+import { getTrendingPosts } from '../api/community';
 import { getPopularNews } from '../api/news';
 import { getTodayTopMatches, getTopPredictedMatch } from '../api/prediction';
 import Navbar from '../components/Navbar';
@@ -41,7 +41,7 @@ const Home = () => {
     useEffect(() => {
         const fetchPopularPosts = async () => {
             try {
-                const data = await getPopularPosts(0, 3); // 3개만 가져오기
+                const data = await getTrendingPosts(3); // 3개만 가져오기
                 console.log('인기 게시글 데이터:', data);
 
                 if (data && data.content) {
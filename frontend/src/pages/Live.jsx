@@ -20,8 +20,11 @@ function Live() {
   const [loading, setLoading] = useState(false);
   const [user, setUser] = useState(null);
   const [currentChatroomId, setCurrentChatroomId] = useState(null);
+  const [viewerCount, setViewerCount] = useState(0);
   const stompClientRef = useRef(null);
   const messagesEndRef = useRef(null);
+  // 내가 차단한 사용자 ID (실시간 메시지 필터용, 이전 메시지는 서버에서 이미 제외)
+  const blockedUserIdsRef = useRef(new Set());
 
   // 시간 포맷 함수 (HH:mm)
   const formatTime = (dateString) => {
@@ -95,6 +98,7 @@ function Live() {
       const data = await response.json();
       const chatroomId = data.chatroomId;
       setCurrentChatroomId(chatroomId);
+      setViewerCount(data.viewerCount || 0);
 
       // 채팅 메시지 조회
       const messagesResponse = await fetch(
@@ -126,8 +130,8 @@ function Live() {
       // WebSocket을 통해 메시지 전송
       client.publish({
         destination: `/app/chat/${currentChatroomId}`,
+        // 보낸 사람은 서버가 로그인 세션으로 식별
         body: JSON.stringify({
-          username: user.username,
           message: newMessage
         })
       });
@@ -189,6 +193,22 @@ function Live() {
 
       fetchInitialMessages();
 
+      // 차단한 사용자 목록
+      const fetchBlockedUserIds = async () => {
+        try {
+          const response = await fetch(
+            `${API_BASE_URL}/api/community/users/me/blocked-ids`,
+            { credentials: 'include' }
+          );
+          const blockedIds = await response.json();
+          blockedUserIdsRef.current = new Set(blockedIds || []);
+        } catch (error) {
+          console.error('차단 목록 조회 실패:', error);
+        }
+      };
+
+      fetchBlockedUserIds();
+
       // WebSocket 연결
       const client = new Client({
         webSocketFactory: () => new SockJS(`${API_BASE_URL}/ws`),
@@ -203,11 +223,28 @@ function Live() {
 
           // 채팅방 구독
           client.subscribe(`/topic/chatroom/${currentChatroomId}`, (message) => {
-            const receivedMessage = JSON.parse(message.body);
-            console.log('메시지 수신:', receivedMessage);
+            const received = JSON.parse(message.body);
+            // 서버는 채팅방별로 모은 메시지를 배열로 전송
+            const receivedMessages = (Array.isArray(received) ? received : [received])
+              .filter((msg) => !blockedUserIdsRef.current.has(msg.userId));
+            if (receivedMessages.length === 0) {
+              return;
+            }
 
             // 새 메시지를 messages 배열에 추가
-            setMessages((prevMessages) => [...prevMessages, receivedMessage]);
+            setMessages((prevMessages) => [...prevMessages, ...receivedMessages]);
+          });
+
+          // 내가 보낸 메시지의 오류 (보낸 세션에만 전달)
+          client.subscribe('/user/queue/chat-errors', (message) => {
+            const error = JSON.parse(message.body);
+            setMessages((prevMessages) => [...prevMessages, error]);
+          });
+
+          // 시청자 수 구독
+          client.subscribe(`/topic/chatroom/${currentChatroomId}/viewers`, (message) => {
+            const { viewerCount } = JSON.parse(message.body);
+            setViewerCount(viewerCount);
           });
         },
         onStompError: (frame) => {
@@ -391,7 +428,10 @@ function Live() {
 
             {/* 우측: 채팅창 */}
             <div className="lg:col-span-2 bg-gray-800/80 backdrop-blur-sm rounded-lg p-6 flex flex-col shadow-xl">
-              <h3 className="text-xl font-bold mb-4">💬 실시간 채팅</h3>
+              <h3 className="text-xl font-bold mb-4">
+                💬 실시간 채팅
+                <span className="ml-2 text-sm font-normal text-gray-400">👀 {viewerCount.toLocaleString()}명 시청 중</span>
+              </h3>
 
               {/* 메시지 목록 */}
               <div className="flex-1 bg-gray-900/50 rounded-lg p-4 mb-4 overflow-y-auto" style={{ maxHeight: '500px' }}>
@@ -403,7 +443,7 @@ function Live() {
                   <>
                     {messages.map((msg) => (
                       <div
-                        key={msg.messageId}
+                        key={msg.messageId ?? msg.messageKey}
                         className={`mb-3 p-3 rounded-lg ${
                           msg.isAdmin
                             ? 'bg-yellow-500/20 border border-yellow-500'
@@ -444,6 +484,7 @@ function Live() {
                   type="text"
                   value={newMessage}
                   onChange={(e) => setNewMessage(e.target.value)}
+                  maxLength={500}
                   onKeyPress={(e) => e.key === 'Enter' && sendMessage()}
                   placeholder="메시지를 입력하세요..."
                   className="flex-1 px-4 py-3 bg-gray-700 text-white rounded-lg border-none focus:ring-2 focus:ring-blue-500"